@@ -3,6 +3,7 @@ package seedu.addressbook.commands;
 import static seedu.addressbook.ui.Gui.DISPLAYED_INDEX_OFFSET;
 
 import java.util.List;
+import java.util.StringJoiner;
 
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.Rms;
@@ -16,6 +17,10 @@ import seedu.addressbook.data.order.ReadOnlyOrder;
  */
 public abstract class Command {
 
+    //@@author agent
+    /** The number of dishes suggested in the hint shown with the draft order. */
+    public static final int DRAFT_ORDER_SUGGESTION_COUNT = 3;
+
     //@@author AngWM
     protected Rms rms;
     //@@author SalsabilTasnia
@@ -94,7 +99,25 @@ public abstract class Command {
      */
     protected String getDraftOrderAsString() {
         final String draftOrder = rms.getDraftOrderAsText();
-        return String.format(Messages.MESSAGE_DRAFT_ORDER_DETAILS, draftOrder);
+        return String.format(Messages.MESSAGE_DRAFT_ORDER_DETAILS, draftOrder) + getDraftOrderSuggestionHint();
+    }
+
+    //@@author agent
+    /**
+     * Returns a line naming the dishes often ordered together with the dishes in the draft order, or an empty
+     * string if there are none.
+     */
+    private String getDraftOrderSuggestionHint() {
+        final List<ReadOnlyMenus> suggestions = rms.suggestDishesFor(rms.getDraftOrder().getDishItems().keySet(),
+                DRAFT_ORDER_SUGGESTION_COUNT);
+        if (suggestions.isEmpty()) {
+            return "";
+        }
+        final StringJoiner names = new StringJoiner(", ");
+        for (ReadOnlyMenus suggestion : suggestions) {
+            names.add(suggestion.getName().toString());
+        }
+        return "\n" + String.format(Messages.MESSAGE_DRAFT_ORDER_SUGGESTIONS, names);
     }
 
     //@@ author
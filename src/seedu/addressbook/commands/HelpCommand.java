@@ -3,6 +3,7 @@ package seedu.addressbook.commands;
 import seedu.addressbook.commands.employee.EmployeeAddCommand;
 import seedu.addressbook.commands.employee.EmployeeListCommand;
 import seedu.addressbook.commands.member.MemberAddCommand;
+import seedu.addressbook.commands.member.MemberFindCommand;
 import seedu.addressbook.commands.member.MemberListCommand;
 import seedu.addressbook.commands.menu.MenuAddCommand;
 import seedu.addressbook.commands.menu.MenuClearCommand;
@@ -17,15 +18,20 @@ import seedu.addressbook.commands.order.DraftOrderConfirmCommand;
 import seedu.addressbook.commands.order.DraftOrderEditCustomerCommand;
 import seedu.addressbook.commands.order.DraftOrderEditDishCommand;
 import seedu.addressbook.commands.order.DraftOrderEditPointsCommand;
+import seedu.addressbook.commands.order.DraftOrderSuggestCommand;
 import seedu.addressbook.commands.order.OrderAddCommand;
 import seedu.addressbook.commands.order.OrderClearCommand;
 import seedu.addressbook.commands.order.OrderDeleteCommand;
 import seedu.addressbook.commands.order.OrderListCommand;
+import seedu.addressbook.commands.statistics.StatsDutyCommand;
 import seedu.addressbook.commands.statistics.StatsEmployeeCommand;
 import seedu.addressbook.commands.statistics.StatsHelpCommand;
+import seedu.addressbook.commands.statistics.StatsHourCommand;
+import seedu.addressbook.commands.statistics.StatsLiveCommand;
 import seedu.addressbook.commands.statistics.StatsMemberCommand;
 import seedu.addressbook.commands.statistics.StatsMenuCommand;
 import seedu.addressbook.commands.statistics.StatsOrderCommand;
+import seedu.addressbook.commands.statistics.StatsVisitsCommand;
 
 
 /**
@@ -46,33 +52,39 @@ public class HelpCommand extends Command {
 
             + "\n\n4. " + MemberListCommand.MESSAGE_USAGE
             + "\n\n5. " + MemberAddCommand.MESSAGE_USAGE
+            + "\n\n6. " + MemberFindCommand.MESSAGE_USAGE
 
-            + "\n\n6. " + MenuAddCommand.MESSAGE_USAGE
-            + "\n\n7. " + MenuDeleteCommand.MESSAGE_USAGE
-            + "\n\n8. " + MenuFindCommand.MESSAGE_USAGE
-            + "\n\n9. " + MenuListCommand.MESSAGE_USAGE
-            + "\n\n10. " + MenuShowMainMenuCommand.MESSAGE_USAGE
-            + "\n\n11. " + MenuListByTypeCommand.MESSAGE_USAGE
-            + "\n\n12. " + MenuRecommendationCommand.MESSAGE_USAGE
-            + "\n\n13. " + MenuClearCommand.MESSAGE_USAGE
+            + "\n\n7. " + MenuAddCommand.MESSAGE_USAGE
+            + "\n\n8. " + MenuDeleteCommand.MESSAGE_USAGE
+            + "\n\n9. " + MenuFindCommand.MESSAGE_USAGE
+            + "\n\n10. " + MenuListCommand.MESSAGE_USAGE
+            + "\n\n11. " + MenuShowMainMenuCommand.MESSAGE_USAGE
+            + "\n\n12. " + MenuListByTypeCommand.MESSAGE_USAGE
+            + "\n\n13. " + MenuRecommendationCommand.MESSAGE_USAGE
+            + "\n\n14. " + MenuClearCommand.MESSAGE_USAGE
 
-            + "\n\n14. " + OrderAddCommand.MESSAGE_USAGE
-            + "\n\n15. " + OrderDeleteCommand.MESSAGE_USAGE
-            + "\n\n16. " + OrderClearCommand.MESSAGE_USAGE
-            + "\n\n17. " + OrderListCommand.MESSAGE_USAGE
-            + "\n\n18. " + DraftOrderEditCustomerCommand.MESSAGE_USAGE
-            + "\n\n19. " + DraftOrderEditDishCommand.MESSAGE_USAGE
-            + "\n\n20. " + DraftOrderEditPointsCommand.MESSAGE_USAGE
-            + "\n\n21. " + DraftOrderClearCommand.MESSAGE_USAGE
-            + "\n\n22. " + DraftOrderConfirmCommand.MESSAGE_USAGE
+            + "\n\n15. " + OrderAddCommand.MESSAGE_USAGE
+            + "\n\n16. " + OrderDeleteCommand.MESSAGE_USAGE
+            + "\n\n17. " + OrderClearCommand.MESSAGE_USAGE
+            + "\n\n18. " + OrderListCommand.MESSAGE_USAGE
+            + "\n\n19. " + DraftOrderEditCustomerCommand.MESSAGE_USAGE
+            + "\n\n20. " + DraftOrderEditDishCommand.MESSAGE_USAGE
+            + "\n\n21. " + DraftOrderEditPointsCommand.MESSAGE_USAGE
+            + "\n\n22. " + DraftOrderSuggestCommand.MESSAGE_USAGE
+            + "\n\n23. " + DraftOrderClearCommand.MESSAGE_USAGE
+            + "\n\n24. " + DraftOrderConfirmCommand.MESSAGE_USAGE
 
-            + "\n\n23. " + StatsHelpCommand.MESSAGE_USAGE
-            + "\n\n24. " + StatsEmployeeCommand.MESSAGE_USAGE
-            + "\n\n25. " + StatsMenuCommand.MESSAGE_USAGE
-            + "\n\n26. " + StatsMemberCommand.MESSAGE_USAGE
-            + "\n\n27. " + StatsOrderCommand.MESSAGE_USAGE
+            + "\n\n25. " + StatsHelpCommand.MESSAGE_USAGE
+            + "\n\n26. " + StatsEmployeeCommand.MESSAGE_USAGE
+            + "\n\n27. " + StatsMenuCommand.MESSAGE_USAGE
+            + "\n\n28. " + StatsMemberCommand.MESSAGE_USAGE
+            + "\n\n29. " + StatsOrderCommand.MESSAGE_USAGE
+            + "\n\n30. " + StatsHourCommand.MESSAGE_USAGE
+            + "\n\n31. " + StatsLiveCommand.MESSAGE_USAGE
+            + "\n\n32. " + StatsVisitsCommand.MESSAGE_USAGE
+            + "\n\n33. " + StatsDutyCommand.MESSAGE_USAGE
 
-            + "\n\n28. " + ExitCommand.MESSAGE_USAGE;
+            + "\n\n34. " + ExitCommand.MESSAGE_USAGE;
 
     @Override
     public CommandResult execute() {
@@ -1,15 +1,12 @@
 package seedu.addressbook.commands.employee;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Set;
-
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.employee.Attendance;
 import seedu.addressbook.data.employee.EmployeeName;
 import seedu.addressbook.data.employee.Timing;
+import seedu.addressbook.data.employee.UniqueAttendanceList.AttendanceNotFoundException;
 
 //@@author kianhong95
 /**
@@ -29,45 +26,24 @@ public class EmployeeClockOutCommand extends Command {
 
     private final String name;
 
-    private SimpleDateFormat dateFormatter = new SimpleDateFormat("dd/MM/yyyy");
-    private SimpleDateFormat timeFormatter = new SimpleDateFormat("HH:mm");
-    private Date date = new Date();
-    private final String currentTime = timeFormatter.format(date);
-    private final String currentDate = dateFormatter.format(date);
-
     public EmployeeClockOutCommand(String name) {
         this.name = name;
     }
 
-    /**
-     * Creates and returns an {@code Attendance} with the details of the current time to clock out.
-     */
-    private Attendance createNewAttendance(Attendance oldAttendance) {
-        String name = oldAttendance.getName();
-        Set<Timing> updatedTimings = oldAttendance.getTimings();
-
-        Timing currentTiming = new Timing(this.currentTime, this.currentDate, false);
-        updatedTimings.add(currentTiming);
-
-        return new Attendance(name, false, updatedTimings);
-    }
-
     @Override
     public CommandResult execute() {
         try {
-            int index = rms.findAttendanceIndex(name);
-
-            Attendance oldAttendance = rms.findAttendance(index);
-            boolean isClockedIn = oldAttendance.getClockedIn();
+            Attendance attendance = rms.findAttendance(name);
+            boolean isClockedIn = attendance.getClockedIn();
             if (!isClockedIn) {
                 return new CommandResult(String.format(MESSAGE_NOT_YET_CLOCKED_IN, name));
             }
 
-            Attendance newAttendance = createNewAttendance(oldAttendance);
-
-            rms.updateAttendance(oldAttendance, newAttendance);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, name, this.currentDate, this.currentTime));
-        } catch (IndexOutOfBoundsException ie) {
+            Timing currentTiming = Timing.now(false);
+            rms.addAttendanceTiming(attendance, currentTiming);
+            return new CommandResult(
+                    String.format(MESSAGE_SUCCESS, name, currentTiming.getDate(), currentTiming.getTime()));
+        } catch (AttendanceNotFoundException anfe) {
             return new CommandResult(Messages.MESSAGE_EMPLOYEE_NOT_IN_RMS);
         }
     }
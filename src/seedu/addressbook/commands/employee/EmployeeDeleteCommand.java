@@ -5,6 +5,7 @@ import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.employee.Attendance;
 import seedu.addressbook.data.employee.ReadOnlyEmployee;
+import seedu.addressbook.data.employee.UniqueAttendanceList.AttendanceNotFoundException;
 import seedu.addressbook.data.employee.UniqueEmployeeList.EmployeeNotFoundException;
 
 //@@author kianhong95
@@ -36,9 +37,12 @@ public class EmployeeDeleteCommand extends Command {
             rms.removeEmployee(target);
 
             String name = target.getName().fullName;
-            int index = rms.findAttendanceIndex(name);
-            Attendance toRemove = rms.findAttendance(index);
-            rms.removeAttendance(toRemove);
+            try {
+                Attendance toRemove = rms.findAttendance(name);
+                rms.removeAttendance(toRemove);
+            } catch (AttendanceNotFoundException anfe) {
+                // the employee has no attendance to remove
+            }
 
             return new CommandResult(String.format(MESSAGE_DELETE_EMPLOYEE_SUCCESS, target));
 
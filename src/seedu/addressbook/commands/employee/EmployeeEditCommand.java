@@ -11,6 +11,7 @@ import seedu.addressbook.data.employee.EmployeeName;
 import seedu.addressbook.data.employee.EmployeePhone;
 import seedu.addressbook.data.employee.EmployeePosition;
 import seedu.addressbook.data.employee.ReadOnlyEmployee;
+import seedu.addressbook.data.employee.UniqueEmployeeList.DuplicateEmployeeException;
 import seedu.addressbook.data.employee.UniqueEmployeeList.EmployeeNotFoundException;
 import seedu.addressbook.data.exception.IllegalValueException;
 
@@ -65,6 +66,8 @@ public class EmployeeEditCommand extends Command {
             return new CommandResult(Messages.MESSAGE_INVALID_EMPLOYEE_DISPLAYED_INDEX);
         } catch (EmployeeNotFoundException enfe) {
             return new CommandResult(Messages.MESSAGE_EMPLOYEE_NOT_IN_RMS);
+        } catch (DuplicateEmployeeException dee) {
+            return new CommandResult(EmployeeAddCommand.MESSAGE_DUPLICATE_EMPLOYEE);
         }
 
     }
@@ -0,0 +1,48 @@
+package seedu.addressbook.commands.member;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.order.DraftOrderEditCustomerCommand;
+import seedu.addressbook.data.member.ReadOnlyMember;
+import seedu.addressbook.data.member.UniqueMemberList;
+
+//@@author agent
+/**
+ * Finds and lists the members whose name words or email start with any of the argument keywords, or are one
+ * typo away from them. Keyword matching is case insensitive. Closer matches are listed first.
+ */
+public class MemberFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "findmember";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Finds at most " + UniqueMemberList.MAX_FIND_RESULTS + " members whose names or emails start with "
+            + "any of the specified keywords (case-insensitive), allowing one typo, "
+            + "and displays them as a list with index numbers for use with "
+            + DraftOrderEditCustomerCommand.COMMAND_WORD + ".\n\t"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n\t"
+            + "Example: " + COMMAND_WORD + " kang";
+
+    private final Set<String> keywords;
+
+    public MemberFindCommand(Set<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns copy of keywords in this command.
+     */
+    public Set<String> getKeywords() {
+        return new HashSet<>(keywords);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyMember> membersFound = rms.findMembers(keywords);
+        return new MemberCommandResult(getMessageForMemberListShownSummary(membersFound), membersFound);
+    }
+}
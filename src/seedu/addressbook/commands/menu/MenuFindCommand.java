@@ -1,6 +1,5 @@
 package seedu.addressbook.commands.menu;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -8,28 +7,51 @@ import java.util.Set;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.tag.Tag;
 
 //@@author SalsabilTasnia
 /**
- * Finds and lists all menu items which name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * Finds and lists all menu items which name contains any of the argument keywords, and which have all the
+ * argument tags. Keyword matching is case insensitive. Menu items matching more keywords are listed first.
  */
 public class MenuFindCommand extends Command {
 
     public static final String COMMAND_WORD = "findmenu";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n" + "Finds all menu items whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n\t"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n\t"
-            + "Example: " + COMMAND_WORD + " coke cheese burger";
+            + "the specified keywords (case-insensitive) and which have all the specified tags, "
+            + "and displays them as a list with index numbers.\n\t"
+            + "Parameters: [KEYWORD]... [t/TAG]...\n\t"
+            + "Example: " + COMMAND_WORD + " coke cheese burger\n\t"
+            + "Example: " + COMMAND_WORD + " burger t/spicy t/vegan";
 
     private final Set<String> keywords;
+    //@@author agent
+    private final Set<Tag> tags;
 
+    //@@author SalsabilTasnia
     public MenuFindCommand(Set<String> keywords) {
         this.keywords = keywords;
+        this.tags = Collections.emptySet();
     }
 
+    //@@author agent
+    /**
+     * Convenience constructor using raw tag names.
+     *
+     * @throws IllegalValueException if any of the tag names are invalid
+     */
+    public MenuFindCommand(Set<String> keywords, Set<String> tags) throws IllegalValueException {
+        this.keywords = keywords;
+        this.tags = new HashSet<>();
+        for (String tagName : tags) {
+            this.tags.add(new Tag(tagName));
+        }
+    }
+
+    //@@author SalsabilTasnia
     /**
      * Returns copy of keywords in this command.
      */
@@ -37,6 +59,15 @@ public class MenuFindCommand extends Command {
         return new HashSet<>(keywords);
     }
 
+    //@@author agent
+    /**
+     * Returns copy of tags in this command.
+     */
+    public Set<Tag> getTags() {
+        return new HashSet<>(tags);
+    }
+
+    //@@author SalsabilTasnia
     @Override
     public CommandResult execute() {
         final List<ReadOnlyMenus> menusFound = getMenuItemsWithNameContainingAnyKeyword(keywords);
@@ -44,20 +75,14 @@ public class MenuFindCommand extends Command {
     }
 
     /**
-     * Retrieve all menu items in the Rms which names contain some of the specified keywords.
+     * Retrieve all menu items in the Rms which names contain some of the specified keywords,
+     * and which have all the specified tags.
      *
      * @param keywords for searching
      * @return list of menu items found
      */
     private List<ReadOnlyMenus> getMenuItemsWithNameContainingAnyKeyword(Set<String> keywords) {
-        final List<ReadOnlyMenus> matchedMenuItems = new ArrayList<>();
-        for (ReadOnlyMenus menu : rms.getAllMenus()) {
-            final Set<String> wordsInName = new HashSet<>(menu.getName().getWordsInName());
-            if (!Collections.disjoint(wordsInName, keywords)) {
-                matchedMenuItems.add(menu);
-            }
-        }
-        return matchedMenuItems;
+        return rms.findMenus(keywords, tags);
     }
 
 }
@@ -1,12 +1,12 @@
 package seedu.addressbook.commands.menu;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.data.menu.ReadOnlyMenus;
 import seedu.addressbook.data.menu.Type;
+import seedu.addressbook.data.menu.Type.Category;
 
 //@@author SalsabilTasnia
 /**
@@ -25,7 +25,6 @@ public class MenuListByTypeCommand extends Command {
              + "Only one type search allowed at a time!";
 
     private final String itemword;
-    private final List<ReadOnlyMenus> matchedFoodItems = new ArrayList<>();
     public MenuListByTypeCommand(String itemword) {
         this.itemword = itemword;
     }
@@ -41,21 +40,15 @@ public class MenuListByTypeCommand extends Command {
      * @return a list of menu items of type, 'itemType'
      */
     private List<ReadOnlyMenus> getFoodItems(String itemType) {
-        for (ReadOnlyMenus menuItem : rms.getAllMenus()) {
-            final String wordsInItemName = menuItem.getType().value;
-            if (wordsInItemName.equals(itemword)) {
-                matchedFoodItems.add(menuItem);
-            }
-        }
-        return matchedFoodItems;
+        return rms.getMenusOfCategory(Category.fromValue(itemType));
     }
 
     @Override
     public CommandResult execute() {
-        final List<ReadOnlyMenus> itemsFound = getFoodItems(itemword);
         if (!Type.isValidTypeName(itemword)) {
             return new MenuCommandResult(MESSAGE_ERROR);
         }
+        final List<ReadOnlyMenus> itemsFound = getFoodItems(itemword);
 
         return new MenuCommandResult(getMessageForMenuListShownSummary(itemsFound), itemsFound);
     }
@@ -6,23 +6,35 @@ import java.util.Map;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.commands.statistics.StatsMenuCommand;
+import seedu.addressbook.data.RmsChange.Target;
+import seedu.addressbook.data.member.ReadOnlyMember;
 import seedu.addressbook.data.menu.ReadOnlyMenus;
-import seedu.addressbook.data.order.ReadOnlyOrder;
+import seedu.addressbook.data.menu.Type.Category;
 
 //@@author SalsabilTasnia
 /**
  * Lists recommended food items in the menu list to the user.
+ * If the draft order has a member as its customer, the items matching what the member has ordered before
+ * are listed instead, so that they can be added to the draft with their index.
  */
 public class MenuRecommendationCommand extends Command {
 
     public static final String COMMAND_WORD = "recommendations";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
-            + "Displays the best seller items as the recommendations of the month.\n\t"
+            + "Displays the best seller items as the recommendations of the month, "
+            + "or the items most like what the customer of the draft order has ordered before "
+            + "if the customer is a member who has made orders.\n\t"
             + "Example: " + COMMAND_WORD;
 
     public static final String MESSAGE_NO_RECOMMENDATION = "There are no recommendation yet.";
 
+    //@@author agent
+    public static final String MESSAGE_MEMBER_RECOMMENDATIONS = "Recommendations for %1$s are:";
+
+    public static final int MAX_MEMBER_RECOMMENDATIONS = 5;
+
+    //@@author SalsabilTasnia
     /**
      * Displays all the best selling items of each category in the menu, if the items in those categories are sold
      * The best selling items are obtained from the statistics that determine the best and worst selling items of
@@ -31,23 +43,31 @@ public class MenuRecommendationCommand extends Command {
      * @return the best selling items of each category
      */
     private String displayRecommendedItems() {
-        List<ReadOnlyMenus> allMenus = rms.getAllMenus().immutableListView();
-        List<ReadOnlyOrder> allOrders = rms.getAllOrders().immutableListView();
-        Map<String, ReadOnlyMenus> map = StatsMenuCommand.getBs(allOrders, allMenus);
+        Map<Category, ReadOnlyMenus> map = StatsMenuCommand.getBs(rms.getMenuSales());
         if (map == null) {
             return MESSAGE_NO_RECOMMENDATION;
         } else {
             final StringBuilder builder = new StringBuilder();
             builder.append("Recommendations of the month are:\n\n");
-            for (Map.Entry<String, ReadOnlyMenus> m: map.entrySet()) {
+            for (Map.Entry<Category, ReadOnlyMenus> m: map.entrySet()) {
                 builder.append(m.getKey()).append(" : \n\t").append(m.getValue()).append("\n\n");
             }
             return builder.toString();
         }
     }
 
+    //@@author agent
     @Override
     public CommandResult execute() {
-        return new MenuCommandResult(displayRecommendedItems());
+        if (rms.getDraftOrder().hasCustomerField()) {
+            final ReadOnlyMember customer = rms.getDraftOrder().getCustomer();
+            final List<ReadOnlyMenus> recommendations = rms.recommendFor(customer, MAX_MEMBER_RECOMMENDATIONS);
+            if (!recommendations.isEmpty()) {
+                return new MenuCommandResult(String.format(MESSAGE_MEMBER_RECOMMENDATIONS, customer.getName()),
+                        recommendations);
+            }
+        }
+        return new MenuCommandResult(rms.getStatsCache().getOrCompute(COMMAND_WORD,
+                rms.getVersions(Target.MENU, Target.ORDER), this::displayRecommendedItems));
     }
 }
@@ -2,6 +2,7 @@ package seedu.addressbook.commands.menu;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.menu.Type.Category;
 
 //@@author SalsabilTasnia
 /**
@@ -14,18 +15,23 @@ public class MenuShowMainMenuCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
             + "Displays all the categories of menu items in the Rms system.\n\t"
             + "Example: " + COMMAND_WORD;
+    /** The main menu, with the number of items of each category in the order of {@link Category#values()}. */
     public static final String MAIN_MENU_DISPLAY = "RMS Main Menu" + "\n"
             + "==================================================================================="
             + "\n\n" + "Item Category:"
-            + "\n\n" + " -Main : key in 'listmenutype main' to view all Main items"
-            + "\n" + " -Sides : key in 'listmenutype sides' to view all Sides"
-            + "\n" + " -Beverages : key in 'listmenutype beverage' to view all Beverage"
-            + "\n" + " -Dessert : key in 'listmenutype dessert' to view all Dessert"
-            + "\n" + " -Others : key in 'listmenutype others' to view all Others"
-            + "\n" + " -Set Meals : key in 'listmenutype set meal' to view all Set Meal";
+            + "\n\n" + " -Main (%1$d) : key in 'listmenutype main' to view all Main items"
+            + "\n" + " -Sides (%2$d) : key in 'listmenutype sides' to view all Sides"
+            + "\n" + " -Beverages (%3$d) : key in 'listmenutype beverage' to view all Beverage"
+            + "\n" + " -Dessert (%4$d) : key in 'listmenutype dessert' to view all Dessert"
+            + "\n" + " -Others (%5$d) : key in 'listmenutype others' to view all Others"
+            + "\n" + " -Set Meals (%6$d) : key in 'listmenutype set meal' to view all Set Meal";
 
     @Override
     public CommandResult execute() {
-        return new MenuCommandResult(MAIN_MENU_DISPLAY);
+        final Object[] counts = new Object[Category.values().length];
+        for (Category category : Category.values()) {
+            counts[category.ordinal()] = rms.countMenusOfCategory(category);
+        }
+        return new MenuCommandResult(String.format(MAIN_MENU_DISPLAY, counts));
     }
 }
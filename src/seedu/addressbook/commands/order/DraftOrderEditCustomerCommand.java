@@ -8,7 +8,8 @@ import seedu.addressbook.data.member.ReadOnlyMember;
 //@@author px1099
 /**
  * Edit the customer field of the draft order.
- * The customer is retrieved with the index of last displayed member list.
+ * The customer is retrieved with the index of last displayed member list, so a cashier can find the member
+ * with {@code findmember} instead of listing all the members.
  */
 public class DraftOrderEditCustomerCommand extends Command {
 
@@ -16,7 +17,8 @@ public class DraftOrderEditCustomerCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
             + "Add a customer to the draft order. "
-            + "The customer is identified using the index from the last shown menu list. \n\t"
+            + "The customer is identified using the index from the last shown member list, "
+            + "e.g. from listmember or findmember. \n\t"
             + "Parameters: INDEX\n\t"
             + "Example: " + COMMAND_WORD + " 1";
 
@@ -0,0 +1,44 @@
+package seedu.addressbook.commands.order;
+
+import java.util.List;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.menu.MenuCommandResult;
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+
+//@@author agent
+/**
+ * Lists the menu items most often ordered together with the dishes in the draft order,
+ * so that they can be added to the draft with their index.
+ */
+public class DraftOrderSuggestCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggestdish";
+
+    public static final int MAX_SUGGESTIONS = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Displays at most " + MAX_SUGGESTIONS + " menu items most often ordered together with the dishes "
+            + "in the draft order as a list with index numbers, for use with "
+            + DraftOrderEditDishCommand.COMMAND_WORD + ".\n\t"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_DISHES = "Add dishes to the draft order to get suggestions.";
+    public static final String MESSAGE_NO_SUGGESTIONS =
+            "No menu item has been ordered together with the dishes in the draft order yet.";
+    public static final String MESSAGE_SUCCESS = "%1$d menu items are often ordered together with the draft order!";
+
+    @Override
+    public CommandResult execute() {
+        if (!rms.getDraftOrder().hasDishItems()) {
+            return new CommandResult(MESSAGE_NO_DISHES);
+        }
+        final List<ReadOnlyMenus> suggestions =
+                rms.suggestDishesFor(rms.getDraftOrder().getDishItems().keySet(), MAX_SUGGESTIONS);
+        if (suggestions.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SUGGESTIONS);
+        }
+        return new MenuCommandResult(String.format(MESSAGE_SUCCESS, suggestions.size()), suggestions);
+    }
+}
@@ -4,11 +4,16 @@ import java.util.List;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.common.Messages;
+import seedu.addressbook.data.member.ReadOnlyMember;
+import seedu.addressbook.data.menu.Price;
+import seedu.addressbook.data.order.MemberOrderHistory;
 import seedu.addressbook.data.order.ReadOnlyOrder;
 
 //@@author px1099
 /**
- * Lists all orders in the order list to the user.
+ * Lists all orders in the order list to the user, or only the orders of a member
+ * identified using the index from the last displayed member list.
  */
 public class OrderListCommand extends Command {
 
@@ -16,12 +21,54 @@ public class OrderListCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
             + "Displays all orders in the order list as a list with index numbers.\n\t"
-            + "Example: " + COMMAND_WORD;
+            + "If a member is given using the index from the last shown member list, "
+            + "displays only the orders of that member, with their visit count and total spending.\n\t"
+            + "Parameters: [m/INDEX]\n\t"
+            + "Example: " + COMMAND_WORD + "\n\t"
+            + "Example: " + COMMAND_WORD + " m/1";
 
+    //@@author agent
+    public static final String MESSAGE_MEMBER_HISTORY = "%1$s has made %2$d orders, spending %3$s in total.";
 
+    private final boolean isFilteredByMember;
+
+    public OrderListCommand() {
+        isFilteredByMember = false;
+    }
+
+    /**
+     * Constructs a command listing only the orders of the member at the given index of the last shown member list.
+     */
+    public OrderListCommand(int targetVisibleMemberIndex) {
+        super(targetVisibleMemberIndex);
+        isFilteredByMember = true;
+    }
+
+    //@@author px1099
     @Override
     public CommandResult execute() {
+        if (isFilteredByMember) {
+            return getMemberOrderHistory();
+        }
         List<ReadOnlyOrder> allOrders = rms.getAllOrders().immutableListView();
         return new OrderCommandResult(getMessageForOrderListShownSummary(allOrders), allOrders);
     }
+
+    //@@author agent
+    /**
+     * Lists the orders of the target member, with the member's visit count and total spending.
+     */
+    private CommandResult getMemberOrderHistory() {
+        try {
+            final ReadOnlyMember target = getTargetMember();
+            final MemberOrderHistory history = rms.getOrderHistoryOf(target);
+            final List<ReadOnlyOrder> memberOrders = history.getOrders();
+            final String message = getMessageForOrderListShownSummary(memberOrders) + "\n"
+                    + String.format(MESSAGE_MEMBER_HISTORY, target.getName(), history.getVisitCount(),
+                    Price.convertPriceToString(history.getLifetimeSpend()));
+            return new OrderCommandResult(message, memberOrders);
+        } catch (IndexOutOfBoundsException ie) {
+            return new CommandResult(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package seedu.addressbook.commands.statistics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.RmsChange.Target;
+import seedu.addressbook.data.employee.Timing;
+import seedu.addressbook.data.statistics.AsciiTable;
+import seedu.addressbook.data.statistics.AttendanceIndex;
+import seedu.addressbook.data.statistics.AttendanceIndex.Shift;
+
+//@@author agent
+/**
+ * Displays the employees who were on duty at a time of a day, with the shifts they were working.
+ * The shifts are found in the interval tree of the attendance index of the Rms, without visiting the attendance
+ * of the employees who were not on duty.
+ * The statistics are cached until the attendance changes.
+ */
+public class StatsDutyCommand extends Command {
+
+    public static final String COMMAND_WORD = "statsduty";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Displays the employees on duty at the time HHMM of the day DDMMYYYY, or of today if no day is given.\n\t"
+            + "Format: " + COMMAND_WORD + " HHMM [DDMMYYYY]\n\t"
+            + "Example: " + COMMAND_WORD + " 1300\n\t"
+            + "         " + COMMAND_WORD + " 1300 01102018";
+
+    public static final String MESSAGE_NO_EMPLOYEE_ON_DUTY = "No employee was on duty at %1$s.";
+    public static final String MESSAGE_ON_DUTY = "Employees on duty at %1$s: %2$d\n";
+
+    private static final DateTimeFormatter HEADING_FORMATTER = DateTimeFormatter.ofPattern("HH:mm dd/MM/yyyy");
+    private static final String ONGOING_SHIFT_END = "-";
+
+    private final LocalTime time;
+    /** The day of the time, or null for the day the command is executed. */
+    private final LocalDate date;
+
+    /**
+     * Constructs the command for the time {@code HHMM} of the day {@code DDMMYYYY}, or of today if the day is null.
+     */
+    public StatsDutyCommand(String time, String date) {
+        this.time = LocalTime.of(Integer.parseInt(time.substring(0, 2)), Integer.parseInt(time.substring(2)));
+        this.date = (date == null) ? null : StatsMenuCommand.stringToDate(date);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final LocalDateTime dateTime = LocalDateTime.of((date == null) ? LocalDate.now() : date, time);
+        return new StatsCommandResult(rms.getStatsCache().getOrCompute(COMMAND_WORD + " " + dateTime,
+                rms.getVersions(Target.ATTENDANCE), () -> getDutyStats(dateTime)));
+    }
+
+    private String getDutyStats(LocalDateTime dateTime) {
+        final String heading = dateTime.format(HEADING_FORMATTER);
+        final long epochSecond = dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+        final List<Shift> shifts = rms.getAttendanceIndex().getShiftsAt(epochSecond);
+        if (shifts.isEmpty()) {
+            return String.format(MESSAGE_NO_EMPLOYEE_ON_DUTY, heading);
+        }
+        shifts.sort(Comparator.comparing(Shift::getEmployeeName));
+        final AsciiTable table = new AsciiTable(new String[]{"Name", "Clocked in", "Clocked out"});
+        for (Shift shift : shifts) {
+            final String end = (shift.getEnd() == AttendanceIndex.ONGOING)
+                    ? ONGOING_SHIFT_END : formatSecond(shift.getEnd());
+            table.addRow(new String[]{shift.getEmployeeName(), formatSecond(shift.getStart()), end});
+        }
+        return String.format(MESSAGE_ON_DUTY, heading, shifts.size()) + table.toString();
+    }
+
+    /**
+     * Formats an epoch second as the date and time of a timing.
+     */
+    private static String formatSecond(long epochSecond) {
+        final Timing timing = new Timing(epochSecond, true);
+        return timing.getDate() + " " + timing.getTime();
+    }
+}
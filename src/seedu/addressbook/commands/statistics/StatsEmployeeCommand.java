@@ -1,19 +1,27 @@
 package seedu.addressbook.commands.statistics;
 
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Set;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.RmsChange.Target;
 import seedu.addressbook.data.employee.Attendance;
 import seedu.addressbook.data.employee.ReadOnlyEmployee;
 import seedu.addressbook.data.employee.Timing;
-import seedu.addressbook.data.employee.UniqueAttendanceList;
+import seedu.addressbook.data.employee.UniqueAttendanceList.AttendanceNotFoundException;
 import seedu.addressbook.data.statistics.AsciiTable;
+import seedu.addressbook.data.statistics.AttendanceIndex;
 
 //@@author AngWM
 /**
- * Lists all employee statistics to the user.
+ * Lists all employee statistics to the user, including the hours each employee worked today, this week and this
+ * month, which are read from the attendance index of the Rms.
+ * The statistics are cached until the employees or their attendance change, or the minute changes.
  */
 public class StatsEmployeeCommand extends Command {
 
@@ -25,15 +33,19 @@ public class StatsEmployeeCommand extends Command {
 
     public static final String MESSAGE_NO_EMPLOYEE = "There are no employees in the system.";
 
+    //@@author agent
     @Override
     public CommandResult execute() {
-        return new StatsCommandResult(getEmployeeOverviewStats());
+        // timings are kept to the minute, so the hours worked up to now only change from one minute to the next
+        final Instant now = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+        return new StatsCommandResult(rms.getStatsCache().getOrCompute(COMMAND_WORD + " " + now,
+                rms.getVersions(Target.EMPLOYEE, Target.ATTENDANCE), () -> getEmployeeOverviewStats(now)));
     }
 
-    private String getEmployeeOverviewStats() {
+    //@@author AngWM
+    private String getEmployeeOverviewStats(Instant now) {
         StringBuilder res = new StringBuilder();
         List<ReadOnlyEmployee> allEmployees = rms.getAllEmployees().immutableListView();
-        UniqueAttendanceList allAttendance = rms.getAllAttendance();
         if (allEmployees.isEmpty()) {
             return MESSAGE_NO_EMPLOYEE;
         }
@@ -45,29 +57,35 @@ public class StatsEmployeeCommand extends Command {
         int count = 0;
         for (ReadOnlyEmployee emp : allEmployees) {
             String name = getEmpName(emp);
-            Attendance attendance = getAttendance(allAttendance, name);
-            Set<Timing> timings = getAttendanceTiming(attendance);
-            Object[] timingArray = timings.toArray();
+            Attendance attendance;
+            try {
+                attendance = rms.findAttendance(name);
+            } catch (AttendanceNotFoundException anfe) {
+                continue;
+            }
+            int timingCount = attendance.getTimingCount();
             int offset = 0;
             if (attendance.getClockedIn()) {
                 offset = 1;
                 String[] data;
-                data = new String[]{name, emp.getPosition().value, ((Timing) timingArray[timingArray.length - 1]).time};
+                data = new String[]{name, emp.getPosition().value, attendance.getTiming(timingCount - 1).getTime()};
                 onDuty.addRow(data);
                 count++;
             }
 
+            // only the most recent timings are shown, so they are read from the end of the timeline
             int j = 0;
-            for (int i = timingArray.length - 1 - offset; i >= 1 && j < 3; i -= 2) {
+            for (int i = timingCount - 1 - offset; i >= 1 && j < 3; i -= 2) {
                 String[] data = new String[]{" ", " ", "  "};
 
                 if (j == 0) {
                     data[0] = emp.getName().fullName;
                     data[1] = emp.getPosition().value;
                 }
-                Timing outTiming = (Timing) timingArray[i];
-                Timing inTiming = (Timing) timingArray[i - 1];
-                data[2] = inTiming.date + " " + inTiming.time + " - " + outTiming.date + " " + outTiming.time;
+                Timing outTiming = attendance.getTiming(i);
+                Timing inTiming = attendance.getTiming(i - 1);
+                data[2] = inTiming.getDate() + " " + inTiming.getTime()
+                        + " - " + outTiming.getDate() + " " + outTiming.getTime();
                 j++;
                 recentAttendance.addRow(data);
             }
@@ -81,21 +99,59 @@ public class StatsEmployeeCommand extends Command {
         res.append("All employees recent attendance\n");
         res.append(recentAttendance.toString());
         res.append("\n\n");
+        res.append("Hours worked\n");
+        res.append(createHoursWorkedTable(allEmployees, now).toString());
+        res.append("\n\n");
 
         return res.toString();
     }
 
-    private String getEmpName(ReadOnlyEmployee emp) {
-        return emp.getName().fullName;
+    //@@author agent
+    /**
+     * Creates a table of the hours each employee with attendance worked today, this week and this month,
+     * up to {@code now}, read from the attendance index of the Rms.
+     */
+    private AsciiTable createHoursWorkedTable(List<ReadOnlyEmployee> employees, Instant now) {
+        final AsciiTable hoursWorked = new AsciiTable(new String[]{"Name", "Today", "This week", "This month"});
+        final AttendanceIndex attendanceIndex = rms.getAttendanceIndex();
+        final LocalDate today = LocalDate.ofInstant(now, ZoneId.systemDefault());
+        final long nowSecond = now.getEpochSecond();
+        final long startOfDay = toEpochSecond(today);
+        final long startOfWeek = toEpochSecond(today.with(DayOfWeek.MONDAY));
+        final long startOfMonth = toEpochSecond(today.withDayOfMonth(1));
+        for (ReadOnlyEmployee emp : employees) {
+            final String name = getEmpName(emp);
+            try {
+                rms.findAttendance(name);
+            } catch (AttendanceNotFoundException anfe) {
+                continue;
+            }
+            hoursWorked.addRow(new String[]{name,
+                formatDuration(attendanceIndex.getSecondsWorked(name, startOfDay, nowSecond)),
+                formatDuration(attendanceIndex.getSecondsWorked(name, startOfWeek, nowSecond)),
+                formatDuration(attendanceIndex.getSecondsWorked(name, startOfMonth, nowSecond))});
+        }
+        return hoursWorked;
+    }
+
+    /**
+     * Returns the epoch second of the start of the date in the system time zone.
+     */
+    private static long toEpochSecond(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
     }
 
-    private Attendance getAttendance(UniqueAttendanceList allAttendance, String name) {
-        int index = allAttendance.getAttendanceIndex(name);
-        return allAttendance.getAttendance(index);
+    /**
+     * Formats a number of seconds as hours and minutes, e.g. {@code 7h 30m}.
+     */
+    static String formatDuration(long seconds) {
+        final long minutes = seconds / 60;
+        return String.format("%dh %02dm", minutes / 60, minutes % 60);
     }
 
-    private Set<Timing> getAttendanceTiming(Attendance attendance) {
-        return attendance.getTimings();
+    //@@author AngWM
+    private String getEmpName(ReadOnlyEmployee emp) {
+        return emp.getName().fullName;
     }
 
     private AsciiTable createOnDutyTable() {
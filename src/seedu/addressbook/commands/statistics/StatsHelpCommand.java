@@ -16,7 +16,11 @@ public class StatsHelpCommand extends Command {
     public static final String MESSAGE_ALL_USAGES = StatsEmployeeCommand.MESSAGE_USAGE
             + "\n" + StatsMenuCommand.MESSAGE_USAGE
             + "\n" + StatsMemberCommand.MESSAGE_USAGE
-            + "\n" + StatsOrderCommand.MESSAGE_USAGE;
+            + "\n" + StatsOrderCommand.MESSAGE_USAGE
+            + "\n" + StatsHourCommand.MESSAGE_USAGE
+            + "\n" + StatsLiveCommand.MESSAGE_USAGE
+            + "\n" + StatsVisitsCommand.MESSAGE_USAGE
+            + "\n" + StatsDutyCommand.MESSAGE_USAGE;
 
     @Override
     public StatsCommandResult execute() {
@@ -0,0 +1,111 @@
+package seedu.addressbook.commands.statistics;
+
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.common.Messages;
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.statistics.AsciiTable;
+import seedu.addressbook.data.statistics.DemandHeatmap;
+
+//@@author agent
+/**
+ * Displays the number of orders made in every hour of every day of the week, or the quantity sold of one menu item,
+ * as a heatmap table. The counts are kept up to date by the Rms, so no order is visited here.
+ */
+public class StatsHourCommand extends Command {
+
+    public static final String COMMAND_WORD = "statshour";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Displays the number of orders in every hour of every day of the week, "
+            + "or the quantity sold of the menu item at the index of the last shown menu list.\n\t"
+            + "Format: " + COMMAND_WORD + " [INDEX]\n\t"
+            + "Example: " + COMMAND_WORD + "\n\t"
+            + "         " + COMMAND_WORD + " 2";
+
+    public static final String MESSAGE_NO_ORDER = "There are no orders in the system.";
+    public static final String MESSAGE_BUSIEST_HOUR = "Busiest hour: %1$s %2$02d:00 - %3$02d:00 with %4$s";
+
+    /** True if the heatmap of a menu item is shown, rather than the heatmap of all orders. */
+    private final boolean isOfMenuItem;
+
+    public StatsHourCommand() {
+        isOfMenuItem = false;
+    }
+
+    public StatsHourCommand(int targetVisibleIndex) {
+        super(targetVisibleIndex);
+        isOfMenuItem = true;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final DemandHeatmap heatmap = rms.getDemandHeatmap();
+        if (heatmap.getOrderCount() == 0) {
+            return new StatsCommandResult(MESSAGE_NO_ORDER);
+        }
+        if (!isOfMenuItem) {
+            return new StatsCommandResult(getHeatmap("Orders by hour\n", heatmap, null));
+        }
+        try {
+            final ReadOnlyMenus target = getTargetMenu();
+            return new StatsCommandResult(getHeatmap(target.getName() + " sold by hour\n", heatmap, target));
+        } catch (IndexOutOfBoundsException ie) {
+            return new StatsCommandResult(Messages.MESSAGE_INVALID_MENU_ITEM_DISPLAYED_INDEX);
+        }
+    }
+
+    /**
+     * Returns the heatmap of the orders, or of the quantity sold of {@code dish} if it is not null,
+     * with a row for every hour and a column for every day of the week, followed by the busiest hour.
+     */
+    private String getHeatmap(String heading, DemandHeatmap heatmap, ReadOnlyMenus dish) {
+        final DayOfWeek[] days = DayOfWeek.values();
+        final String[] headings = new String[days.length + 1];
+        headings[0] = "Hour";
+        for (DayOfWeek day : days) {
+            headings[day.ordinal() + 1] = getShortName(day);
+        }
+        final AsciiTable table = new AsciiTable(headings);
+        DayOfWeek busiestDay = DayOfWeek.MONDAY;
+        int busiestHour = 0;
+        int busiestValue = 0;
+        for (int hour = 0; hour < DemandHeatmap.HOURS_PER_DAY; hour++) {
+            final String[] row = new String[days.length + 1];
+            row[0] = String.format("%02d:00", hour);
+            for (DayOfWeek day : days) {
+                final int value = (dish == null)
+                        ? heatmap.getOrderCount(day, hour)
+                        : heatmap.getQuantitySold(dish, day, hour);
+                row[day.ordinal() + 1] = Integer.toString(value);
+                if (value > busiestValue) {
+                    busiestDay = day;
+                    busiestHour = hour;
+                    busiestValue = value;
+                }
+            }
+            table.addRow(row);
+        }
+
+        final StringBuilder sb = new StringBuilder(heading);
+        sb.append("========================\n");
+        sb.append(table.toString());
+        if (busiestValue > 0) {
+            final String amount = (dish == null)
+                    ? busiestValue + " orders, $" + Utils.formatCurrency(heatmap.getRevenue(busiestDay, busiestHour))
+                    : busiestValue + " sold";
+            final int nextHour = (busiestHour + 1) % DemandHeatmap.HOURS_PER_DAY;
+            sb.append(String.format(MESSAGE_BUSIEST_HOUR, getShortName(busiestDay), busiestHour, nextHour, amount));
+        }
+        return sb.toString();
+    }
+
+    private static String getShortName(DayOfWeek day) {
+        return day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.addressbook.commands.statistics;
+
+import java.time.Instant;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.statistics.AsciiTable;
+import seedu.addressbook.data.statistics.RollingSalesTicker;
+
+//@@author agent
+/**
+ * Displays the number of orders and the revenue of the last 15 and 60 minutes, or of the last given number of
+ * minutes. The totals are read from the sales ticker of the Rms, so no order is visited here.
+ */
+public class StatsLiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "statslive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Displays the number of orders and the revenue of the last 15 and 60 minutes, "
+            + "or of the last MINUTES minutes, up to " + RollingSalesTicker.MAX_WINDOW_MINUTES + ".\n\t"
+            + "Format: " + COMMAND_WORD + " [MINUTES]\n\t"
+            + "Example: " + COMMAND_WORD + "\n\t"
+            + "         " + COMMAND_WORD + " 30";
+
+    public static final String MESSAGE_INVALID_WINDOW = "The number of minutes must be between 1 and "
+            + RollingSalesTicker.MAX_WINDOW_MINUTES + ".";
+
+    /** The windows shown if no number of minutes is given. */
+    private static final int[] DEFAULT_WINDOW_MINUTES = {15, 60};
+
+    private final int[] windowMinutes;
+
+    public StatsLiveCommand() {
+        windowMinutes = DEFAULT_WINDOW_MINUTES;
+    }
+
+    public StatsLiveCommand(int windowMinutes) {
+        this.windowMinutes = new int[]{windowMinutes};
+    }
+
+    @Override
+    public CommandResult execute() {
+        for (int minutes : windowMinutes) {
+            if (minutes < 1 || minutes > RollingSalesTicker.MAX_WINDOW_MINUTES) {
+                return new StatsCommandResult(MESSAGE_INVALID_WINDOW);
+            }
+        }
+        final RollingSalesTicker ticker = rms.getSalesTicker();
+        final Instant now = Instant.now();
+        final AsciiTable table = new AsciiTable(new String[]{"Last", "Number of orders", "Revenue"});
+        for (int minutes : windowMinutes) {
+            table.addRow(new String[]{minutes + " minutes", Integer.toString(ticker.getOrderCount(now, minutes)),
+                "$" + Utils.formatCurrency(ticker.getRevenue(now, minutes))});
+        }
+        return new StatsCommandResult("Live sales as of " + Utils.formatInstant(now) + "\n"
+                + "========================\n" + table.toString());
+    }
+}
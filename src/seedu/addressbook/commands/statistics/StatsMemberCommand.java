@@ -1,18 +1,19 @@
 package seedu.addressbook.commands.statistics;
 
-import java.util.Arrays;
-import java.util.Date;
-import java.util.List;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
-import seedu.addressbook.data.member.ReadOnlyMember;
+import seedu.addressbook.data.RmsChange.Target;
+import seedu.addressbook.data.member.MemberTier.Level;
 import seedu.addressbook.data.statistics.AsciiTable;
-import seedu.addressbook.data.statistics.MemberDateTable;
 
 //@@author AngWM
 /**
- *
+ * Displays the number of members, the number of new members and the number of members of each tier.
+ * The counts are kept up to date by the member list, so no member is visited here.
+ * The statistics are cached until the member list changes or the day changes.
  */
 public class StatsMemberCommand extends Command {
 
@@ -27,56 +28,53 @@ public class StatsMemberCommand extends Command {
 
     @Override
     public CommandResult execute() {
-        return new StatsCommandResult(getOverviewStats());
+        final LocalDate currentDate = LocalDate.now();
+        return new StatsCommandResult(rms.getStatsCache().getOrCompute(COMMAND_WORD + " " + currentDate,
+                rms.getVersions(Target.MEMBER), () -> getOverviewStats(currentDate)));
     }
 
-    private String getOverviewStats() {
+    private String getOverviewStats(LocalDate currentDate) {
         StringBuilder res = new StringBuilder();
-        List<ReadOnlyMember> allMembers = rms.getAllMembers().immutableListView();
-        if (allMembers.isEmpty()) {
+        final int memberCount = rms.countMembers();
+        if (memberCount == 0) {
             return MESSAGE_NO_MEMBERS;
         }
-        MemberDateTable dateTable = new MemberDateTable();
-        int[] tierCount = new int[]{0, 0, 0};
-        for (ReadOnlyMember member : allMembers) {
-            Date signupDate = member.getDate();
-            dateTable.addData(signupDate);
-            String tier = getTier(member);
-            if (tier.equalsIgnoreCase("Bronze")) {
-                tierCount[0]++;
-            } else if (tier.equalsIgnoreCase("Silver")) {
-                tierCount[1]++;
-            } else if (tier.equalsIgnoreCase("Gold")) {
-                tierCount[2]++;
-            }
-        }
-        res.append("Number of members: ").append(allMembers.size()).append("\n\n");
-        res.append("New members this year: ").append(dateTable.getYearCount(new Date())).append("\n\n");
-        res.append("New members this month: ").append(dateTable.getMonthCount(new Date())).append("\n\n");
-        res.append("New members today: ").append(dateTable.getDayCount());
+        res.append("Number of members: ").append(memberCount).append("\n\n");
+        res.append("New members this year: ")
+                .append(rms.countMemberSignups(currentDate, ChronoUnit.YEARS)).append("\n\n");
+        res.append("New members this month: ")
+                .append(rms.countMemberSignups(currentDate, ChronoUnit.MONTHS)).append("\n\n");
+        res.append("New members today: ").append(rms.countMemberSignups(currentDate, ChronoUnit.DAYS));
         res.append("\n\n\n");
 
         res.append("Tier Table\n");
         AsciiTable table = createTierTable();
-        String[] values = convertIntArrToStrArr(tierCount);
-        table.addRow(values);
+        table.addRow(getTierCounts());
         res.append(table.toString());
 
         return res.toString();
     }
 
+    /**
+     * Creates a table with a column for each tier level, from the lowest to the highest.
+     */
     private AsciiTable createTierTable() {
-        String[] headings = new String[]{"Bronze", "Silver", "Gold"};
+        final Level[] levels = Level.values();
+        final String[] headings = new String[levels.length];
+        for (Level level : levels) {
+            headings[level.ordinal()] = level.toString();
+        }
         return new AsciiTable(headings);
     }
 
-    private String[] convertIntArrToStrArr(int[] in) {
-        String listString = Arrays.toString(in);
-        return listString.replaceAll("[\\[\\]]", "").split("\\s*,\\s*");
-    }
-
-    private String getTier(ReadOnlyMember member) {
-        return member.getMemberTier().toString();
+    //@@author agent
+    private String[] getTierCounts() {
+        final Level[] levels = Level.values();
+        final String[] counts = new String[levels.length];
+        for (Level level : levels) {
+            counts[level.ordinal()] = String.valueOf(rms.countMembersOfTier(level));
+        }
+        return counts;
     }
 
 }
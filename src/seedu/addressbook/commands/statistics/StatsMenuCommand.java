@@ -1,26 +1,25 @@
 package seedu.addressbook.commands.statistics;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.RmsChange.Target;
 import seedu.addressbook.data.menu.ReadOnlyMenus;
-import seedu.addressbook.data.order.ReadOnlyOrder;
+import seedu.addressbook.data.menu.Type.Category;
 import seedu.addressbook.data.statistics.AsciiTable;
-import seedu.addressbook.data.statistics.QuantityRevenuePair;
+import seedu.addressbook.data.statistics.MenuSalesTable;
 
 //@@author AngWM
 /**
  * Lists all menu statistics in the Rms to the user.
+ * The statistics of each date range are cached until the menu or the order list changes.
+ * The sales within a date range are summed from the sales cube of the Rms, without visiting the orders.
  */
 public class StatsMenuCommand extends Command {
 
@@ -35,25 +34,32 @@ public class StatsMenuCommand extends Command {
 
     public static final String MESSAGE_NO_ORDER = "There are no orders in the system to calculate menu stats.";
 
-    private Date dateFrom;
-    private Date dateTo;
+    //@@author agent
+    /** Items selling fewer than this quantity can be listed as unpopular. */
+    private static final int UNPOPULAR_QUANTITY = 100;
+
+    private static final DateTimeFormatter HEADING_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
+    //@@author AngWM
+    /** The first and last days of the orders counted, or null if that end of the range is open. */
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
     private String heading;
 
+    /**
+     * Constructs the command for the orders made from the start of {@code dateFrom} until the end of
+     * {@code dateTo}. A null date leaves that end of the range open.
+     */
     public StatsMenuCommand(String dateFrom, String dateTo) {
-        DateFormat dateFormat = new SimpleDateFormat("dd MMM yyyy");
         StringBuilder sb = new StringBuilder();
         sb.append("Displaying menu statistics ");
         if (dateFrom != null) {
             this.dateFrom = stringToDate(dateFrom);
-            sb.append("from ").append(dateFormat.format(this.dateFrom)).append(" ");
-        } else {
-            this.dateFrom = new Date(0);
+            sb.append("from ").append(this.dateFrom.format(HEADING_DATE_FORMATTER)).append(" ");
         }
         if (dateTo != null) {
             this.dateTo = stringToDate(dateTo);
-            sb.append("until ").append(dateFormat.format(this.dateTo));
-        } else {
-            this.dateTo = new Date();
+            sb.append("until ").append(this.dateTo.format(HEADING_DATE_FORMATTER));
         }
         sb.append("\n================\n\n");
         this.heading = sb.toString();
@@ -61,90 +67,74 @@ public class StatsMenuCommand extends Command {
 
     @Override
     public CommandResult execute() {
-        if (getMenuStats().equalsIgnoreCase(MESSAGE_NO_ORDER)) {
+        final String menuStats = rms.getStatsCache().getOrCompute(COMMAND_WORD + " " + dateFrom + " " + dateTo,
+                rms.getVersions(Target.MENU, Target.ORDER), this::getMenuStats);
+        if (menuStats.equalsIgnoreCase(MESSAGE_NO_ORDER)) {
             return new StatsCommandResult(MESSAGE_NO_ORDER);
         } else {
-            return new StatsCommandResult(heading + getMenuStats());
+            return new StatsCommandResult(heading + menuStats);
         }
     }
 
     private String getMenuStats() {
         StringBuilder sb = new StringBuilder();
-        List<ReadOnlyOrder> allOrders = rms.getAllOrders().immutableListView();
-        if (allOrders.isEmpty()) {
+        if (rms.getMenuSales().getOrderCount() == 0) {
             return MESSAGE_NO_ORDER;
         }
-        List<ReadOnlyMenus> allMenu = rms.getAllMenus().immutableListView();
-        Map<ReadOnlyMenus, QuantityRevenuePair> allMenuSales = new TreeMap<>();
-        Map<String, ReadOnlyMenus> bestsellers = new HashMap<>();
-        Map<String, ReadOnlyMenus> worstsellers = new HashMap<>();
-
-        // For every menu in every order, add the menu and quantity sold into allMenuSales
-        for (ReadOnlyOrder order : allOrders) {
-            Date orderDate = order.getDate();
-            if (orderDate.compareTo(dateFrom) < 0 || orderDate.compareTo(dateTo) > 0) {
-                continue;
-            }
-            Map<ReadOnlyMenus, Integer> dishItems = order.getDishItems();
-            // ==========================================
-            for (Map.Entry<ReadOnlyMenus, Integer> entry : dishItems.entrySet()) {
-                if (!allMenuSales.containsKey(entry.getKey())) {
-                    allMenuSales.put(entry.getKey(),
-                            new QuantityRevenuePair(entry.getValue(),
-                                    entry.getKey().getPrice().convertValueOfPriceToDouble()));
-                } else {
-                    allMenuSales.put(entry.getKey(),
-                            allMenuSales.get(entry.getKey()).addData(entry.getValue(),
-                                    entry.getKey().getPrice().convertValueOfPriceToDouble()));
-                }
-            }
-        }
-
-        // Check for menu items with no sales and insert into allMenuSales
-        for (ReadOnlyMenus menu: allMenu) {
-            if (!allMenuSales.containsKey(menu)) {
-                allMenuSales.put(menu, new QuantityRevenuePair());
-            }
-        }
+        final MenuSalesTable menuSales = isOverAllOrders() ? rms.getMenuSales() : getMenuSalesInRange();
+        // the best and worst sellers of each category, indexed by the ordinal of the category
+        ReadOnlyMenus[] bestsellers = new ReadOnlyMenus[Category.values().length];
+        ReadOnlyMenus[] worstsellers = new ReadOnlyMenus[Category.values().length];
 
-        // Sort allMenuSales by quantity sold
-        List<Map.Entry<ReadOnlyMenus, QuantityRevenuePair>> sortedMenu = Utils.sortByValue(allMenuSales);
-        for (int i = sortedMenu.size() - 1; i >= 0; i--) {
-            ReadOnlyMenus menu = sortedMenu.get(i).getKey();
-            int quantity = sortedMenu.get(i).getValue().getQuantity();
+        for (ReadOnlyMenus menu : menuSales.getMenusByQuantitySold()) {
             sb.append(menu.getName());
-            sb.append(" sold ").append(quantity).append("\n");
-
-            // Replace with menu.type during merge
-            String type = menu.getType().value;
-            // ==========================================
-            if (!bestsellers.containsKey(type) && quantity > 0) {
-                bestsellers.put(type, menu);
-            } else if (quantity < 100) {
-                worstsellers.put(type, menu);
-            }
+            sb.append(" sold ").append(menuSales.getQuantitySold(menu)).append("\n");
+        }
+        for (Category category : Category.values()) {
+            List<ReadOnlyMenus> bestseller = menuSales.getBestSellers(category, 1);
+            bestsellers[category.ordinal()] = bestseller.isEmpty() ? null : bestseller.get(0);
+            worstsellers[category.ordinal()] = menuSales.getWorstSeller(category, UNPOPULAR_QUANTITY);
         }
 
         sb.append("\n\nBest Sellers\n");
-        sb.append(toTable(bestsellers, allMenuSales));
+        sb.append(toTable(bestsellers, menuSales));
 
         sb.append("Unpopular Items\n");
-        sb.append(toTable(worstsellers, allMenuSales));
+        sb.append(toTable(worstsellers, menuSales));
 
         return sb.toString();
     }
 
+    //@@author agent
+    private boolean isOverAllOrders() {
+        return dateFrom == null && dateTo == null;
+    }
+
+    /**
+     * Returns the sales of the menu items over the orders made within the date range of this command.
+     */
+    private MenuSalesTable getMenuSalesInRange() {
+        final LocalDate from = (dateFrom == null) ? LocalDate.MIN : dateFrom;
+        final LocalDate to = (dateTo == null) ? LocalDate.MAX : dateTo;
+        return rms.getSalesCube().getMenuSales(from, to, rms.getAllMenus());
+    }
+
+    //@@author AngWM
     /**
      * Parse the data into a table and return the table as a String
      */
-    private String toTable(Map<String, ReadOnlyMenus> in, Map<ReadOnlyMenus, QuantityRevenuePair> allMenuSales) {
+    private String toTable(ReadOnlyMenus[] in, MenuSalesTable menuSales) {
         String[] tableHeadings = {"Type", "Name", "Quantity Sold", "Sales Revenue"};
         AsciiTable table = new AsciiTable(tableHeadings);
-        for (Map.Entry<String, ReadOnlyMenus> worstEntry : in.entrySet()) {
-            String type = worstEntry.getKey();
-            String menuName = worstEntry.getValue().getName().toString();
-            int quantity = allMenuSales.get(worstEntry.getValue()).getQuantity();
-            String revenue = Utils.formatCurrency(allMenuSales.get(worstEntry.getValue()).getRevenue());
+        for (Category category : Category.values()) {
+            ReadOnlyMenus menu = in[category.ordinal()];
+            if (menu == null) {
+                continue;
+            }
+            String type = category.toString();
+            String menuName = menu.getName().toString();
+            int quantity = menuSales.getQuantitySold(menu);
+            String revenue = Utils.formatCurrency(menuSales.getRevenue(menu));
             String[] rowData = {type, menuName, Integer.toString(quantity), "$" + revenue};
             table.addRow(rowData);
         }
@@ -152,62 +142,28 @@ public class StatsMenuCommand extends Command {
     }
 
     /**
-     * Convert a date String into a Date object
+     * Convert a DDMMYYYY date String into a LocalDate object.
+     * A day past the end of the month rolls over into the next month.
      */
-    private Date stringToDate(String input) {
-        Calendar calendar = new GregorianCalendar();
-        calendar.set(Integer.parseInt(input.substring(4)),
-                Integer.parseInt(input.substring(2, 4)) - 1,
-                Integer.parseInt(input.substring(0, 2)));
-        return calendar.getTime();
+    static LocalDate stringToDate(String input) {
+        return LocalDate.of(Integer.parseInt(input.substring(4)), Integer.parseInt(input.substring(2, 4)), 1)
+                .plusDays(Integer.parseInt(input.substring(0, 2)) - 1);
     }
 
-    public static Map<String, ReadOnlyMenus> getBs(List<ReadOnlyOrder> allOrders, List<ReadOnlyMenus> allMenu) {
-        if (allOrders.isEmpty()) {
+    /**
+     * Returns the best seller of each category which has sold items, or null if there are no orders.
+     */
+    public static Map<Category, ReadOnlyMenus> getBs(MenuSalesTable menuSales) {
+        if (menuSales.getOrderCount() == 0) {
             return null;
         }
-        Map<ReadOnlyMenus, QuantityRevenuePair> allMenuSales = new TreeMap<>();
-        Map<String, ReadOnlyMenus> bestsellers = new HashMap<>();
-
-        // For every menu in every order, add the menu and quantity sold into allMenuSales
-        for (ReadOnlyOrder order : allOrders) {
-            Map<ReadOnlyMenus, Integer> dishItems = order.getDishItems();
-            // ==========================================
-            for (Map.Entry<ReadOnlyMenus, Integer> entry : dishItems.entrySet()) {
-                if (!allMenuSales.containsKey(entry.getKey())) {
-                    int quantity = entry.getValue();
-                    double revenue = entry.getKey().getPrice().convertValueOfPriceToDouble();
-                    QuantityRevenuePair qr = new QuantityRevenuePair(quantity, revenue);
-                    allMenuSales.put(entry.getKey(), qr);
-                } else {
-                    int quantity = entry.getValue();
-                    double revenue = entry.getKey().getPrice().convertValueOfPriceToDouble();
-                    QuantityRevenuePair qr = allMenuSales.get(entry.getKey());
-                    qr.addData(quantity, revenue);
-                    allMenuSales.put(entry.getKey(), qr);
-                }
-            }
-        }
-
-        // Check for menu items with no sales and insert into allMenuSales
-        for (ReadOnlyMenus menu: allMenu) {
-            if (!allMenuSales.containsKey(menu)) {
-                allMenuSales.put(menu, new QuantityRevenuePair());
-            }
-        }
-
-        // Sort allMenuSales by quantity sold
-        List<Map.Entry<ReadOnlyMenus, QuantityRevenuePair>> sortedMenu = Utils.sortByValue(allMenuSales);
-        for (int i = sortedMenu.size() - 1; i >= 0; i--) {
-            ReadOnlyMenus menu = sortedMenu.get(i).getKey();
-            int quantity = sortedMenu.get(i).getValue().getQuantity();
-            String type = menu.getType().value;
-            // ==========================================
-            if (!bestsellers.containsKey(type) && quantity > 0) {
-                bestsellers.put(type, menu);
+        Map<Category, ReadOnlyMenus> bestsellers = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            List<ReadOnlyMenus> bestseller = menuSales.getBestSellers(category, 1);
+            if (!bestseller.isEmpty()) {
+                bestsellers.put(category, bestseller.get(0));
             }
         }
-
         return bestsellers;
     }
 }
@@ -1,80 +1,260 @@
 package seedu.addressbook.commands.statistics;
 
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
-import java.util.List;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.function.BiFunction;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.common.Utils;
-import seedu.addressbook.data.order.ReadOnlyOrder;
+import seedu.addressbook.data.RmsChange.Target;
 import seedu.addressbook.data.statistics.AsciiTable;
-import seedu.addressbook.data.statistics.OrderDateTable;
+import seedu.addressbook.data.statistics.OrderValueDistribution;
+import seedu.addressbook.data.statistics.OrderValueHistogram;
+import seedu.addressbook.data.statistics.SalesCube;
 
 //@@author AngWM
 /**
- * Lists all order statistics in the Rms to the user.
+ * Lists all order statistics in the Rms to the user, or the sales of each day, week or month of a date range.
+ * The statistics are cached until the order list changes or the day changes.
+ * The totals are summed from the sales cube of the Rms, and the median, 90th and 99th percentile order values are
+ * read from its order value histograms, without visiting the orders.
  */
 public class StatsOrderCommand extends Command {
 
     public static final String COMMAND_WORD = "statsorder";
 
+    //@@author agent
     public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
-            + "Displays statistics information for orders.\n\t"
-            + "Example: " + COMMAND_WORD;
+            + "Displays statistics information for orders.\n"
+            + "Select date range from ddmmyyyy to ddmmyyyy with f/ddmmyyyy and t/ddmmyyyy, "
+            + "and show the sales of each day, week or month of the range with g/day, g/week or g/month\n\t"
+            + "Format: " + COMMAND_WORD + " [f/DDMMYYYY] [t/DDMMYYYY] [g/GRANULARITY]\n\t"
+            + "Example: " + COMMAND_WORD + "\n\t"
+            + "         " + COMMAND_WORD + " f/01102018 t/31102018 g/week";
 
+    //@@author AngWM
     public static final String MESSAGE_NO_ORDER = "There are no orders in the system.";
 
+    //@@author agent
+    public static final String MESSAGE_INVALID_RANGE = "The start date must not be after the end date.";
+    public static final String MESSAGE_TOO_MANY_PERIODS = "The range has more than %1$d periods of a %2$s, "
+            + "choose a shorter range or a longer period.";
+
+    /** The most periods shown in the table of a range. */
+    public static final int MAX_PERIODS = 366;
+
+    private static final DateTimeFormatter HEADING_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMM yyyy");
+    private static final String NO_VALUE = "-";
+
+    /**
+     * The lengths of the periods the sales of a range can be shown by.
+     */
+    public enum Granularity {
+        DAY("day"),
+        WEEK("week"),
+        MONTH("month");
+
+        private final String value;
+
+        Granularity(String value) {
+            this.value = value;
+        }
+
+        /**
+         * Returns the granularity with the given name ignoring case, or null if there is none.
+         */
+        public static Granularity fromValue(String value) {
+            for (Granularity granularity : values()) {
+                if (granularity.value.equalsIgnoreCase(value)) {
+                    return granularity;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the first day of the period after the one containing {@code date}.
+         * Weeks start on Monday.
+         */
+        private LocalDate startOfNextPeriod(LocalDate date) {
+            switch (this) {
+            case WEEK:
+                return date.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.with(TemporalAdjusters.firstDayOfNextMonth());
+            default:
+                return date.plusDays(1);
+            }
+        }
+
+        /**
+         * Returns the name of the period from {@code from} to {@code to}.
+         */
+        private String label(LocalDate from, LocalDate to) {
+            switch (this) {
+            case WEEK:
+                return from.format(HEADING_DATE_FORMATTER) + " - " + to.format(HEADING_DATE_FORMATTER);
+            case MONTH:
+                return from.format(MONTH_FORMATTER);
+            default:
+                return from.format(HEADING_DATE_FORMATTER);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    /**
+     * A date range of the statistics, with its open ends resolved, split into periods of a granularity.
+     */
+    static class PeriodRange {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final Granularity periodLength;
+
+        /**
+         * Constructs the range from the start of {@code dateFrom} until the end of {@code dateTo}, split into
+         * periods of the given granularity, or by month if it is null. An open start of the range starts on
+         * {@code firstDay}, and an open end ends today or on {@code lastDay}, whichever is later.
+         */
+        PeriodRange(LocalDate dateFrom, LocalDate dateTo, Granularity granularity, LocalDate firstDay,
+                    LocalDate lastDay, LocalDate currentDate) {
+            final LocalDate latestDay = currentDate.isAfter(lastDay) ? currentDate : lastDay;
+            this.from = (dateFrom == null) ? firstDay : dateFrom;
+            this.to = (dateTo == null) ? latestDay : dateTo;
+            this.periodLength = (granularity == null) ? Granularity.MONTH : granularity;
+        }
+
+        LocalDate getFrom() {
+            return from;
+        }
+
+        LocalDate getTo() {
+            return to;
+        }
+
+        /**
+         * Returns the reason the range cannot be shown, or null if it can.
+         */
+        String getInvalidMessage() {
+            if (from.isAfter(to)) {
+                return MESSAGE_INVALID_RANGE;
+            }
+            if (countPeriods(from, to, periodLength) > MAX_PERIODS) {
+                return String.format(MESSAGE_TOO_MANY_PERIODS, MAX_PERIODS, periodLength);
+            }
+            return null;
+        }
+
+        /**
+         * Returns the title followed by the first and last days of the range, underlined.
+         */
+        String getHeading(String title) {
+            return title + " from " + from.format(HEADING_DATE_FORMATTER) + " until "
+                    + to.format(HEADING_DATE_FORMATTER) + "\n========================\n";
+        }
+
+        /**
+         * Returns the table of the statistics of each period of the range, titled by the period length.
+         * The row of a period is its name followed by the cells {@code periodStats} gives for its first and last days.
+         */
+        String getPeriodTable(String title, String[] headings, BiFunction<LocalDate, LocalDate, String[]> periodStats) {
+            final String[] tableHeadings = new String[headings.length + 1];
+            tableHeadings[0] = "Period";
+            System.arraycopy(headings, 0, tableHeadings, 1, headings.length);
+            final AsciiTable table = new AsciiTable(tableHeadings);
+            for (LocalDate start = from; !start.isAfter(to); start = periodLength.startOfNextPeriod(start)) {
+                final LocalDate nextStart = periodLength.startOfNextPeriod(start);
+                final LocalDate end = nextStart.isAfter(to) ? to : nextStart.minusDays(1);
+                final String[] cells = periodStats.apply(start, end);
+                final String[] row = new String[cells.length + 1];
+                row[0] = periodLength.label(start, end);
+                System.arraycopy(cells, 0, row, 1, cells.length);
+                table.addRow(row);
+            }
+            return title + " by " + periodLength + "\n" + table.toString();
+        }
+    }
+
+    /** The first and last days of the range, or null if that end of the range is open. */
+    private final LocalDate dateFrom;
+    private final LocalDate dateTo;
+    /** The length of the periods of the range, or null if no range or granularity was given. */
+    private final Granularity granularity;
+
+    public StatsOrderCommand() {
+        this(null, null, null);
+    }
+
+    /**
+     * Constructs the command for the orders made from the start of {@code dateFrom} until the end of
+     * {@code dateTo}, shown by periods of the given granularity. A null date leaves that end of the range open.
+     * If the dates and the granularity are all null, the statistics of this year, month and day are shown.
+     */
+    public StatsOrderCommand(String dateFrom, String dateTo, Granularity granularity) {
+        this.dateFrom = (dateFrom == null) ? null : StatsMenuCommand.stringToDate(dateFrom);
+        this.dateTo = (dateTo == null) ? null : StatsMenuCommand.stringToDate(dateTo);
+        this.granularity = granularity;
+    }
 
     @Override
     public CommandResult execute() {
-        return new StatsCommandResult(getOrderStats());
+        final LocalDate currentDate = LocalDate.now();
+        final String key = COMMAND_WORD + " " + currentDate + " " + dateFrom + " " + dateTo + " " + granularity;
+        return new StatsCommandResult(rms.getStatsCache().getOrCompute(key, rms.getVersions(Target.ORDER), () ->
+                isOverview() ? getOrderStats(currentDate) : getRangeStats(currentDate)));
     }
 
-    private String getOrderStats() {
+    private boolean isOverview() {
+        return dateFrom == null && dateTo == null && granularity == null;
+    }
+
+    //@@author AngWM
+    private String getOrderStats(LocalDate currentDate) {
         StringBuilder sb = new StringBuilder();
-        List<ReadOnlyOrder> allOrders = rms.getAllOrders().immutableListView();
-        if (allOrders.isEmpty()) {
+        final SalesCube salesCube = rms.getSalesCube();
+        if (salesCube.getFirstOrderDay() == null) {
             return MESSAGE_NO_ORDER;
         }
-
-        OrderDateTable dateTable = new OrderDateTable();
-
-        for (ReadOnlyOrder order : allOrders) {
-            dateTable.addData(order);
-        }
-        Date currentDate = new Date();
-        Calendar calendar = new GregorianCalendar();
-        calendar.setTime(currentDate);
+        final OrderValueDistribution orderValues = rms.getOrderValues();
+        final LocalDate startOfYear = currentDate.with(TemporalAdjusters.firstDayOfYear());
+        final LocalDate endOfYear = currentDate.with(TemporalAdjusters.lastDayOfYear());
+        final LocalDate startOfMonth = currentDate.with(TemporalAdjusters.firstDayOfMonth());
+        final LocalDate endOfMonth = currentDate.with(TemporalAdjusters.lastDayOfMonth());
 
         sb.append("This year's statistics\n");
         sb.append("========================\n");
-        sb.append("Number of orders: ").append(Integer.toString(dateTable.getYearCount(currentDate))).append("\n");
-        sb.append("Revenue: $").append(Utils.formatCurrency(dateTable.getYearRevenue(currentDate))).append("\n\n");
+        appendTotals(sb, salesCube, orderValues, startOfYear, endOfYear);
+        sb.append("\n\n");
         sb.append("This month's statistics\n");
         sb.append("========================\n");
-        sb.append("Number of orders: ").append(Integer.toString(dateTable.getMonthCount(currentDate))).append("\n");
-        sb.append("Revenue: $").append(Utils.formatCurrency(dateTable.getMonthRevenue(currentDate))).append("\n\n");
+        appendTotals(sb, salesCube, orderValues, startOfMonth, endOfMonth);
+        sb.append("\n\n");
         sb.append("Today's statistics\n");
         sb.append("========================\n");
-        sb.append("Number of orders: ").append(Integer.toString(dateTable.getDayCount(currentDate))).append("\n");
-        sb.append("Revenue: $").append(Utils.formatCurrency(dateTable.getDayRevenue(currentDate)));
+        appendTotals(sb, salesCube, orderValues, currentDate, currentDate);
         sb.append("\n\n\n");
 
         sb.append("Past 12 Months Sales\n");
-        int currentMonth = calendar.get(Calendar.MONTH);
-        int currentYear = calendar.get(Calendar.YEAR);
+        int currentMonth = currentDate.getMonthValue() - 1;
+        int currentYear = currentDate.getYear();
         String[] months = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
         months = rotateRight(months, 12 - currentMonth);
         AsciiTable table = new AsciiTable(months);
         String[] dataRow = new String[12];
         for (int i = 0; i < 12; i++) {
-            calendar.set(Calendar.MONTH, i);
-            if (currentMonth <= i) {
-                calendar.set(Calendar.YEAR, currentYear - 1);
-            }
-            dataRow[i] = "$" + Utils.formatCurrency((dateTable.getMonthRevenue(calendar.getTime())));
+            int year = (currentMonth <= i) ? currentYear - 1 : currentYear;
+            LocalDate month = LocalDate.of(year, i + 1, 1);
+            double revenue = salesCube.getRevenue(month, month.with(TemporalAdjusters.lastDayOfMonth()));
+            dataRow[i] = "$" + Utils.formatCurrency(revenue);
         }
         dataRow = rotateRight(dataRow, 12 - currentMonth);
         table.addRow(dataRow);
@@ -82,6 +262,81 @@ public class StatsOrderCommand extends Command {
         return sb.toString();
     }
 
+    //@@author agent
+    /**
+     * Returns the totals of the range of this command and the sales of each period of the range.
+     * An open start of the range starts at the earliest order, and an open end ends today or at the latest order.
+     */
+    private String getRangeStats(LocalDate currentDate) {
+        final SalesCube salesCube = rms.getSalesCube();
+        final LocalDate firstOrderDay = salesCube.getFirstOrderDay();
+        if (firstOrderDay == null) {
+            return MESSAGE_NO_ORDER;
+        }
+        final PeriodRange range = new PeriodRange(dateFrom, dateTo, granularity, firstOrderDay,
+                salesCube.getLastOrderDay(), currentDate);
+        if (range.getInvalidMessage() != null) {
+            return range.getInvalidMessage();
+        }
+
+        final OrderValueDistribution orderValues = rms.getOrderValues();
+        final StringBuilder sb = new StringBuilder();
+        sb.append(range.getHeading("Statistics"));
+        appendTotals(sb, salesCube, orderValues, range.getFrom(), range.getTo());
+        sb.append("\n\n\n");
+
+        final String[] periodHeadings = {"Number of orders", "Revenue", "Median order", "90th percentile",
+            "99th percentile"};
+        sb.append(range.getPeriodTable("Sales", periodHeadings, (start, end) -> {
+            final OrderValueHistogram histogram = orderValues.getHistogram(start, end);
+            return new String[]{Integer.toString(salesCube.getOrderCount(start, end)),
+                "$" + Utils.formatCurrency(salesCube.getRevenue(start, end)),
+                formatPercentile(histogram, 50), formatPercentile(histogram, 90), formatPercentile(histogram, 99)};
+        }));
+        return sb.toString();
+    }
+
+    /**
+     * Returns the number of periods of the given length that the range from {@code from} to {@code to} touches.
+     */
+    private static long countPeriods(LocalDate from, LocalDate to, Granularity periodLength) {
+        switch (periodLength) {
+        case WEEK:
+            return ChronoUnit.WEEKS.between(from.with(DayOfWeek.MONDAY), to.with(DayOfWeek.MONDAY)) + 1;
+        case MONTH:
+            return ChronoUnit.MONTHS.between(from.withDayOfMonth(1), to.withDayOfMonth(1)) + 1;
+        default:
+            return ChronoUnit.DAYS.between(from, to) + 1;
+        }
+    }
+
+    /**
+     * Appends the number of orders and the revenue from {@code from} to {@code to}, and the median, 90th and 99th
+     * percentile order values if there are orders.
+     */
+    private static void appendTotals(StringBuilder sb, SalesCube salesCube, OrderValueDistribution orderValues,
+                                     LocalDate from, LocalDate to) {
+        sb.append("Number of orders: ").append(Integer.toString(salesCube.getOrderCount(from, to))).append("\n");
+        sb.append("Revenue: $").append(Utils.formatCurrency(salesCube.getRevenue(from, to)));
+        final OrderValueHistogram histogram = orderValues.getHistogram(from, to);
+        if (histogram.getCount() > 0) {
+            sb.append("\nOrder value: median ").append(formatPercentile(histogram, 50))
+                    .append(", 90th percentile ").append(formatPercentile(histogram, 90))
+                    .append(", 99th percentile ").append(formatPercentile(histogram, 99));
+        }
+    }
+
+    /**
+     * Returns the order value at the percentile of the histogram in dollars, or a dash if it has no orders.
+     */
+    private static String formatPercentile(OrderValueHistogram histogram, double percentile) {
+        if (histogram.getCount() == 0) {
+            return NO_VALUE;
+        }
+        return "$" + Utils.formatCurrency(histogram.getValueAtPercentile(percentile));
+    }
+
+    //@@author AngWM
     /**
      * Rotate the columns to the right to display the last 12 months in correct order
      */
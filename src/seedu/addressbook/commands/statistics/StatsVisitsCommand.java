@@ -0,0 +1,85 @@
+package seedu.addressbook.commands.statistics;
+
+import java.time.LocalDate;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.statistics.StatsOrderCommand.Granularity;
+import seedu.addressbook.commands.statistics.StatsOrderCommand.PeriodRange;
+import seedu.addressbook.data.RmsChange.Target;
+import seedu.addressbook.data.statistics.MemberVisitSketches;
+
+//@@author agent
+/**
+ * Displays the number of distinct members who made an order in a date range, and in each day, week or month of
+ * the range. The numbers are estimated from the daily member visit sketches of the Rms, without visiting the orders.
+ * The statistics are cached until the order list changes or the day changes.
+ */
+public class StatsVisitsCommand extends Command {
+
+    public static final String COMMAND_WORD = "statsvisits";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Displays the number of distinct members who made an order from ddmmyyyy to ddmmyyyy.\n"
+            + "Show the visits of each day, week or month of the range with g/day, g/week or g/month\n\t"
+            + "Format: " + COMMAND_WORD + " [f/DDMMYYYY] [t/DDMMYYYY] [g/GRANULARITY]\n\t"
+            + "Example: " + COMMAND_WORD + "\n\t"
+            + "         " + COMMAND_WORD + " f/01102018 t/31102018 g/week";
+
+    public static final String MESSAGE_NO_VISITS = "There are no orders made by members in the system.";
+
+    /** The first and last days of the range, or null if that end of the range is open. */
+    private final LocalDate dateFrom;
+    private final LocalDate dateTo;
+    /** The length of the periods of the range, or null if no granularity was given. */
+    private final Granularity granularity;
+
+    public StatsVisitsCommand() {
+        this(null, null, null);
+    }
+
+    /**
+     * Constructs the command for the orders made from the start of {@code dateFrom} until the end of
+     * {@code dateTo}, shown by periods of the given granularity. A null date leaves that end of the range open,
+     * and a null granularity shows the range by month.
+     */
+    public StatsVisitsCommand(String dateFrom, String dateTo, Granularity granularity) {
+        this.dateFrom = (dateFrom == null) ? null : StatsMenuCommand.stringToDate(dateFrom);
+        this.dateTo = (dateTo == null) ? null : StatsMenuCommand.stringToDate(dateTo);
+        this.granularity = granularity;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final LocalDate currentDate = LocalDate.now();
+        final String key = COMMAND_WORD + " " + currentDate + " " + dateFrom + " " + dateTo + " " + granularity;
+        return new StatsCommandResult(rms.getStatsCache().getOrCompute(key, rms.getVersions(Target.ORDER), () ->
+                getVisitStats(currentDate)));
+    }
+
+    /**
+     * Returns the number of members who visited in the range of this command and in each period of the range.
+     * An open start of the range starts at the earliest visit, and an open end ends today or at the latest visit.
+     */
+    private String getVisitStats(LocalDate currentDate) {
+        final MemberVisitSketches memberVisits = rms.getMemberVisits();
+        final LocalDate firstVisitDay = memberVisits.getFirstVisitDay();
+        if (firstVisitDay == null) {
+            return MESSAGE_NO_VISITS;
+        }
+        final PeriodRange range = new PeriodRange(dateFrom, dateTo, granularity, firstVisitDay,
+                memberVisits.getLastVisitDay(), currentDate);
+        if (range.getInvalidMessage() != null) {
+            return range.getInvalidMessage();
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(range.getHeading("Visits"));
+        sb.append("Members who visited: ").append(memberVisits.countVisitors(range.getFrom(), range.getTo()));
+        sb.append("\n\n\n");
+
+        sb.append(range.getPeriodTable("Visits", new String[]{"Members who visited"}, (start, end) ->
+                new String[]{Long.toString(memberVisits.countVisitors(start, end))}));
+        return sb.toString();
+    }
+}
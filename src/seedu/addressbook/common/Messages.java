@@ -32,7 +32,13 @@ public class Messages {
     public static final String MESSAGE_ORDERS_LISTED_OVERVIEW = "%1$d orders listed!";
     public static final String MESSAGE_USING_ORDER_LIST_STORAGE_FILE = "Using order list storage file : %1$s";
 
+    //@@author agent
+    public static final String MESSAGE_DRAFT_ORDER_SUGGESTIONS = "Often ordered together with this draft: %1$s";
+
     //@@author
+    public static final String MESSAGE_LOADING_DATA = "Loading data from %1$s...";
+    public static final String MESSAGE_DATA_NOT_LOADED = "Data is still being loaded, please try again shortly.";
+    public static final String MESSAGE_DATA_LOAD_FAILED = "Could not load data: %1$s";
     public static final String MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE = "Launch command format: "
             + "java seedu.addressbook.Main [STORAGE_FILE_PATH]";
 
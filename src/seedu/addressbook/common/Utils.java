@@ -1,11 +1,15 @@
 package seedu.addressbook.common;
 
 import java.text.DecimalFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -16,6 +20,13 @@ import java.util.Set;
  */
 public class Utils {
 
+    /**
+     * Renders an instant the same way {@link java.util.Date#toString()} does. Formatters are immutable and
+     * thread-safe, so a single one is shared.
+     */
+    private static final DateTimeFormatter INSTANT_FORMATTER =
+            DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
+
     /**
      * Checks whether any of the given items are null.
      */
@@ -70,6 +81,29 @@ public class Utils {
         return df.format(input);
     }
 
+    /**
+     * Returns an amount of dollars rounded to whole cents. Running totals of money are kept in cents, so that
+     * taking an amount away undoes adding it exactly.
+     */
+    public static long toCents(double dollars) {
+        return Math.round(dollars * 100);
+    }
+
+    /**
+     * Formats an instant for display, in the system time zone.
+     */
+    public static String formatInstant(Instant instant) {
+        return INSTANT_FORMATTER.format(instant.atZone(ZoneId.systemDefault()));
+    }
+
+    /**
+     * Returns the current instant to the millisecond, as the dates of orders and members are stored to the
+     * millisecond.
+     */
+    public static Instant currentInstant() {
+        return Instant.ofEpochMilli(System.currentTimeMillis());
+    }
+
     //@@author px1099
     /**
      * Create blank space to position the next String at an exact distance compared to the start of the prefix String.
@@ -1,35 +1,70 @@
 package seedu.addressbook.data;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.addressbook.data.RmsChange.Target;
 
 import seedu.addressbook.data.employee.Attendance;
 import seedu.addressbook.data.employee.Employee;
 import seedu.addressbook.data.employee.ReadOnlyEmployee;
+import seedu.addressbook.data.employee.Timing;
 import seedu.addressbook.data.employee.UniqueAttendanceList;
+import seedu.addressbook.data.employee.UniqueAttendanceList.AttendanceNotFoundException;
 import seedu.addressbook.data.employee.UniqueEmployeeList;
 import seedu.addressbook.data.employee.UniqueEmployeeList.DuplicateEmployeeException;
 import seedu.addressbook.data.employee.UniqueEmployeeList.EmployeeNotFoundException;
+import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.member.Member;
+import seedu.addressbook.data.member.MemberTier.Level;
 import seedu.addressbook.data.member.ReadOnlyMember;
 import seedu.addressbook.data.member.UniqueMemberList;
 import seedu.addressbook.data.member.UniqueMemberList.DuplicateMemberException;
 import seedu.addressbook.data.member.UniqueMemberList.MemberNotFoundException;
 import seedu.addressbook.data.menu.Menu;
 import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.menu.Type.Category;
 import seedu.addressbook.data.menu.UniqueMenuList;
 import seedu.addressbook.data.menu.UniqueMenuList.DuplicateMenuException;
 import seedu.addressbook.data.menu.UniqueMenuList.MenuNotFoundException;
+import seedu.addressbook.data.order.MemberOrderHistory;
 import seedu.addressbook.data.order.Order;
 import seedu.addressbook.data.order.ReadOnlyOrder;
 import seedu.addressbook.data.order.UniqueOrderList;
 import seedu.addressbook.data.order.UniqueOrderList.DuplicateOrderException;
 import seedu.addressbook.data.order.UniqueOrderList.OrderNotFoundException;
+import seedu.addressbook.data.statistics.AttendanceIndex;
+import seedu.addressbook.data.statistics.DemandHeatmap;
+import seedu.addressbook.data.statistics.DishCoOccurrenceMatrix;
+import seedu.addressbook.data.statistics.MemberVisitSketches;
+import seedu.addressbook.data.statistics.MenuSalesTable;
+import seedu.addressbook.data.statistics.OrderValueDistribution;
+import seedu.addressbook.data.statistics.RollingSalesTicker;
+import seedu.addressbook.data.statistics.SalesCube;
+import seedu.addressbook.data.statistics.StatsResultCache;
+import seedu.addressbook.data.tag.Tag;
 
 /**
  * Represents the entire Rms. Contains the data of the Rms.
  */
 public class Rms {
 
+    //@@author agent
+    /** Number of unpersisted changes kept before the oldest are dropped and a full save becomes necessary. */
+    private static final int MAX_RETAINED_CHANGES = 10000;
+
     //@@author kianhong95
     private final UniqueEmployeeList allEmployees;
     //@@author kangmingtay
@@ -44,6 +79,38 @@ public class Rms {
     //@@author px1099
     private Order draftOrder = new Order();
 
+    //@@author agent
+    /**
+     * Changes made since the oldest change that is still needed, in the order they were made.
+     * {@code version} counts every change ever made, so the retained changes are those after
+     * {@code version - changes.size()}. The oldest changes are dropped from the head of the deque in constant time.
+     */
+    private final Deque<RmsChange> changes = new ArrayDeque<>();
+    private long version = 0;
+
+    /** The number of changes made to each list, indexed by the ordinal of its target. */
+    private final long[] versionsByTarget = new long[Target.values().length];
+
+    /** The statistics rendered from the data of this Rms. */
+    private final StatsResultCache statsCache = new StatsResultCache();
+
+    // The statistics below are built on their first lookup and kept up to date from then on.
+    private MenuSalesTable menuSales;
+    private DishCoOccurrenceMatrix dishPairs;
+    private SalesCube salesCube;
+    private DemandHeatmap demandHeatmap;
+    private RollingSalesTicker salesTicker;
+    private OrderValueDistribution orderValues;
+    /** Cannot forget a member, so it is dropped when an order is removed and rebuilt on the next lookup. */
+    private MemberVisitSketches memberVisits;
+    private AttendanceIndex attendanceIndex;
+
+    /**
+     * The menu items ranked for each member they were asked for, dropped when the member makes or deletes an
+     * order, and all dropped when the menu or the order list is changed as a whole.
+     */
+    private final Map<ReadOnlyMember, List<ReadOnlyMenus>> recommendationsByMember = new HashMap<>();
+
     //@@author AngWM
     /**
      * Creates an empty Rms.
@@ -83,6 +150,7 @@ public class Rms {
      */
     public void addEmployee(Employee toAdd) throws DuplicateEmployeeException {
         allEmployees.add(toAdd);
+        recordChange(RmsChange.add(Target.EMPLOYEE, toAdd));
     }
 
     /**
@@ -90,28 +158,45 @@ public class Rms {
      */
     public void addAttendance(Attendance toAdd) {
         allAttendance.add(toAdd);
+        if (attendanceIndex != null) {
+            attendanceIndex.putAttendance(toAdd);
+        }
+        recordChange(RmsChange.add(Target.ATTENDANCE, toAdd));
     }
 
+    //@@author agent
     /**
-     * Gets index of the specified Attendance object.
+     * Gets the attendance of the employee with the specified name.
+     *
+     * @throws AttendanceNotFoundException if the employee has no attendance in the Rms.
      */
-    public int findAttendanceIndex(String toFind) {
-        return allAttendance.getAttendanceIndex(toFind);
+    public Attendance findAttendance(String employeeName) throws AttendanceNotFoundException {
+        return allAttendance.getAttendance(employeeName);
     }
 
-
     /**
-     * Gets index of the specified Attendance object.
+     * Clocks an employee in or out by appending the timing to their attendance in the Rms.
+     * Only the new timing is recorded as a change.
      */
-    public Attendance findAttendance(int toFind) {
-        return allAttendance.getAttendance(toFind);
+    public void addAttendanceTiming(Attendance attendance, Timing timing) {
+        final int timingCount = attendance.getTimingCount();
+        attendance.addTiming(timing);
+        if (attendanceIndex != null && attendance.getTimingCount() > timingCount) {
+            attendanceIndex.addTiming(attendance.getName(), timing.getEpochSecond(), timing.isClockIn);
+        }
+        recordChange(RmsChange.append(Target.ATTENDANCE,
+                new Attendance(attendance.getName(), timing.isClockIn, Collections.singleton(timing))));
     }
 
+    //@@author kianhong95
     /**
      * Adds an attendance list with the specified employee to the Rms.
      */
     public void updateAttendance(Attendance oldAttendance, Attendance newAttendance) {
-        allAttendance.setAttendance(oldAttendance, newAttendance); }
+        allAttendance.setAttendance(oldAttendance, newAttendance);
+        reindexAttendanceOf(oldAttendance.getName());
+        recordChange(RmsChange.update(Target.ATTENDANCE, oldAttendance, newAttendance));
+    }
 
     //@@author kangmingtay
     /**
@@ -122,6 +207,7 @@ public class Rms {
 
     public void addMember(Member toAdd) throws DuplicateMemberException {
         allMembers.add(toAdd);
+        recordChange(RmsChange.add(Target.MEMBER, toAdd));
     }
 
     //@@author SalsabilTasnia
@@ -132,6 +218,11 @@ public class Rms {
      */
     public void addMenu(Menu toAdd) throws DuplicateMenuException {
         allFoodItems.add(toAdd);
+        if (menuSales != null) {
+            menuSales.addMenu(toAdd);
+        }
+        recommendationsByMember.clear();
+        recordChange(RmsChange.add(Target.MENU, toAdd));
     }
 
     //@@author px1099
@@ -142,6 +233,9 @@ public class Rms {
      */
     public void addOrder(Order toAdd) throws DuplicateOrderException {
         allOrders.add(toAdd);
+        addToStatistics(toAdd);
+        recommendationsByMember.remove(toAdd.getCustomer());
+        recordChange(RmsChange.add(Target.ORDER, toAdd));
     }
 
     //@@author SalsabilTasnia
@@ -152,6 +246,31 @@ public class Rms {
         return allFoodItems.contains(key);
     }
 
+    //@@author agent
+    /**
+     * Finds the menu items with all the given tags and, if any keywords are given, a name containing any of
+     * the keywords, as whole words, listing the menu items matching more keywords first.
+     *
+     * @see UniqueMenuList#find(Collection, Collection, boolean)
+     */
+    public List<ReadOnlyMenus> findMenus(Collection<String> keywords, Collection<Tag> tags) {
+        return allFoodItems.find(keywords, tags, true);
+    }
+
+    /**
+     * Returns the menu items of the given category, in the order of the menu.
+     */
+    public List<ReadOnlyMenus> getMenusOfCategory(Category category) {
+        return allFoodItems.getMenusOfCategory(category);
+    }
+
+    /**
+     * Returns the number of menu items of the given category.
+     */
+    public int countMenusOfCategory(Category category) {
+        return allFoodItems.countMenusOfCategory(category);
+    }
+
     //@@author kangmingtay
     /**
      * Checks if an equivalent member exists in the member list.
@@ -160,6 +279,39 @@ public class Rms {
         return allMembers.contains(key);
     }
 
+    //@@author agent
+    /**
+     * Returns the members best matching the given lower-cased words by name or email prefix, tolerating a typo.
+     *
+     * @see UniqueMemberList#find(Collection)
+     */
+    public List<ReadOnlyMember> findMembers(Collection<String> words) {
+        return allMembers.find(words);
+    }
+
+    /**
+     * Returns the number of members in the member list.
+     */
+    public int countMembers() {
+        return allMembers.size();
+    }
+
+    /**
+     * Returns the number of members of the given tier level.
+     */
+    public int countMembersOfTier(Level level) {
+        return allMembers.countMembersOfTier(level);
+    }
+
+    /**
+     * Returns the number of members who registered in the same year, month or day as {@code date}.
+     *
+     * @see UniqueMemberList#countSignups(LocalDate, ChronoUnit)
+     */
+    public int countMemberSignups(LocalDate date, ChronoUnit unit) {
+        return allMembers.countSignups(date, unit);
+    }
+
     //@@author SalsabilTasnia
     /**
      * Removes the equivalent menu item from the menu.
@@ -168,6 +320,11 @@ public class Rms {
      */
     public void removeMenuItem(ReadOnlyMenus toRemove) throws MenuNotFoundException {
         allFoodItems.remove(toRemove);
+        if (menuSales != null) {
+            menuSales.removeMenu(toRemove);
+        }
+        recommendationsByMember.clear();
+        recordChange(RmsChange.remove(Target.MENU, toRemove));
     }
 
     //@@author px1099
@@ -178,6 +335,9 @@ public class Rms {
      */
     public void removeOrder(ReadOnlyOrder toRemove) throws OrderNotFoundException {
         allOrders.remove(toRemove);
+        removeFromStatistics(toRemove);
+        recommendationsByMember.remove(toRemove.getCustomer());
+        recordChange(RmsChange.remove(Target.ORDER, toRemove));
     }
 
     //@@author kangmingtay
@@ -188,6 +348,7 @@ public class Rms {
      */
     public void removeMember(ReadOnlyMember toRemove) throws MemberNotFoundException {
         allMembers.remove(toRemove);
+        recordChange(RmsChange.remove(Target.MEMBER, toRemove));
     }
 
     //@@author kianhong95
@@ -198,6 +359,7 @@ public class Rms {
      */
     public void removeEmployee(ReadOnlyEmployee toRemove) throws EmployeeNotFoundException {
         allEmployees.remove(toRemove);
+        recordChange(RmsChange.remove(Target.EMPLOYEE, toRemove));
     }
 
     /**
@@ -205,15 +367,38 @@ public class Rms {
      */
     public void removeAttendance(Attendance toRemove) {
         allAttendance.remove(toRemove);
+        reindexAttendanceOf(toRemove.getName());
+        recordChange(RmsChange.remove(Target.ATTENDANCE, toRemove));
+    }
+
+    //@@author agent
+    /**
+     * Replaces the shifts of the employee in the attendance index, if it is built, with those of the attendance
+     * now listed under the employee's name, if there is one.
+     */
+    private void reindexAttendanceOf(String employeeName) {
+        if (attendanceIndex == null) {
+            return;
+        }
+        attendanceIndex.removeEmployee(employeeName);
+        try {
+            attendanceIndex.putAttendance(findAttendance(employeeName));
+        } catch (AttendanceNotFoundException anfe) {
+            // the employee no longer has attendance
+        }
     }
 
+    //@@author kianhong95
     /**
-     * Edits the equivalent employee from Rms
+     * Edits the equivalent employee from Rms, keeping its position in the employee list.
      *
      * @throws EmployeeNotFoundException if no such Employee could be found.
+     * @throws DuplicateEmployeeException if the edited employee would have the name of another employee.
      */
-    public void editEmployee(ReadOnlyEmployee toRemove, Employee toReplace) throws EmployeeNotFoundException {
+    public void editEmployee(ReadOnlyEmployee toRemove, Employee toReplace)
+            throws EmployeeNotFoundException, DuplicateEmployeeException {
         allEmployees.edit(toRemove, toReplace);
+        recordChange(RmsChange.update(Target.EMPLOYEE, toRemove, toReplace));
     }
 
     //@@author SalsabilTasnia
@@ -222,6 +407,11 @@ public class Rms {
      */
     public void clearMenu() {
         allFoodItems.clear();
+        if (menuSales != null) {
+            menuSales.clearMenus();
+        }
+        recommendationsByMember.clear();
+        recordChange(RmsChange.clear(Target.MENU));
     }
 
     //@@author px1099
@@ -230,6 +420,9 @@ public class Rms {
      */
     public void clearOrderList() {
         allOrders.clear();
+        clearStatistics();
+        recommendationsByMember.clear();
+        recordChange(RmsChange.clear(Target.ORDER));
     }
 
     //@@author kangmingtay
@@ -271,6 +464,220 @@ public class Rms {
         return new UniqueOrderList(allOrders);
     }
 
+    //@@author agent
+    /**
+     * Returns the orders made by the given member, with their lifetime spend and visit count.
+     */
+    public MemberOrderHistory getOrderHistoryOf(ReadOnlyMember customer) {
+        return allOrders.getHistoryOf(customer);
+    }
+
+    /**
+     * Returns the quantity sold and the revenue of every menu item over all the orders, kept up to date as menu
+     * items and orders are added and removed. The returned table must not be changed by the caller.
+     */
+    public MenuSalesTable getMenuSales() {
+        if (menuSales == null) {
+            menuSales = MenuSalesTable.of(allOrders.immutableListView(), allFoodItems);
+        }
+        return menuSales;
+    }
+
+    /**
+     * Returns the sales of every day and every dish over all the orders, kept up to date as orders are added and
+     * removed. The returned cube must not be changed by the caller.
+     */
+    public SalesCube getSalesCube() {
+        if (salesCube == null) {
+            salesCube = SalesCube.of(allOrders.immutableListView());
+        }
+        return salesCube;
+    }
+
+    /**
+     * Returns the orders and dishes sold in every hour of the week, kept up to date as orders are added and
+     * removed. The returned heatmap must not be changed by the caller.
+     */
+    public DemandHeatmap getDemandHeatmap() {
+        if (demandHeatmap == null) {
+            demandHeatmap = DemandHeatmap.of(allOrders.immutableListView());
+        }
+        return demandHeatmap;
+    }
+
+    /**
+     * Returns the orders and revenue of each of the latest minutes, kept up to date as orders are added and
+     * removed. The returned ticker must not be changed by the caller.
+     */
+    public RollingSalesTicker getSalesTicker() {
+        if (salesTicker == null) {
+            salesTicker = new RollingSalesTicker(allOrders);
+        }
+        return salesTicker;
+    }
+
+    /**
+     * Returns the distribution of the order values of every day, kept up to date as orders are added and removed.
+     * The returned distribution must not be changed by the caller.
+     */
+    public OrderValueDistribution getOrderValues() {
+        if (orderValues == null) {
+            orderValues = OrderValueDistribution.of(allOrders.immutableListView());
+        }
+        return orderValues;
+    }
+
+    /**
+     * Returns the members who made orders on every day, kept up to date as orders are added, and rebuilt from the
+     * orders on the first lookup after an order is removed. The returned sketches must not be changed by the caller.
+     */
+    public MemberVisitSketches getMemberVisits() {
+        if (memberVisits == null) {
+            memberVisits = MemberVisitSketches.of(allOrders.immutableListView());
+        }
+        return memberVisits;
+    }
+
+    /**
+     * Returns the shifts of every employee, kept up to date as employees clock in and out and as attendance is
+     * added, replaced and removed. The returned index must not be changed by the caller.
+     */
+    public AttendanceIndex getAttendanceIndex() {
+        if (attendanceIndex == null) {
+            attendanceIndex = new AttendanceIndex(allAttendance);
+        }
+        return attendanceIndex;
+    }
+
+    /**
+     * Adds the order to the statistics that are built.
+     */
+    private void addToStatistics(ReadOnlyOrder toAdd) {
+        if (menuSales != null) {
+            menuSales.addOrder(toAdd);
+        }
+        if (dishPairs != null) {
+            dishPairs.addOrder(toAdd);
+        }
+        if (salesCube != null) {
+            salesCube.addOrder(toAdd);
+        }
+        if (demandHeatmap != null) {
+            demandHeatmap.addOrder(toAdd);
+        }
+        if (salesTicker != null) {
+            salesTicker.addOrder(toAdd);
+        }
+        if (orderValues != null) {
+            orderValues.addOrder(toAdd);
+        }
+        if (memberVisits != null) {
+            memberVisits.addOrder(toAdd);
+        }
+    }
+
+    /**
+     * Removes the order from the statistics that are built, dropping those that cannot forget an order.
+     */
+    private void removeFromStatistics(ReadOnlyOrder toRemove) {
+        if (menuSales != null) {
+            menuSales.removeOrder(toRemove);
+        }
+        if (dishPairs != null) {
+            dishPairs.removeOrder(toRemove);
+        }
+        if (salesCube != null) {
+            salesCube.removeOrder(toRemove);
+        }
+        if (demandHeatmap != null) {
+            demandHeatmap.removeOrder(toRemove);
+        }
+        if (salesTicker != null) {
+            salesTicker.removeOrder(toRemove);
+        }
+        if (orderValues != null) {
+            orderValues.removeOrder(toRemove);
+        }
+        memberVisits = null;
+    }
+
+    /**
+     * Removes all the orders from the statistics that are built.
+     */
+    private void clearStatistics() {
+        if (menuSales != null) {
+            menuSales.clearOrders();
+        }
+        if (dishPairs != null) {
+            dishPairs.clear();
+        }
+        if (salesCube != null) {
+            salesCube.clear();
+        }
+        if (demandHeatmap != null) {
+            demandHeatmap.clear();
+        }
+        if (salesTicker != null) {
+            salesTicker.clear();
+        }
+        if (orderValues != null) {
+            orderValues.clear();
+        }
+        if (memberVisits != null) {
+            memberVisits.clear();
+        }
+    }
+
+    /**
+     * Returns the items on the menu most often ordered together with the given dishes, at most {@code k} of them.
+     *
+     * @see DishCoOccurrenceMatrix#suggestFor(Collection, int, java.util.function.Predicate)
+     */
+    public List<ReadOnlyMenus> suggestDishesFor(Collection<? extends ReadOnlyMenus> dishes, int k) {
+        if (dishPairs == null) {
+            dishPairs = DishCoOccurrenceMatrix.of(allOrders.immutableListView());
+        }
+        final List<ReadOnlyMenus> suggestions = new ArrayList<>();
+        for (ReadOnlyMenus dish : dishPairs.suggestFor(dishes, k, allFoodItems::contains)) {
+            suggestions.add(allFoodItems.getEquivalent(dish));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns at most {@code k} menu items matching what the member has ordered before, the best match first,
+     * or an empty list if the member has no orders. Items matching equally well are ordered by name.
+     * The ranking is computed once and reused until the member makes or deletes an order or the menu changes.
+     *
+     * @see MemberOrderHistory#getPreferenceFor(ReadOnlyMenus)
+     */
+    public List<ReadOnlyMenus> recommendFor(ReadOnlyMember member, int k) {
+        List<ReadOnlyMenus> ranking = recommendationsByMember.get(member);
+        if (ranking == null) {
+            ranking = rankByPreference(allOrders.getHistoryOf(member));
+            recommendationsByMember.put(member, ranking);
+        }
+        return Collections.unmodifiableList(ranking.subList(0, Math.min(k, ranking.size())));
+    }
+
+    /**
+     * Returns the menu items the history has any preference for, the most preferred first.
+     */
+    private List<ReadOnlyMenus> rankByPreference(MemberOrderHistory history) {
+        final Map<ReadOnlyMenus, Double> scores = new HashMap<>();
+        for (Menu item : allFoodItems) {
+            final double score = history.getPreferenceFor(item);
+            if (score > 0) {
+                scores.put(item, score);
+            }
+        }
+        final List<ReadOnlyMenus> ranking = new ArrayList<>(scores.keySet());
+        ranking.sort(Comparator.comparingDouble((ReadOnlyMenus item) -> scores.get(item)).reversed()
+                .thenComparing(item -> item.getName().toString()));
+        return ranking;
+    }
+
+    //@@author px1099
     public ReadOnlyOrder getDraftOrder() {
         return draftOrder;
     }
@@ -309,13 +716,240 @@ public class Rms {
      * @param points the redeemed points the customer used in the order
      */
     public void updatePointsOfCustomer(ReadOnlyMember customer, double price, int points) {
-        allMembers.updatePointsOfCustomer(customer, price, points);
+        final Member updated = allMembers.updatePointsOfCustomer(customer, price, points);
+        if (allMembers.contains(updated)) {
+            recordChange(RmsChange.update(Target.MEMBER, null, updated));
+        }
     }
 
     public void clearDraftOrder() {
         draftOrder = new Order();
     }
 
+    //@@author agent
+    /**
+     * Returns the number of changes made to the data of this Rms so far.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of changes made to the given list so far.
+     * The version only ever grows, so a result computed from the list is up to date while its version is unchanged.
+     */
+    public long getVersion(Target target) {
+        return versionsByTarget[target.ordinal()];
+    }
+
+    /**
+     * Returns the versions of the given lists, in the same order.
+     */
+    public long[] getVersions(Target... targets) {
+        final long[] versions = new long[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            versions[i] = getVersion(targets[i]);
+        }
+        return versions;
+    }
+
+    /**
+     * Returns the cache of the statistics rendered from the data of this Rms.
+     */
+    public StatsResultCache getStatsCache() {
+        return statsCache;
+    }
+
+    /**
+     * Returns the changes made after the given version, in the order they were made,
+     * or an empty Optional if some of those changes are no longer retained.
+     */
+    public Optional<List<RmsChange>> getChangesSince(long sinceVersion) {
+        final long oldestRetained = version - changes.size();
+        if (sinceVersion < oldestRetained || sinceVersion > version) {
+            return Optional.empty();
+        }
+        final List<RmsChange> changesSince = new ArrayList<>((int) (version - sinceVersion));
+        final Iterator<RmsChange> newestFirst = changes.descendingIterator();
+        for (long i = sinceVersion; i < version; i++) {
+            changesSince.add(newestFirst.next());
+        }
+        Collections.reverse(changesSince);
+        return Optional.of(changesSince);
+    }
+
+    /**
+     * Stops retaining the changes up to and including the given version, once they have been persisted.
+     */
+    public void discardChangesUpTo(long upToVersion) {
+        final long oldestRetained = version - changes.size();
+        final int count = (int) Math.min(Math.max(upToVersion - oldestRetained, 0), changes.size());
+        for (int i = 0; i < count; i++) {
+            changes.removeFirst();
+        }
+    }
+
+    /**
+     * Records a change made to the data, dropping the oldest retained change if too many are kept.
+     */
+    private void recordChange(RmsChange change) {
+        if (changes.size() >= MAX_RETAINED_CHANGES) {
+            changes.removeFirst();
+        }
+        changes.add(change);
+        version++;
+        versionsByTarget[change.getTarget().ordinal()]++;
+    }
+
+    /**
+     * Applies a change that was recorded by another Rms with the same data, e.g. when replaying changes
+     * persisted after a snapshot. Entities are matched by equality; attendance is matched by employee name.
+     *
+     * @throws IllegalValueException if the change cannot be applied to the current data.
+     */
+    public void applyChange(RmsChange change) throws IllegalValueException {
+        try {
+            switch (change.getAction()) {
+            case ADD:
+                applyAdd(change.getTarget(), change.getCurrent());
+                break;
+            case REMOVE:
+                applyRemove(change.getTarget(), change.getCurrent());
+                break;
+            case UPDATE:
+                applyUpdate(change.getTarget(), change.getPrevious(), change.getCurrent());
+                break;
+            case APPEND:
+                applyAppend(change.getTarget(), change.getCurrent());
+                break;
+            case CLEAR:
+                applyClear(change.getTarget());
+                break;
+            default:
+                throw new IllegalValueException("Unknown change: " + change.getAction());
+            }
+        } catch (MemberNotFoundException | EmployeeNotFoundException | MenuNotFoundException
+                | OrderNotFoundException e) {
+            throw new IllegalValueException("Changed entry not found: " + change.getCurrent());
+        }
+    }
+
+    /**
+     * Adds the entity to the list it belongs to.
+     */
+    private void applyAdd(Target target, Object added) throws IllegalValueException {
+        switch (target) {
+        case MENU:
+            addMenu((Menu) added);
+            break;
+        case MEMBER:
+            addMember((Member) added);
+            break;
+        case EMPLOYEE:
+            addEmployee((Employee) added);
+            break;
+        case ORDER:
+            addOrder((Order) added);
+            break;
+        case ATTENDANCE:
+            addAttendance((Attendance) added);
+            break;
+        default:
+            throw new IllegalValueException("Unknown list: " + target);
+        }
+    }
+
+    /**
+     * Removes the equivalent entity from the list it belongs to.
+     */
+    private void applyRemove(Target target, Object removed) throws IllegalValueException, MemberNotFoundException,
+            EmployeeNotFoundException, MenuNotFoundException, OrderNotFoundException {
+        switch (target) {
+        case MENU:
+            removeMenuItem((ReadOnlyMenus) removed);
+            break;
+        case MEMBER:
+            removeMember((ReadOnlyMember) removed);
+            break;
+        case EMPLOYEE:
+            removeEmployee((ReadOnlyEmployee) removed);
+            break;
+        case ORDER:
+            removeOrder((ReadOnlyOrder) removed);
+            break;
+        case ATTENDANCE:
+            removeAttendance(findAttendanceOfSameEmployee((Attendance) removed));
+            break;
+        default:
+            throw new IllegalValueException("Unknown list: " + target);
+        }
+    }
+
+    /**
+     * Replaces or updates the equivalent entity in the list it belongs to.
+     */
+    private void applyUpdate(Target target, Object previous, Object current) throws IllegalValueException,
+            MemberNotFoundException, EmployeeNotFoundException {
+        switch (target) {
+        case MEMBER:
+            allMembers.updateMember((ReadOnlyMember) current);
+            recordChange(RmsChange.update(Target.MEMBER, null, current));
+            break;
+        case EMPLOYEE:
+            editEmployee((ReadOnlyEmployee) previous, (Employee) current);
+            break;
+        case ATTENDANCE:
+            updateAttendance(findAttendanceOfSameEmployee((Attendance) current), (Attendance) current);
+            break;
+        default:
+            throw new IllegalValueException("Entries of " + target + " cannot be updated");
+        }
+    }
+
+    /**
+     * Appends the entries of {@code appended} to the equivalent entity in the list it belongs to.
+     */
+    private void applyAppend(Target target, Object appended) throws IllegalValueException {
+        if (target != Target.ATTENDANCE) {
+            throw new IllegalValueException("Entries of " + target + " cannot be appended to");
+        }
+        final Attendance timings = (Attendance) appended;
+        final Attendance attendance = findAttendanceOfSameEmployee(timings);
+        for (int i = 0; i < timings.getTimingCount(); i++) {
+            addAttendanceTiming(attendance, timings.getTiming(i));
+        }
+    }
+
+    /**
+     * Clears the given list.
+     */
+    private void applyClear(Target target) throws IllegalValueException {
+        switch (target) {
+        case MENU:
+            clearMenu();
+            break;
+        case ORDER:
+            clearOrderList();
+            break;
+        default:
+            throw new IllegalValueException("Entries of " + target + " cannot be cleared");
+        }
+    }
+
+    /**
+     * Returns the attendance in this Rms of the employee that {@code attendance} belongs to.
+     *
+     * @throws IllegalValueException if the employee has no attendance in this Rms.
+     */
+    private Attendance findAttendanceOfSameEmployee(Attendance attendance) throws IllegalValueException {
+        try {
+            return findAttendance(attendance.getName());
+        } catch (AttendanceNotFoundException anfe) {
+            throw new IllegalValueException("Attendance not found: " + attendance.getName());
+        }
+    }
+
+    //@@author px1099
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
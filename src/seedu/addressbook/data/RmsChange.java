@@ -0,0 +1,90 @@
+package seedu.addressbook.data;
+
+//@@author agent
+/**
+ * Represents a single change made to the data of the Rms, so that it can be persisted or replayed
+ * without touching the entities that were not changed.
+ *
+ * The changed entity is referenced rather than copied; its state is read when the change is persisted.
+ */
+public class RmsChange {
+
+    /**
+     * The kinds of changes that can be made to a list in the Rms.
+     */
+    public enum Action {
+        ADD,
+        REMOVE,
+        /** Replaces {@code previous} with {@code current}, or updates the state of {@code current} in place. */
+        UPDATE,
+        /** Appends the entries held by {@code current} to the equivalent entity, e.g. timings to an attendance. */
+        APPEND,
+        CLEAR
+    }
+
+    /**
+     * The lists of the Rms that can be changed.
+     */
+    public enum Target {
+        MENU,
+        MEMBER,
+        EMPLOYEE,
+        ORDER,
+        ATTENDANCE
+    }
+
+    private final Action action;
+    private final Target target;
+    private final Object previous;
+    private final Object current;
+
+    public RmsChange(Action action, Target target, Object previous, Object current) {
+        this.action = action;
+        this.target = target;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static RmsChange add(Target target, Object added) {
+        return new RmsChange(Action.ADD, target, null, added);
+    }
+
+    public static RmsChange remove(Target target, Object removed) {
+        return new RmsChange(Action.REMOVE, target, null, removed);
+    }
+
+    public static RmsChange update(Target target, Object previous, Object current) {
+        return new RmsChange(Action.UPDATE, target, previous, current);
+    }
+
+    public static RmsChange append(Target target, Object appended) {
+        return new RmsChange(Action.APPEND, target, null, appended);
+    }
+
+    public static RmsChange clear(Target target) {
+        return new RmsChange(Action.CLEAR, target, null, null);
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the entity replaced by an {@code UPDATE}, or null if the entity was updated in place.
+     */
+    public Object getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Returns the entity that was added, removed or updated, the entries appended to an entity,
+     * or null for a {@code CLEAR}.
+     */
+    public Object getCurrent() {
+        return current;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.addressbook.data.employee;
 
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -9,13 +10,27 @@ import java.util.Set;
  * Represents an Attendance list in the Rms.
  * Guarantees: EmployeeName is present, not null and validated
  *             as this command only works when an employee has been properly created.
+ *
+ * The clock events are kept as an append-only timeline in a primitive array, so clocking in or out does not
+ * copy the earlier events.
  */
 public class Attendance {
+    //@@author agent
+    private static final int INITIAL_CAPACITY = 8;
+
+    //@@author kianhong95
     private String name;
     private boolean isClockedIn;
 
-    private final Set<Timing> timings = new LinkedHashSet<>();
+    //@@author agent
+    /**
+     * The clock events in the order they were made. Each event is its epoch second shifted left by one bit,
+     * with the lowest bit set for a clock in.
+     */
+    private long[] events = new long[INITIAL_CAPACITY];
+    private int eventCount = 0;
 
+    //@@author kianhong95
     public Attendance(){}
 
     public Attendance(String name) {
@@ -23,17 +38,26 @@ public class Attendance {
         this.isClockedIn = false;
     }
 
+    /**
+     * Constructs an attendance with the given timings, in their iteration order.
+     */
     public Attendance(String name, boolean isClockedIn, Set<Timing> timings) {
         this.name = name;
         this.isClockedIn = isClockedIn;
-        this.timings.addAll(timings);
+        events = new long[Math.max(timings.size(), INITIAL_CAPACITY)];
+        for (Timing timing : timings) {
+            appendEvent(timing.getEpochSecond(), timing.isClockIn);
+        }
     }
 
     /**
      * Copy constructor.
      */
     public Attendance(Attendance source) {
-        this(source.getName(), source.getClockedIn(), source.getTimings());
+        this.name = source.name;
+        this.isClockedIn = source.isClockedIn;
+        this.events = Arrays.copyOf(source.events, Math.max(source.eventCount, INITIAL_CAPACITY));
+        this.eventCount = source.eventCount;
     }
 
     public String getName() {
@@ -44,13 +68,121 @@ public class Attendance {
         return isClockedIn;
     }
 
+    //@@author agent
+    /**
+     * Appends a clock event at the end of the timeline, and clocks the employee in or out accordingly.
+     * An event equal to one already recorded is ignored.
+     */
+    public void addTiming(Timing timing) {
+        final long epochSecond = timing.getEpochSecond();
+        if (!containsEvent(epochSecond, timing.isClockIn)) {
+            appendEvent(epochSecond, timing.isClockIn);
+        }
+        isClockedIn = timing.isClockIn;
+    }
+
+    /**
+     * Appends the event to the timeline, growing the array when it is full.
+     */
+    private void appendEvent(long epochSecond, boolean isClockIn) {
+        if (eventCount == events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+        }
+        events[eventCount++] = (epochSecond << 1) | (isClockIn ? 1 : 0);
+    }
+
+    /**
+     * Returns true if the event was already recorded. Events are appended in time order, so only the most
+     * recent events at the same second need to be checked.
+     */
+    private boolean containsEvent(long epochSecond, boolean isClockIn) {
+        final long event = (epochSecond << 1) | (isClockIn ? 1 : 0);
+        for (int i = eventCount - 1; i >= 0 && (events[i] >> 1) >= epochSecond; i--) {
+            if (events[i] == event) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of clock events recorded.
+     */
+    public int getTimingCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the epoch second of the clock event at the given position in the timeline.
+     *
+     * @throws IndexOutOfBoundsException if there is no such event.
+     */
+    public long getEpochSecond(int index) {
+        return getEvent(index) >> 1;
+    }
+
+    /**
+     * Returns true if the clock event at the given position in the timeline is a clock in.
+     *
+     * @throws IndexOutOfBoundsException if there is no such event.
+     */
+    public boolean isClockIn(int index) {
+        return (getEvent(index) & 1) == 1;
+    }
+
+    /**
+     * Returns the clock event at the given position in the timeline as a Timing.
+     *
+     * @throws IndexOutOfBoundsException if there is no such event.
+     */
+    public Timing getTiming(int index) {
+        return new Timing(getEpochSecond(index), isClockIn(index));
+    }
+
+    private long getEvent(int index) {
+        if (index < 0 || index >= eventCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + eventCount);
+        }
+        return events[index];
+    }
+
+    /**
+     * Returns the position of the first clock event at or after the given epoch second, or the number of events
+     * if there is none, so that the events in a time range can be iterated by position.
+     */
+    public int indexOfFirstEventAtOrAfter(long epochSecond) {
+        int low = 0;
+        int high = eventCount;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if ((events[mid] >> 1) < epochSecond) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns all the clock events as Timings, in the order they were made.
+     */
     public Set<Timing> getTimings() {
-        return new LinkedHashSet<>(timings);
+        final Set<Timing> timings = new LinkedHashSet<>();
+        for (int i = 0; i < eventCount; i++) {
+            timings.add(getTiming(i));
+        }
+        return timings;
     }
 
+    //@@author kianhong95
     @Override
     public int hashCode() {
-        return Objects.hash(name, isClockedIn , timings);
+        int eventsHash = 1;
+        for (int i = 0; i < eventCount; i++) {
+            eventsHash = 31 * eventsHash + Long.hashCode(events[i]);
+        }
+        return Objects.hash(name, isClockedIn, eventsHash);
     }
 
     @Override
@@ -64,9 +196,15 @@ public class Attendance {
                 || (other instanceof Attendance // instanceof handles nulls
                 && this.name.equals(((Attendance) other).name)
                 && this.isClockedIn == ((Attendance) other).isClockedIn
-                && this.timings.equals(((Attendance) other).timings)); // state check
+                && this.hasSameEvents((Attendance) other)); // state check
+    }
+
+    //@@author agent
+    private boolean hasSameEvents(Attendance other) {
+        return Arrays.equals(events, 0, eventCount, other.events, 0, other.eventCount);
     }
 
+    //@@author kianhong95
     /**
      * Formats the attendance as text, showing all check in and check out timings.
      */
@@ -74,8 +212,8 @@ public class Attendance {
         final StringBuilder builder = new StringBuilder();
         builder.append(getName())
                 .append(" Timings: ");
-        for (Timing timing : getTimings()) {
-            builder.append(timing);
+        for (int i = 0; i < eventCount; i++) {
+            builder.append(getTiming(i));
         }
         return builder.toString();
     }
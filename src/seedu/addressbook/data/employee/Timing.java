@@ -1,48 +1,97 @@
 package seedu.addressbook.data.employee;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Objects;
 
 //@@author kianhong95
 /**
  * Represents a Timing field in the Rms.
+ * The timing is kept as an epoch second; it is only formatted as a time and date when displayed.
  */
 public class Timing {
 
-    public final String time;
-    public final String date;
+    //@@author agent
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    //@@author kianhong95
     public final boolean isClockIn;
 
+    //@@author agent
+    private final long epochSecond;
 
-    public Timing(String time, String date, boolean isClockIn) {
-        this.time = time;
-        this.date = date;
+    public Timing(long epochSecond, boolean isClockIn) {
+        this.epochSecond = epochSecond;
         this.isClockIn = isClockIn;
     }
 
+    /**
+     * Constructs the timing at the given time and date, in the system time zone.
+     *
+     * @throws DateTimeParseException if the time or date is not in the expected format.
+     */
+    public Timing(String time, String date, boolean isClockIn) {
+        this(LocalDateTime.of(LocalDate.parse(date, DATE_FORMATTER), LocalTime.parse(time, TIME_FORMATTER))
+                .atZone(ZoneId.systemDefault()).toEpochSecond(), isClockIn);
+    }
+
+    /**
+     * Returns the timing of the current instant, truncated to the minute as timings are only displayed
+     * and stored to the minute.
+     */
+    public static Timing now(boolean isClockIn) {
+        final long currentSecond = Instant.now().getEpochSecond();
+        return new Timing(currentSecond - Math.floorMod(currentSecond, 60L), isClockIn);
+    }
+
+    public long getEpochSecond() {
+        return epochSecond;
+    }
+
+    /**
+     * Returns the time of this timing in the system time zone, formatted as {@code HH:mm}.
+     */
+    public String getTime() {
+        return toLocalDateTime().format(TIME_FORMATTER);
+    }
+
+    /**
+     * Returns the date of this timing in the system time zone, formatted as {@code dd/MM/yyyy}.
+     */
     public String getDate() {
-        return date;
+        return toLocalDateTime().format(DATE_FORMATTER);
+    }
+
+    private LocalDateTime toLocalDateTime() {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
     }
 
+    //@@author kianhong95
     public boolean isClockIn() {
         return isClockIn;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(time, date, isClockIn);
+        return Objects.hash(epochSecond, isClockIn);
     }
 
     @Override
     public String toString() {
-        return "Date = " + date + " Time = " + time + " isClockIn = " + isClockIn;
+        return "Date = " + getDate() + " Time = " + getTime() + " isClockIn = " + isClockIn;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Timing // instanceof handles nulls
-                && this.time.equals(((Timing) other).time)
-                && this.date.equals(((Timing) other).date)
+                && this.epochSecond == ((Timing) other).epochSecond
                 && this.isClockIn == ((Timing) other).isClockIn); // state check
     }
 }
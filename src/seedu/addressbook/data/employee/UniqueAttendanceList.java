@@ -1,19 +1,30 @@
 package seedu.addressbook.data.employee;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 //@@author kianhong95
 /**
- * A list of attendance timings. Does not allow null elements.
+ * A list of attendance timings, one per employee, in the order they were added. Does not allow null elements.
+ * The attendance of an employee is looked up by the employee's name in constant time.
  */
 public class UniqueAttendanceList implements Iterable<Attendance> {
 
-    private final List<Attendance> attendanceInternalList = new ArrayList<>();
+    //@@author agent
+    /** Attendance keyed by the name of its employee, iterated in insertion order. */
+    private final Map<String, Attendance> attendanceInternalMap = new LinkedHashMap<>();
 
+    /**
+     * Signals that an operation targeting the attendance of an employee would fail because
+     * there is no attendance for that employee in the list.
+     */
+    public static class AttendanceNotFoundException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    //@@author kianhong95
     /**
      * Constructs empty attendance list.
      */
@@ -23,8 +34,9 @@ public class UniqueAttendanceList implements Iterable<Attendance> {
      * Constructs an attendance list with the given attendance timings.
      */
     public UniqueAttendanceList(Attendance... attendances) {
-        final List<Attendance> initialTags = Arrays.asList(attendances);
-        attendanceInternalList.addAll(initialTags);
+        for (Attendance attendance : attendances) {
+            add(attendance);
+        }
     }
 
     /**
@@ -32,72 +44,91 @@ public class UniqueAttendanceList implements Iterable<Attendance> {
      * @param attendances a collection of attendance
      */
     public UniqueAttendanceList(Collection<Attendance> attendances) {
-        attendanceInternalList.addAll(attendances);
+        for (Attendance attendance : attendances) {
+            add(attendance);
+        }
     }
 
     /**
      * Constructs a shallow copy of the list.
      */
     public UniqueAttendanceList(UniqueAttendanceList source) {
-        attendanceInternalList.addAll(source.attendanceInternalList);
+        attendanceInternalMap.putAll(source.attendanceInternalMap);
     }
 
     /**
-     * Adds an attendance to the list.
+     * Adds an attendance to the list, replacing any attendance of the same employee.
      */
     public void add(Attendance toAdd) {
-        attendanceInternalList.add(toAdd);
+        attendanceInternalMap.put(toAdd.getName(), toAdd);
     }
 
     /**
-     * Removes the equivalent employee from the list.
+     * Removes the equivalent attendance from the list.
      */
     public void remove(Attendance toRemove) {
-        attendanceInternalList.remove(toRemove);
+        attendanceInternalMap.remove(toRemove.getName(), toRemove);
     }
 
+    //@@author agent
     /**
-     * Gets index of the specified Attendance object.
+     * Gets the attendance of the employee with the given name.
+     *
+     * @throws AttendanceNotFoundException if the employee has no attendance in the list.
      */
-    public int getAttendanceIndex(String target) {
-        for (Attendance attendance : attendanceInternalList) {
-            if (attendance.getName().equals(target)) {
-                return attendanceInternalList.indexOf(attendance);
-            }
+    public Attendance getAttendance(String name) throws AttendanceNotFoundException {
+        final Attendance attendance = attendanceInternalMap.get(name);
+        if (attendance == null) {
+            throw new AttendanceNotFoundException();
         }
-        return -1;
+        return attendance;
     }
 
+    //@@author kianhong95
     /**
-     * Gets the Attendance object at target index.
-     */
-    public Attendance getAttendance(int target) {
-        return attendanceInternalList.get(target);
-    }
-
-    /**
-     * Adds a time field to the attendance for the specified employee in the list.
+     * Replaces the attendance of an employee with the updated attendance, keeping its position in the list.
      */
     public void setAttendance(Attendance target, Attendance newAttendance) {
-        int index = attendanceInternalList.indexOf(target);
+        attendanceInternalMap.replace(target.getName(), newAttendance);
+    }
 
-        attendanceInternalList.set(index, newAttendance);
+    //@@author agent
+    public int size() {
+        return attendanceInternalMap.size();
     }
 
+    //@@author kianhong95
     @Override
     public Iterator<Attendance> iterator() {
-        return attendanceInternalList.iterator();
+        return attendanceInternalMap.values().iterator();
     }
 
+    //@@author agent
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof UniqueAttendanceList // instanceof handles nulls
-                && this.attendanceInternalList.equals(((UniqueAttendanceList) other).attendanceInternalList));
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof UniqueAttendanceList) // instanceof handles nulls
+                || this.size() != ((UniqueAttendanceList) other).size()) {
+            return false;
+        }
+        // the order of the attendance matters, as it does for the other lists
+        final Iterator<Attendance> otherIterator = ((UniqueAttendanceList) other).iterator();
+        for (Attendance attendance : this) {
+            if (!attendance.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return attendanceInternalList.hashCode();
+        int hashCode = 1;
+        for (Attendance attendance : this) {
+            hashCode = 31 * hashCode + attendance.hashCode();
+        }
+        return hashCode;
     }
 }
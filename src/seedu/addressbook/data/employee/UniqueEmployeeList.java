@@ -1,26 +1,53 @@
 package seedu.addressbook.data.employee;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
 
 //@@author kianhong95
 /**
- * A list of employees. Does not allow null elements or duplicates.
+ * A list of employees. Does not allow null elements or employees with the same name, ignoring case.
+ *
+ * Each employee is given an id when added, which it keeps when edited, so an edited employee keeps its
+ * position in the list. Employees are indexed by their id and by their case-insensitive name, so adding,
+ * editing, removing and looking up an employee take constant time.
  *
  * @see Employee#equals(Object)
- * @see Utils#elementsAreUnique(Collection)
  */
 public class UniqueEmployeeList implements Iterable<Employee> {
 
-    private final List<Employee> employeeInternalList = new ArrayList<>();
+    //@@author agent
+    /** Employees keyed by their id, iterated in the order they were added. */
+    private final Map<Long, Employee> employeeInternalMap = new LinkedHashMap<>();
+    /** Ids of the employees, keyed by their normalized name. */
+    private final Map<String, Long> idsByName = new HashMap<>();
+    private long nextId = 0;
+
+    /** The employees in display order, taken from the map on the first read after the list changes. */
+    private Employee[] employeesInOrder;
+    private final List<ReadOnlyEmployee> listView = new AbstractList<ReadOnlyEmployee>() {
+        @Override
+        public ReadOnlyEmployee get(int index) {
+            if (employeesInOrder == null) {
+                employeesInOrder = employeeInternalMap.values().toArray(new Employee[0]);
+            }
+            return employeesInOrder[index];
+        }
+
+        @Override
+        public int size() {
+            return employeeInternalMap.size();
+        }
+    };
 
+    //@@author kianhong95
     /**
      * Signals that an operation would have violated the 'no duplicates' property of the list.
      */
@@ -45,11 +72,9 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      * Constructs an employee list with the given employees.
      */
     public UniqueEmployeeList(Employee... employees) throws DuplicateEmployeeException {
-        final List<Employee> initialTags = Arrays.asList(employees);
-        if (!Utils.elementsAreUnique(initialTags)) {
-            throw new DuplicateEmployeeException();
+        for (Employee employee : employees) {
+            add(employee);
         }
-        employeeInternalList.addAll(initialTags);
     }
 
     /**
@@ -58,39 +83,61 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      * @throws DuplicateEmployeeException if the {@code employees} contains duplicate employees
      */
     public UniqueEmployeeList(Collection<Employee> employees) throws DuplicateEmployeeException {
-        if (!Utils.elementsAreUnique(employees)) {
-            throw new DuplicateEmployeeException();
+        for (Employee employee : employees) {
+            add(employee);
         }
-        employeeInternalList.addAll(employees);
     }
 
     /**
-     * Constructs a shallow copy of the list.
+     * Constructs a shallow copy of the list. The employees keep their ids.
      */
     public UniqueEmployeeList(UniqueEmployeeList source) {
-        employeeInternalList.addAll(source.employeeInternalList);
+        employeeInternalMap.putAll(source.employeeInternalMap);
+        idsByName.putAll(source.idsByName);
+        nextId = source.nextId;
     }
 
+    /**
+     * Returns an unmodifiable view of the employees in display order, which reflects later changes to the list.
+     */
     public List<ReadOnlyEmployee> immutableListView() {
-        return Collections.unmodifiableList(employeeInternalList);
+        return listView;
+    }
+
+    //@@author agent
+    /**
+     * Returns the name of the employee in the form used to index it, so that names differing only in case
+     * are treated as the same.
+     */
+    private static String normalizeName(ReadOnlyEmployee employee) {
+        return employee.getName().toString().trim().toLowerCase();
     }
 
+    //@@author kianhong95
     /**
-     * Checks if the list contains an employee that already exists in Rms.
+     * Checks if the list contains an employee with the same name, ignoring case, as the given employee.
      */
     public boolean containsDuplicate(ReadOnlyEmployee toCheck) {
-        String nameToCheck = toCheck.getName().toString().toLowerCase();
-        for (ReadOnlyEmployee employee: employeeInternalList) {
-            String employeeName = employee.getName().toString().toLowerCase();
-            if (employeeName.equals(nameToCheck)) {
-                return true;
-            }
+        return idsByName.containsKey(normalizeName(toCheck));
+    }
+
+    //@@author agent
+    /**
+     * Returns the id of the employee equal to the given employee.
+     *
+     * @throws EmployeeNotFoundException if no such employee could be found in the list.
+     */
+    private long getIdOf(ReadOnlyEmployee employee) throws EmployeeNotFoundException {
+        final Long id = idsByName.get(normalizeName(employee));
+        if (id == null || !employeeInternalMap.get(id).equals(employee)) {
+            throw new EmployeeNotFoundException();
         }
-        return false;
+        return id;
     }
 
+    //@@author kianhong95
     /**
-     * Adds an employee to the list.
+     * Adds an employee to the end of the list.
      *
      * @throws UniqueEmployeeList.DuplicateEmployeeException
      *     if the employee to add is a duplicate of an existing employee in the list.
@@ -99,7 +146,10 @@ public class UniqueEmployeeList implements Iterable<Employee> {
         if (containsDuplicate(toAdd)) {
             throw new UniqueEmployeeList.DuplicateEmployeeException();
         }
-        employeeInternalList.add(toAdd);
+        final long id = nextId++;
+        employeeInternalMap.put(id, toAdd);
+        idsByName.put(normalizeName(toAdd), id);
+        employeesInOrder = null;
     }
 
 
@@ -109,39 +159,72 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      * @throws EmployeeNotFoundException if no such employee could be found in the list.
      */
     public void remove(ReadOnlyEmployee toRemove) throws EmployeeNotFoundException {
-        final boolean employeeFoundAndDeleted = employeeInternalList.remove(toRemove);
-        if (!employeeFoundAndDeleted) {
-            throw new EmployeeNotFoundException();
-        }
+        final long id = getIdOf(toRemove);
+        employeeInternalMap.remove(id);
+        idsByName.remove(normalizeName(toRemove));
+        employeesInOrder = null;
     }
 
+    //@@author agent
     /**
-     * Removes the equivalent employee from the list.
+     * Replaces the equivalent employee in the list with the edited employee, which keeps the id and
+     * position of the employee it replaces.
      *
      * @throws EmployeeNotFoundException if no such employee could be found in the list.
+     * @throws DuplicateEmployeeException if the edited employee is renamed to the name of another employee.
      */
-    public void edit(ReadOnlyEmployee toRemove, Employee toReplace) throws EmployeeNotFoundException {
-        final boolean employeeFoundAndDeleted = employeeInternalList.remove(toRemove);
-        if (!employeeFoundAndDeleted) {
-            throw new EmployeeNotFoundException();
+    public void edit(ReadOnlyEmployee toRemove, Employee toReplace)
+            throws EmployeeNotFoundException, DuplicateEmployeeException {
+        final long id = getIdOf(toRemove);
+        final String oldName = normalizeName(toRemove);
+        final String newName = normalizeName(toReplace);
+        if (!oldName.equals(newName)) {
+            if (idsByName.containsKey(newName)) {
+                throw new DuplicateEmployeeException();
+            }
+            idsByName.remove(oldName);
+            idsByName.put(newName, id);
         }
-        employeeInternalList.add(toReplace);
+        employeeInternalMap.put(id, toReplace);
+        employeesInOrder = null;
     }
 
+    public int size() {
+        return employeeInternalMap.size();
+    }
+
+    //@@author kianhong95
     @Override
     public Iterator<Employee> iterator() {
-        return employeeInternalList.iterator();
+        return Collections.unmodifiableCollection(employeeInternalMap.values()).iterator();
     }
 
+    //@@author agent
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof UniqueEmployeeList // instanceof handles nulls
-                && this.employeeInternalList.equals(((UniqueEmployeeList) other).employeeInternalList));
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof UniqueEmployeeList) // instanceof handles nulls
+                || this.size() != ((UniqueEmployeeList) other).size()) {
+            return false;
+        }
+        // the ids are not compared, only the employees in their display order
+        final Iterator<Employee> otherIterator = ((UniqueEmployeeList) other).iterator();
+        for (Employee employee : this) {
+            if (!employee.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return employeeInternalList.hashCode();
+        int hashCode = 1;
+        for (Employee employee : this) {
+            hashCode = 31 * hashCode + employee.hashCode();
+        }
+        return hashCode;
     }
 }
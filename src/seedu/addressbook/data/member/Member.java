@@ -1,8 +1,9 @@
 package seedu.addressbook.data.member;
 
-import java.util.Date;
+import java.time.Instant;
 import java.util.Objects;
 
+import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.IllegalValueException;
 
 //@@author kangmingtay
@@ -17,7 +18,7 @@ public class Member implements ReadOnlyMember {
     private MemberName name;
     private MemberEmail email;
     private Points points;
-    private Date date;
+    private Instant date;
     private MemberTier tier;
 
     public Member() {
@@ -29,7 +30,7 @@ public class Member implements ReadOnlyMember {
             this.email = null;
         }
         this.points = new Points();
-        this.date = new Date();
+        this.date = Utils.currentInstant();
         this.tier = new MemberTier();
     }
 
@@ -37,11 +38,11 @@ public class Member implements ReadOnlyMember {
         this.name = name;
         this.email = email;
         this.points = new Points();
-        this.date = new Date();
+        this.date = Utils.currentInstant();
         this.tier = new MemberTier();
     }
 
-    public Member(MemberName name, MemberEmail email, Points points, Date date, MemberTier tier) {
+    public Member(MemberName name, MemberEmail email, Points points, Instant date, MemberTier tier) {
         this.name = name;
         this.email = email;
         this.points = points;
@@ -80,7 +81,7 @@ public class Member implements ReadOnlyMember {
     }
 
     @Override
-    public Date getDate() {
+    public Instant getDate() {
         return date;
     }
 
@@ -101,8 +102,14 @@ public class Member implements ReadOnlyMember {
         tier.updateTier(points);
     }
 
+    //@@author agent
+    public void setPointsAndTier(Points points, MemberTier tier) {
+        this.points = points;
+        this.tier = tier;
+    }
 
 
+    //@@author kangmingtay
     /**
      * Updates the points and membership tier of the member
      */
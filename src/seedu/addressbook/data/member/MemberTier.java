@@ -11,10 +11,44 @@ public class MemberTier {
     public static final int SILVER_TIER = 200;
     public static final int BRONZE_TIER = 0;
 
+    //@@author agent
+    /**
+     * The tiers a member can be in, from the lowest to the highest.
+     */
+    public enum Level {
+        BRONZE("Bronze"),
+        SILVER("Silver"),
+        GOLD("Gold");
+
+        private final String value;
+
+        Level(String value) {
+            this.value = value;
+        }
+
+        /**
+         * Returns the level with the given name ignoring case, or null if there is none.
+         */
+        public static Level fromValue(String value) {
+            for (Level level : values()) {
+                if (level.value.equalsIgnoreCase(value)) {
+                    return level;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    //@@author kangmingtay
     private String tier;
 
     public MemberTier() {
-        this.tier = "Bronze";
+        this.tier = Level.BRONZE.value;
     }
 
     public MemberTier(String tier) {
@@ -26,6 +60,15 @@ public class MemberTier {
         return tier;
     }
 
+    //@@author agent
+    /**
+     * Returns the level of this tier, or null if the tier is not one of the known levels.
+     */
+    public Level getLevel() {
+        return Level.fromValue(tier);
+    }
+
+    //@@author kangmingtay
     /**
      * Checks the points and updates the existing tier.
      * @param points the number of Member points used for tier checking
@@ -33,11 +76,11 @@ public class MemberTier {
     public void updateTier(Points points) {
         int value = points.getCurrentPoints();
         if (value > GOLD_TIER) {
-            this.tier = "Gold";
+            this.tier = Level.GOLD.value;
         } else if (value > SILVER_TIER) {
-            this.tier = "Silver";
+            this.tier = Level.SILVER.value;
         } else if (value >= BRONZE_TIER) {
-            this.tier = "Bronze";
+            this.tier = Level.BRONZE.value;
         }
     }
 }
@@ -0,0 +1,158 @@
+package seedu.addressbook.data.member;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+//@@author agent
+/**
+ * A trie over the lower-cased words of member names and member emails, for looking up members by the prefix
+ * of a word or by a word that is at most one typo away.
+ */
+class MemberTrie {
+
+    /** How well a query word matched a term of a member; a better match has a higher value. */
+    static final int EXACT_MATCH = 3;
+    static final int PREFIX_MATCH = 2;
+    static final int TYPO_MATCH = 1;
+
+    private final Node root = new Node();
+
+    /**
+     * A node of the trie, holding the members having a term that ends at the node.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Member> members = new LinkedHashSet<>();
+    }
+
+    /**
+     * Returns the terms under which the member is indexed: the words of the name and the whole email.
+     */
+    static Set<String> termsOf(ReadOnlyMember member) {
+        final Set<String> terms = new LinkedHashSet<>();
+        for (String word : member.getName().fullName.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                terms.add(word);
+            }
+        }
+        final String email = member.getEmail().value.toLowerCase();
+        if (!email.isEmpty()) {
+            terms.add(email);
+        }
+        return terms;
+    }
+
+    /**
+     * Adds the member to the nodes of its terms, creating the nodes that are missing.
+     */
+    void add(Member member) {
+        for (String term : termsOf(member)) {
+            Node node = root;
+            for (char c : term.toCharArray()) {
+                node = node.children.computeIfAbsent(c, unused -> new Node());
+            }
+            node.members.add(member);
+        }
+    }
+
+    /**
+     * Removes the member from the nodes of its terms, pruning the nodes left empty.
+     */
+    void remove(ReadOnlyMember member) {
+        for (String term : termsOf(member)) {
+            remove(root, term, 0, member);
+        }
+    }
+
+    /**
+     * Removes the member from the node of {@code term} below {@code node}.
+     * Returns true if {@code node} is left with no members and no children.
+     */
+    private boolean remove(Node node, String term, int depth, ReadOnlyMember member) {
+        if (depth == term.length()) {
+            node.members.remove(member);
+        } else {
+            final char c = term.charAt(depth);
+            final Node child = node.children.get(c);
+            if (child != null && remove(child, term, depth + 1, member)) {
+                node.children.remove(c);
+            }
+        }
+        return node.members.isEmpty() && node.children.isEmpty();
+    }
+
+    /**
+     * Adds to {@code matches} the members having a term that the lower-cased {@code word} matches, each with
+     * the best match quality found so far: an exact match, a prefix of the term, or a term at an edit distance
+     * of one from the word.
+     */
+    void collectMatches(String word, Map<Member, Integer> matches) {
+        final Node prefixNode = findNode(word);
+        if (prefixNode != null) {
+            collectSubtree(prefixNode, PREFIX_MATCH, matches);
+            recordMatches(prefixNode.members, EXACT_MATCH, matches);
+        }
+        final int[] firstRow = new int[word.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        for (Map.Entry<Character, Node> child : root.children.entrySet()) {
+            collectTypoMatches(child.getValue(), child.getKey(), word, firstRow, matches);
+        }
+    }
+
+    /**
+     * Returns the node reached by following {@code prefix} from the root, or null if there is none.
+     */
+    private Node findNode(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Records the members of all the terms ending at or below {@code node} with the given match quality.
+     */
+    private static void collectSubtree(Node node, int quality, Map<Member, Integer> matches) {
+        recordMatches(node.members, quality, matches);
+        for (Node child : node.children.values()) {
+            collectSubtree(child, quality, matches);
+        }
+    }
+
+    /**
+     * Walks the trie below {@code node} with one row of the Levenshtein table per character, and records the
+     * members of the terms within an edit distance of one from {@code word}.
+     * A branch is abandoned as soon as every entry of its row exceeds one.
+     */
+    private static void collectTypoMatches(Node node, char c, String word, int[] previousRow,
+                                           Map<Member, Integer> matches) {
+        final int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMinimum = row[0];
+        for (int i = 1; i < row.length; i++) {
+            final int substitutionCost = (word.charAt(i - 1) == c) ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + substitutionCost);
+            rowMinimum = Math.min(rowMinimum, row[i]);
+        }
+        if (row[row.length - 1] <= 1) {
+            recordMatches(node.members, TYPO_MATCH, matches);
+        }
+        if (rowMinimum > 1) {
+            return;
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            collectTypoMatches(child.getValue(), child.getKey(), word, row, matches);
+        }
+    }
+
+    private static void recordMatches(Set<Member> members, int quality, Map<Member, Integer> matches) {
+        for (Member member : members) {
+            matches.merge(member, quality, Math::max);
+        }
+    }
+}
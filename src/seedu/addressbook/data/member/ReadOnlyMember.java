@@ -1,6 +1,8 @@
 package seedu.addressbook.data.member;
 
-import java.util.Date;
+import java.time.Instant;
+
+import seedu.addressbook.common.Utils;
 
 //@@author kangmingtay
 /**
@@ -12,7 +14,7 @@ public interface ReadOnlyMember {
     MemberName getName();
     MemberEmail getEmail();
     Points getCurrentPoints();
-    Date getDate();
+    Instant getDate();
     MemberTier getMemberTier();
     int getCurrentPointsValue();
     int getTotalPointsValue();
@@ -45,7 +47,7 @@ public interface ReadOnlyMember {
         builder.append(" | Available Points: ").append(getCurrentPointsValue());
         builder.append(" | Total Points: ").append(getTotalPointsValue());
         builder.append(" | Tier: ").append(getMemberTier().toString());
-        builder.append(" | Date: ").append(getDate());
+        builder.append(" | Date: ").append(Utils.formatInstant(getDate()));
         builder.append("\n");
         return builder.toString();
     }
@@ -1,14 +1,22 @@
 package seedu.addressbook.data.member;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
+import seedu.addressbook.data.member.MemberTier.Level;
+import seedu.addressbook.data.statistics.MemberDateTable;
 
 //@@author kangmingtay
 /**
@@ -19,8 +27,30 @@ import seedu.addressbook.data.exception.DuplicateDataException;
  */
 public class UniqueMemberList implements Iterable<Member> {
 
+    //@@author agent
+    /** The maximum number of members returned by {@link #find(Collection)}. */
+    public static final int MAX_FIND_RESULTS = 10;
+
+    //@@author kangmingtay
     private final List<Member> internalList = new ArrayList<>();
 
+    //@@author agent
+    /**
+     * The lookup index of the members and the order in which they were added to the list, built on the first
+     * lookup and maintained from then on, so that copies of the list which are never searched do not pay for it.
+     */
+    private MemberTrie memberTrie;
+    private final Map<Member, Long> sequenceNumbers = new HashMap<>();
+    private long nextSequenceNumber = 0;
+
+    /**
+     * The number of members of each tier level, by the ordinal of the level, and the registering days of the
+     * members, built on the first lookup and maintained from then on.
+     */
+    private int[] countsByTier;
+    private MemberDateTable signupDates;
+
+    //@@author kangmingtay
     /**
      * Signals that an operation would have violated the 'no duplicates' property of the list.
      */
@@ -98,6 +128,11 @@ public class UniqueMemberList implements Iterable<Member> {
             throw new DuplicateMemberException();
         }
         internalList.add(toAdd);
+        if (memberTrie != null) {
+            memberTrie.add(toAdd);
+            sequenceNumbers.put(toAdd, nextSequenceNumber++);
+        }
+        adjustCounts(toAdd, 1);
     }
 
     /**
@@ -106,10 +141,50 @@ public class UniqueMemberList implements Iterable<Member> {
      * @throws MemberNotFoundException if no such member could be found in the list.
      */
     public void remove(ReadOnlyMember toRemove) throws MemberNotFoundException {
-        final boolean memberFoundAndDeleted = internalList.remove(toRemove);
-        if (!memberFoundAndDeleted) {
+        final int index = internalList.indexOf(toRemove);
+        if (index < 0) {
             throw new MemberNotFoundException();
         }
+        adjustCounts(internalList.remove(index), -1);
+        if (memberTrie != null) {
+            memberTrie.remove(toRemove);
+            sequenceNumbers.remove(toRemove);
+        }
+    }
+
+    //@@author agent
+    /**
+     * Returns the members having a name word or an email that one of the lower-cased {@code words} is a prefix
+     * of, or is at most one typo away from, best matches first, and at most {@link #MAX_FIND_RESULTS} of them.
+     * Members matching more of the words, and matching them more closely, are ranked first; the other ties keep
+     * the order of the list.
+     */
+    public List<ReadOnlyMember> find(Collection<String> words) {
+        final MemberTrie trie = getMemberTrie();
+        final Map<Member, Integer> scores = new HashMap<>();
+        for (String word : words) {
+            final Map<Member, Integer> matches = new HashMap<>();
+            trie.collectMatches(word, matches);
+            for (Map.Entry<Member, Integer> match : matches.entrySet()) {
+                scores.merge(match.getKey(), match.getValue(), Integer::sum);
+            }
+        }
+        final List<Member> found = new ArrayList<>(scores.keySet());
+        found.sort(Comparator.<Member>comparingInt(scores::get).reversed()
+                .thenComparingLong(sequenceNumbers::get));
+        return Collections.unmodifiableList(new ArrayList<>(found.subList(0, Math.min(found.size(),
+                MAX_FIND_RESULTS))));
+    }
+
+    private MemberTrie getMemberTrie() {
+        if (memberTrie == null) {
+            memberTrie = new MemberTrie();
+            for (Member member : internalList) {
+                memberTrie.add(member);
+                sequenceNumbers.put(member, nextSequenceNumber++);
+            }
+        }
+        return memberTrie;
     }
 
     //@@author px1099
@@ -126,15 +201,132 @@ public class UniqueMemberList implements Iterable<Member> {
         return new Member(target);
     }
 
+    //@@author agent
+    /**
+     *  Looks up a member in another feature in an index of members keyed by themselves.
+     *  Returns the member if found, else create a new Member using the data from the member in the order
+     */
+    public static Member retrieveMember(ReadOnlyMember target, Map<ReadOnlyMember, Member> memberIndex) {
+        final Member member = memberIndex.get(target);
+        return (member != null) ? member : new Member(target);
+    }
+
+    //@@author px1099
     /**
      * Update the member points of a customer
      * @param target the ReadOnlyMember interface of the Member object to update points
      * @param price the price of the order made by the customer
      * @param usedPoints the redeemed points the customer used in the order
+     * @return the Member object whose points were updated
      */
-    public void updatePointsOfCustomer(ReadOnlyMember target, double price, int usedPoints) {
+    public Member updatePointsOfCustomer(ReadOnlyMember target, double price, int usedPoints) {
         final Member customerToUpdatePoints = retrieveMember(target, internalList);
+        final Level previousLevel = customerToUpdatePoints.getMemberTier().getLevel();
         customerToUpdatePoints.updatePointsAndTier(price, usedPoints);
+        if (internalList.contains(customerToUpdatePoints)) {
+            adjustTierCounts(previousLevel, customerToUpdatePoints.getMemberTier().getLevel());
+        }
+        return customerToUpdatePoints;
+    }
+
+    //@@author agent
+    /**
+     * Sets the points and tier of the equivalent member in the list to those of {@code source}.
+     * The member object itself is kept, so orders referring to it stay up to date.
+     *
+     * @throws MemberNotFoundException if no such member could be found in the list.
+     */
+    public void updateMember(ReadOnlyMember source) throws MemberNotFoundException {
+        final int index = internalList.indexOf(source);
+        if (index < 0) {
+            throw new MemberNotFoundException();
+        }
+        final Member member = internalList.get(index);
+        final Level previousLevel = member.getMemberTier().getLevel();
+        member.setPointsAndTier(source.getCurrentPoints(), source.getMemberTier());
+        adjustTierCounts(previousLevel, member.getMemberTier().getLevel());
+    }
+
+    /**
+     * Returns the number of members in the list.
+     */
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns the number of members of the given tier level.
+     */
+    public int countMembersOfTier(Level level) {
+        buildCounts();
+        return countsByTier[level.ordinal()];
+    }
+
+    /**
+     * Returns the number of members who registered in the same year, month or day as {@code date}.
+     *
+     * @param unit one of {@link ChronoUnit#YEARS}, {@link ChronoUnit#MONTHS} or {@link ChronoUnit#DAYS}
+     */
+    public int countSignups(LocalDate date, ChronoUnit unit) {
+        buildCounts();
+        switch (unit) {
+        case YEARS:
+            return signupDates.getYearCount(date);
+        case MONTHS:
+            return signupDates.getMonthCount(date);
+        case DAYS:
+            return signupDates.getDayCount(date);
+        default:
+            throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+    }
+
+    /**
+     * Builds the tier and signup counts from the members in the list, if they are not built yet.
+     */
+    private void buildCounts() {
+        if (countsByTier == null) {
+            countsByTier = new int[Level.values().length];
+            signupDates = new MemberDateTable();
+            for (Member member : internalList) {
+                adjustCounts(member, 1);
+            }
+        }
+    }
+
+    /**
+     * Adds or removes, depending on the sign of {@code change}, the member to the counts once they are built.
+     */
+    private void adjustCounts(ReadOnlyMember member, int change) {
+        if (countsByTier == null) {
+            return;
+        }
+        final Level level = member.getMemberTier().getLevel();
+        if (level != null) {
+            countsByTier[level.ordinal()] += change;
+        }
+        final LocalDate signupDate = LocalDate.ofInstant(member.getDate(), ZoneId.systemDefault());
+        if (change > 0) {
+            signupDates.addData(signupDate);
+        } else {
+            signupDates.removeData(signupDate);
+        }
+    }
+
+    /**
+     * Moves a member from the count of {@code previous} to that of {@code current} once the counts are built.
+     * Either level may be null for a tier that is not one of the known levels.
+     */
+    private void adjustTierCounts(Level previous, Level current) {
+        if (countsByTier == null || previous == current) {
+            return;
+        }
+        if (previous != null) {
+            countsByTier[previous.ordinal()]--;
+        }
+        if (current != null) {
+            countsByTier[current.ordinal()]++;
+        }
     }
 
     //@@author kangmingtay
@@ -1,5 +1,6 @@
 package seedu.addressbook.data.menu;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -17,7 +18,11 @@ public class Menu implements ReadOnlyMenus, Comparable<Menu> {
     private Price price;
     private Type type;
 
-    private final Set<Tag> tags = new HashSet<>();
+    //@@author agent
+    /** The ids of the tags of this menu item. */
+    private final BitSet tagIds = new BitSet();
+
+    //@@author SalsabilTasnia
     /**
      * Assumption: Every field must be present and not null.
      */
@@ -25,14 +30,19 @@ public class Menu implements ReadOnlyMenus, Comparable<Menu> {
         this.name = name;
         this.price = price;
         this.type = type;
-        this.tags.addAll(tags);
+        for (Tag tag : tags) {
+            tagIds.set(tag.getId());
+        }
     }
 
     /**
      * Copy constructor.
      */
     public Menu(ReadOnlyMenus source) {
-        this(source.getName(), source.getPrice(), source.getType(), source.getTags());
+        this.name = source.getName();
+        this.price = source.getPrice();
+        this.type = source.getType();
+        this.tagIds.or(source.getTagIds());
     }
 
     @Override
@@ -53,9 +63,25 @@ public class Menu implements ReadOnlyMenus, Comparable<Menu> {
 
     @Override
     public Set<Tag> getTags() {
-        return new HashSet<>(tags);
+        final Set<Tag> tags = new HashSet<>();
+        for (int id = tagIds.nextSetBit(0); id >= 0; id = tagIds.nextSetBit(id + 1)) {
+            tags.add(Tag.fromId(id));
+        }
+        return tags;
+    }
+
+    //@@author agent
+    @Override
+    public BitSet getTagIds() {
+        return (BitSet) tagIds.clone();
+    }
+
+    @Override
+    public boolean hasTag(Tag tag) {
+        return tagIds.get(tag.getId());
     }
 
+    //@@author SalsabilTasnia
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
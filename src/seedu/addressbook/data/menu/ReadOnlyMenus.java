@@ -1,5 +1,6 @@
 package seedu.addressbook.data.menu;
 
+import java.util.BitSet;
 import java.util.Set;
 
 import seedu.addressbook.data.tag.Tag;
@@ -21,6 +22,17 @@ public interface ReadOnlyMenus {
      */
     Set<Tag> getTags();
 
+    //@@author agent
+    /**
+     * Returns the ids of the tags of the menu item as a new bit set.
+     *
+     * @see Tag#getId()
+     */
+    BitSet getTagIds();
+
+    boolean hasTag(Tag tag);
+
+    //@@author SalsabilTasnia
     /**
      * Returns true if the values inside this object is same as those of the other
      * (Note: interfaces cannot override .equals)
@@ -38,8 +50,9 @@ public interface ReadOnlyMenus {
         final StringBuilder builder = new StringBuilder();
         builder.append(getName()).append(" | Price ").append(getPrice()).append(" | Type: ").append(getType());
         builder.append(" | Tags: ");
-        for (Tag tag : getTags()) {
-            builder.append(tag);
+        final BitSet tagIds = getTagIds();
+        for (int id = tagIds.nextSetBit(0); id >= 0; id = tagIds.nextSetBit(id + 1)) {
+            builder.append(Tag.fromId(id));
         }
         return builder.toString();
     }
@@ -1,5 +1,8 @@
 package seedu.addressbook.data.menu;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import seedu.addressbook.data.exception.IllegalValueException;
 
 //@@author SalsabilTasnia
@@ -20,8 +23,51 @@ public class Type {
             + "\n" + "set meal";
     public static final String TYPE_VALIDATION_REGEX = "[\\p{Alnum} ]+";
 
+    //@@author agent
+    /**
+     * The categories a menu item can be of, in the order they are shown on the main menu.
+     */
+    public enum Category {
+        MAIN("main"),
+        SIDES("sides"),
+        BEVERAGE("beverage"),
+        DESSERT("dessert"),
+        OTHERS("others"),
+        SET_MEAL("set meal");
+
+        private static final Map<String, Category> CATEGORIES_BY_VALUE = new HashMap<>();
+
+        static {
+            for (Category category : values()) {
+                CATEGORIES_BY_VALUE.put(category.value, category);
+            }
+        }
+
+        private final String value;
+
+        Category(String value) {
+            this.value = value;
+        }
+
+        /**
+         * Returns the category with the given name, or null if there is none.
+         */
+        public static Category fromValue(String value) {
+            return CATEGORIES_BY_VALUE.get(value);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    //@@author SalsabilTasnia
     public final String value;
+    //@@author agent
+    private final Category category;
 
+    //@@author SalsabilTasnia
     /**
      * Validates given name.
      *
@@ -32,26 +78,25 @@ public class Type {
         if (!isValidTypeName(trimmedType)) {
             throw new IllegalValueException(MESSAGE_TYPE_CONSTRAINTS);
         }
-        this.value = trimmedType;
+        this.category = Category.fromValue(trimmedType);
+        this.value = category.value;
     }
 
     public String getValue() {
         return value;
     }
 
+    //@@author agent
+    public Category getCategory() {
+        return category;
+    }
+
+    //@@author SalsabilTasnia
     /**
      * Returns true if a given string is a valid dish type.
      */
     public static boolean isValidTypeName(String test) {
-        return ("main".equals(test)
-                || "sides".equals(test)
-                || "beverage".equals(test)
-                || "dessert".equals(test)
-                || "others".equals(test)
-                || "set meal".equals(test))
-                && test.matches(TYPE_VALIDATION_REGEX);
-
-
+        return Category.fromValue(test) != null;
     }
 
     @Override
@@ -63,12 +108,12 @@ public class Type {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Type // instanceof handles nulls
-                && this.value.equals(((Type) other).value)); // state check
+                && this.category == ((Type) other).category); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return category.hashCode();
     }
 
 }
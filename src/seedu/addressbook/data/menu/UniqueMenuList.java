@@ -1,18 +1,33 @@
 package seedu.addressbook.data.menu;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
+import seedu.addressbook.data.menu.Type.Category;
+import seedu.addressbook.data.tag.Tag;
 
 //@@author SalsabilTasnia
 /**
  * A list of menus. Does not allow null elements or duplicates.
  *
+ * The list keeps an inverted index from each word in the menu item names to the menu items containing it,
+ * so finding the menu items by keywords only costs as much as the number of matches. The menu items of
+ * each category are also kept in their own bucket, in the order of the list, and the positions of the menu
+ * items with each tag are kept in a bit set, so menu items can be filtered by tags with bitwise operations.
+ *
  * @see Menu#equals(Object)
  * @see Utils#elementsAreUnique(Collection)
  */
@@ -20,6 +35,24 @@ public class UniqueMenuList implements Iterable<Menu> {
 
     private final List<Menu> internalMenuList = new ArrayList<>();
 
+    //@@author agent
+    /** Menu items keyed by each of the words in their names. */
+    private final Map<String, Set<Menu>> postingsByWord = new HashMap<>();
+    /** The order in which the menu items were added, which is also their order in the list. */
+    private final Map<ReadOnlyMenus, Integer> positions = new HashMap<>();
+    private final Map<Integer, Menu> menusByPosition = new HashMap<>();
+    private int nextPosition = 0;
+    /** Positions of the menu items keyed by the id of each of their tags. */
+    private final Map<Integer, BitSet> positionsByTagId = new HashMap<>();
+    /** Menu items of each category, in the order they were added. */
+    private final Map<Category, Set<Menu>> bucketsByCategory = new EnumMap<>(Category.class);
+    /**
+     * False until the indexes above are built. Copies of the list build them on the first lookup and maintain
+     * them from then on, so that copies which are only iterated do not pay for them.
+     */
+    private boolean isIndexed = true;
+
+    //@@author SalsabilTasnia
     /**
      * Signals that an operation would have violated the 'no duplicates' property of the list.
      */
@@ -39,7 +72,11 @@ public class UniqueMenuList implements Iterable<Menu> {
     /**
      * Constructs empty menu list.
      */
-    public UniqueMenuList() {}
+    public UniqueMenuList() {
+        for (Category category : Category.values()) {
+            bucketsByCategory.put(category, new LinkedHashSet<>());
+        }
+    }
 
     /**
      * Constructs a list from the items in the given collection.
@@ -47,19 +84,37 @@ public class UniqueMenuList implements Iterable<Menu> {
      * @throws DuplicateMenuException if the {@code menus} contains duplicate menus
      */
     public UniqueMenuList(Collection<Menu> menus) throws DuplicateMenuException {
+        this();
         if (!Utils.elementsAreUnique(menus)) {
             throw new DuplicateMenuException();
         }
-        internalMenuList.addAll(menus);
+        for (Menu menu : menus) {
+            internalMenuList.add(menu);
+            index(menu);
+        }
     }
 
     /**
-     * Constructs a shallow copy of the list.
+     * Constructs a shallow copy of the list. Its indexes are built on its first lookup.
      */
     public UniqueMenuList(UniqueMenuList source) {
+        this();
         internalMenuList.addAll(source.internalMenuList);
+        isIndexed = false;
     }
 
+    //@@author agent
+    /**
+     * Builds the indexes of the list if they are not built yet.
+     */
+    private void ensureIndexed() {
+        if (!isIndexed) {
+            isIndexed = true;
+            internalMenuList.forEach(this::index);
+        }
+    }
+
+    //@@author SalsabilTasnia
     /**
      * Unmodifiable java List view with elements cast as immutable {@link ReadOnlyMenus}s.
      * For use with other methods/libraries.
@@ -74,9 +129,146 @@ public class UniqueMenuList implements Iterable<Menu> {
      * Checks if the list contains an equivalent menu item as the given argument.
      */
     public boolean contains(ReadOnlyMenus toCheck) {
-        return internalMenuList.contains(toCheck);
+        ensureIndexed();
+        return positions.containsKey(toCheck);
+    }
+
+    //@@author agent
+    /**
+     * Returns the menu item in the list equivalent to the given one, or null if there is none.
+     */
+    public Menu getEquivalent(ReadOnlyMenus key) {
+        ensureIndexed();
+        final Integer position = positions.get(key);
+        return (position == null) ? null : menusByPosition.get(position);
+    }
+
+    /**
+     * Finds the menu items with a name containing any of the keywords, as whole words.
+     * The keywords are expected in lower case, as the words of the names are indexed in lower case.
+     *
+     * @param isRankedByMatchCount if true, menu items matching more keywords are listed first;
+     *     otherwise, and among menu items matching as many keywords, they are listed in the order of the list
+     */
+    public List<ReadOnlyMenus> find(Collection<String> keywords, boolean isRankedByMatchCount) {
+        return find(keywords, Collections.emptySet(), isRankedByMatchCount);
     }
 
+    /**
+     * Finds the menu items with all the given tags and, if any keywords are given, a name containing any of
+     * the keywords, as whole words.
+     *
+     * @see #find(Collection, boolean)
+     */
+    public List<ReadOnlyMenus> find(Collection<String> keywords, Collection<Tag> tags, boolean isRankedByMatchCount) {
+        ensureIndexed();
+        final BitSet taggedPositions = tags.isEmpty() ? null : findPositionsWithAllTags(tags);
+        if (keywords.isEmpty()) {
+            final List<ReadOnlyMenus> matches = new ArrayList<>();
+            if (taggedPositions != null) {
+                for (int p = taggedPositions.nextSetBit(0); p >= 0; p = taggedPositions.nextSetBit(p + 1)) {
+                    matches.add(menusByPosition.get(p));
+                }
+            }
+            return matches;
+        }
+        final Map<Menu, Integer> matchCounts = new HashMap<>();
+        for (String keyword : new HashSet<>(keywords)) {
+            for (Menu menu : postingsByWord.getOrDefault(keyword, Collections.emptySet())) {
+                if (taggedPositions == null || taggedPositions.get(positions.get(menu))) {
+                    matchCounts.merge(menu, 1, Integer::sum);
+                }
+            }
+        }
+        Comparator<Menu> order = Comparator.comparing(positions::get);
+        if (isRankedByMatchCount) {
+            order = Comparator.comparing((Menu menu) -> matchCounts.get(menu)).reversed().thenComparing(order);
+        }
+        final List<ReadOnlyMenus> matches = new ArrayList<>(matchCounts.size());
+        matchCounts.keySet().stream().sorted(order).forEachOrdered(matches::add);
+        return matches;
+    }
+
+    /**
+     * Returns the positions of the menu items with all the given tags, intersecting the positions of the menu
+     * items with each tag.
+     */
+    private BitSet findPositionsWithAllTags(Collection<Tag> tags) {
+        BitSet result = null;
+        for (Tag tag : tags) {
+            final BitSet tagged = positionsByTagId.get(tag.getId());
+            if (tagged == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) tagged.clone();
+            } else {
+                result.and(tagged);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the menu items of the given category, in the order of the list.
+     */
+    public List<ReadOnlyMenus> getMenusOfCategory(Category category) {
+        ensureIndexed();
+        return new ArrayList<>(bucketsByCategory.get(category));
+    }
+
+    /**
+     * Returns the number of menu items of the given category.
+     */
+    public int countMenusOfCategory(Category category) {
+        ensureIndexed();
+        return bucketsByCategory.get(category).size();
+    }
+
+    /**
+     * Adds the menu item to the indexes, after the menu items already in them.
+     */
+    private void index(Menu menu) {
+        for (String word : menu.getName().getWordsInName()) {
+            postingsByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(menu);
+        }
+        final int position = nextPosition++;
+        positions.put(menu, position);
+        menusByPosition.put(position, menu);
+        final BitSet tagIds = menu.getTagIds();
+        for (int id = tagIds.nextSetBit(0); id >= 0; id = tagIds.nextSetBit(id + 1)) {
+            positionsByTagId.computeIfAbsent(id, unused -> new BitSet()).set(position);
+        }
+        bucketsByCategory.get(menu.getType().getCategory()).add(menu);
+    }
+
+    /**
+     * Removes the menu item from the indexes.
+     */
+    private void unindex(Menu menu) {
+        for (String word : menu.getName().getWordsInName()) {
+            final Set<Menu> postings = postingsByWord.get(word);
+            if (postings != null) {
+                postings.remove(menu);
+                if (postings.isEmpty()) {
+                    postingsByWord.remove(word);
+                }
+            }
+        }
+        final int position = positions.remove(menu);
+        menusByPosition.remove(position);
+        final BitSet tagIds = menu.getTagIds();
+        for (int id = tagIds.nextSetBit(0); id >= 0; id = tagIds.nextSetBit(id + 1)) {
+            final BitSet tagged = positionsByTagId.get(id);
+            tagged.clear(position);
+            if (tagged.isEmpty()) {
+                positionsByTagId.remove(id);
+            }
+        }
+        bucketsByCategory.get(menu.getType().getCategory()).remove(menu);
+    }
+
+    //@@author SalsabilTasnia
     /**
      * Adds a menu item to the list.
      *
@@ -87,6 +279,7 @@ public class UniqueMenuList implements Iterable<Menu> {
             throw new DuplicateMenuException();
         }
         internalMenuList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -95,10 +288,15 @@ public class UniqueMenuList implements Iterable<Menu> {
      * @throws MenuNotFoundException if no such menu item could be found in the list.
      */
     public void remove(ReadOnlyMenus toRemove) throws MenuNotFoundException {
-        final boolean menuFoundAndDeleted = internalMenuList.remove(toRemove);
-        if (!menuFoundAndDeleted) {
+        final int index = internalMenuList.indexOf(toRemove);
+        if (index == -1) {
             throw new MenuNotFoundException();
         }
+        final Menu removed = internalMenuList.remove(index);
+        if (isIndexed) {
+            // the menu item in the list is unindexed, as it may differ in type from the equivalent one given
+            unindex(removed);
+        }
     }
 
     /**
@@ -106,11 +304,17 @@ public class UniqueMenuList implements Iterable<Menu> {
      */
     public void clear() {
         internalMenuList.clear();
+        postingsByWord.clear();
+        positions.clear();
+        menusByPosition.clear();
+        positionsByTagId.clear();
+        bucketsByCategory.values().forEach(Set::clear);
+        isIndexed = true;
     }
 
     @Override
     public Iterator<Menu> iterator() {
-        return internalMenuList.iterator();
+        return Collections.unmodifiableList(internalMenuList).iterator();
     }
 
     @Override
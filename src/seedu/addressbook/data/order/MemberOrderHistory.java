@@ -0,0 +1,128 @@
+package seedu.addressbook.data.order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.menu.Type.Category;
+
+//@@author agent
+/**
+ * The orders made by one member, with the running totals of their spending kept up to date as orders are
+ * added and removed, so that the lifetime spend and visit count of a member are available without a scan.
+ * Only the order list that owns the history can change it.
+ *
+ * The history also keeps the preferences of the member as the quantities they ordered of each dish, category
+ * and tag, so that scoring a menu item against the preferences does not depend on how long the history is.
+ */
+public class MemberOrderHistory {
+
+    /** The history of a member with no orders. */
+    public static final MemberOrderHistory EMPTY = new MemberOrderHistory();
+
+    /** How much more ordering a dish itself counts towards its score than ordering a dish of the same kind. */
+    private static final int DISH_WEIGHT = 2;
+
+    private final Set<ReadOnlyOrder> orders = new LinkedHashSet<>();
+
+    private long totalSpendInCents = 0;
+
+    private final Map<ReadOnlyMenus, Integer> quantitiesByDish = new HashMap<>();
+    private final int[] quantitiesByCategory = new int[Category.values().length];
+    /** The quantities indexed by tag id, grown as tags with higher ids are seen. */
+    private int[] quantitiesByTagId = new int[0];
+    private int totalQuantity = 0;
+
+    MemberOrderHistory() {}
+
+    /**
+     * Adds the order to the history, with its spend and its dishes.
+     */
+    void add(ReadOnlyOrder order) {
+        if (orders.add(order)) {
+            totalSpendInCents += Utils.toCents(order.getPrice());
+            adjustPreferences(order, 1);
+        }
+    }
+
+    /**
+     * Removes an order previously added from the history, with its spend and its dishes.
+     */
+    void remove(ReadOnlyOrder order) {
+        if (orders.remove(order)) {
+            totalSpendInCents -= Utils.toCents(order.getPrice());
+            adjustPreferences(order, -1);
+        }
+    }
+
+    /**
+     * Adds the quantities of the dishes of the order, times {@code sign}, to the preferences.
+     */
+    private void adjustPreferences(ReadOnlyOrder order, int sign) {
+        for (Map.Entry<ReadOnlyMenus, Integer> dish : order.getDishItems().entrySet()) {
+            final int quantity = sign * dish.getValue();
+            quantitiesByDish.merge(dish.getKey(), quantity, Integer::sum);
+            quantitiesByDish.remove(dish.getKey(), 0);
+            quantitiesByCategory[dish.getKey().getType().getCategory().ordinal()] += quantity;
+            final BitSet tagIds = dish.getKey().getTagIds();
+            if (tagIds.length() > quantitiesByTagId.length) {
+                quantitiesByTagId = Arrays.copyOf(quantitiesByTagId, tagIds.length());
+            }
+            for (int id = tagIds.nextSetBit(0); id >= 0; id = tagIds.nextSetBit(id + 1)) {
+                quantitiesByTagId[id] += quantity;
+            }
+            totalQuantity += quantity;
+        }
+    }
+
+    boolean isEmpty() {
+        return orders.isEmpty();
+    }
+
+    /**
+     * Returns the orders of the member, in the order they were added to the order list.
+     */
+    public List<ReadOnlyOrder> getOrders() {
+        return Collections.unmodifiableList(new ArrayList<>(orders));
+    }
+
+    /**
+     * Returns the number of orders made by the member.
+     */
+    public int getVisitCount() {
+        return orders.size();
+    }
+
+    /**
+     * Returns the total price paid by the member over all their orders.
+     */
+    public double getLifetimeSpend() {
+        return totalSpendInCents / 100.0;
+    }
+
+    /**
+     * Returns how well the menu item matches what the member has ordered, as the share of the dishes they
+     * ordered that are the item itself (counted {@value #DISH_WEIGHT} times), of its category or share its tags.
+     * Returns zero if the member has not ordered anything like the item.
+     */
+    public double getPreferenceFor(ReadOnlyMenus item) {
+        if (totalQuantity == 0) {
+            return 0;
+        }
+        long score = DISH_WEIGHT * quantitiesByDish.getOrDefault(item, 0)
+                + quantitiesByCategory[item.getType().getCategory().ordinal()];
+        final BitSet tagIds = item.getTagIds();
+        for (int id = tagIds.nextSetBit(0); id >= 0 && id < quantitiesByTagId.length; id = tagIds.nextSetBit(id + 1)) {
+            score += quantitiesByTagId[id];
+        }
+        return (double) score / totalQuantity;
+    }
+}
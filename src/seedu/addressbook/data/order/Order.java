@@ -1,10 +1,11 @@
 package seedu.addressbook.data.order;
 
-import java.util.Date;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.member.Member;
 import seedu.addressbook.data.member.Points;
 import seedu.addressbook.data.member.ReadOnlyMember;
@@ -19,7 +20,7 @@ import seedu.addressbook.data.menu.ReadOnlyMenus;
 public class Order implements ReadOnlyOrder {
 
     private ReadOnlyMember customer;
-    private Date date;
+    private Instant date;
     private Points points;
     private double price;
 
@@ -35,7 +36,7 @@ public class Order implements ReadOnlyOrder {
      */
     public Order() {
         this.customer = new Member();
-        this.date = new Date();
+        this.date = Utils.currentInstant();
         this.points = new Points();
         this.price = 0;
     }
@@ -48,13 +49,13 @@ public class Order implements ReadOnlyOrder {
         this.dishItems.putAll(dishItems);
         this.points = new Points(pointsToRedeem);
         this.price = calculatePrice();
-        this.date = new Date();
+        this.date = Utils.currentInstant();
     }
 
     /**
      * Constructor for edited order to keep the original ordered date.
      */
-    public Order(ReadOnlyMember customer, Date date, Map<ReadOnlyMenus, Integer> dishItems, int pointsToRedeem) {
+    public Order(ReadOnlyMember customer, Instant date, Map<ReadOnlyMenus, Integer> dishItems, int pointsToRedeem) {
         this.customer = customer;
         this.dishItems.putAll(dishItems);
         this.points = new Points(pointsToRedeem);
@@ -66,7 +67,7 @@ public class Order implements ReadOnlyOrder {
      * Full constructor.
      */
     public Order(ReadOnlyMember customer,
-                 Date date,
+                 Instant date,
                  double price,
                  Map<ReadOnlyMenus, Integer> dishItems,
                  int pointsToRedeem) {
@@ -89,12 +90,9 @@ public class Order implements ReadOnlyOrder {
         return customer;
     }
 
-    /**
-     * Defensively returning the copy of the order's date
-     */
     @Override
-    public Date getDate() {
-        return new Date(date.getTime());
+    public Instant getDate() {
+        return date;
     }
 
     @Override
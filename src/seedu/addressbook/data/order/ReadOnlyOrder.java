@@ -1,6 +1,6 @@
 package seedu.addressbook.data.order;
 
-import java.util.Date;
+import java.time.Instant;
 import java.util.Map;
 
 import seedu.addressbook.common.Utils;
@@ -20,7 +20,7 @@ public interface ReadOnlyOrder {
     String MULTIPLY_SIGN = "x ";
 
     ReadOnlyMember getCustomer();
-    Date getDate();
+    Instant getDate();
     double getPrice();
     double getOriginalPrice();
     int getPoints();
@@ -54,7 +54,7 @@ public interface ReadOnlyOrder {
             builder.append("Customer: ").append(getCustomer().getAsTextInOrderList());
             builder.append("\n\t").append("   ");
         }
-        builder.append("Date: ").append(getDate());
+        builder.append("Date: ").append(Utils.formatInstant(getDate()));
         int i = 0;
         for (Map.Entry<ReadOnlyMenus, Integer> m: getDishItems().entrySet()) {
             i++;
@@ -90,7 +90,7 @@ public interface ReadOnlyOrder {
         if (hasCustomerField()) {
             builder.append("\tCustomer: ").append(getCustomer().getAsTextInOrderList()).append("\n");
         }
-        builder.append("\tDate: ").append(getDate());
+        builder.append("\tDate: ").append(Utils.formatInstant(getDate()));
         int i = 0;
         for (Map.Entry<ReadOnlyMenus, Integer> m: getDishItems().entrySet()) {
             i++;
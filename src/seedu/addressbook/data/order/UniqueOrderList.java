@@ -4,11 +4,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
+import seedu.addressbook.data.member.ReadOnlyMember;
 
 //@@author px1099
 /**
@@ -21,6 +24,15 @@ public class UniqueOrderList implements Iterable<Order> {
 
     private final List<Order> internalList = new ArrayList<>();
 
+    //@@author agent
+    /**
+     * The orders of each member, keyed by the member, built on the first lookup and maintained from then on,
+     * so that copies of the list which are never looked up by member do not pay for it.
+     * Orders without a customer are not indexed.
+     */
+    private Map<ReadOnlyMember, MemberOrderHistory> historiesByCustomer;
+
+    //@@author px1099
     /**
      * Signals that an operation would have violated the 'no duplicates' property of the list.
      */
@@ -98,6 +110,9 @@ public class UniqueOrderList implements Iterable<Order> {
             throw new DuplicateOrderException();
         }
         internalList.add(toAdd);
+        if (historiesByCustomer != null) {
+            indexByCustomer(toAdd);
+        }
     }
 
     /**
@@ -110,6 +125,9 @@ public class UniqueOrderList implements Iterable<Order> {
         if (!orderFoundAndDeleted) {
             throw new OrderNotFoundException();
         }
+        if (historiesByCustomer != null) {
+            unindexByCustomer(toRemove);
+        }
     }
 
     /**
@@ -117,8 +135,49 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void clear() {
         internalList.clear();
+        historiesByCustomer = null;
+    }
+
+    //@@author agent
+    /**
+     * Returns the orders made by the given member, with their lifetime spend and visit count.
+     * The history returned is kept up to date as orders are added and removed.
+     */
+    public MemberOrderHistory getHistoryOf(ReadOnlyMember customer) {
+        if (historiesByCustomer == null) {
+            historiesByCustomer = new HashMap<>();
+            for (Order order : internalList) {
+                indexByCustomer(order);
+            }
+        }
+        final MemberOrderHistory history = historiesByCustomer.get(customer);
+        return (history != null) ? history : MemberOrderHistory.EMPTY;
     }
 
+    private void indexByCustomer(ReadOnlyOrder order) {
+        if (order.hasCustomerField()) {
+            historiesByCustomer.computeIfAbsent(order.getCustomer(), unused -> new MemberOrderHistory()).add(order);
+        }
+    }
+
+    /**
+     * Removes the order from the history of its customer, dropping the history once it has no orders left.
+     */
+    private void unindexByCustomer(ReadOnlyOrder order) {
+        if (!order.hasCustomerField()) {
+            return;
+        }
+        final MemberOrderHistory history = historiesByCustomer.get(order.getCustomer());
+        if (history != null) {
+            history.remove(order);
+            if (history.isEmpty()) {
+                historiesByCustomer.remove(order.getCustomer());
+            }
+        }
+    }
+
+    //@@author px1099
+
     @Override
     public Iterator<Order> iterator() {
         return internalList.iterator();
@@ -0,0 +1,414 @@
+package seedu.addressbook.data.statistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.addressbook.data.employee.Attendance;
+
+//@@author agent
+/**
+ * Represents the shifts worked by every employee, as pairs of a clock in and the clock out following it, kept up
+ * to date as employees clock in and out.
+ *
+ * The shifts of each employee are kept in sorted arrays of start and end seconds with running totals of their
+ * lengths, so the time an employee worked in any period is found with two binary searches. The closed shifts of
+ * all employees are also kept in centered interval trees of decreasing size, each new shift starting a tree that
+ * is merged with the trees not much bigger than it, so the employees on duty at an instant are found in time
+ * logarithmic in the number of shifts plus the number of employees found. The shifts of an employee whose
+ * attendance is removed or replaced are skipped by lookups, and dropped from the trees once they are half of them.
+ *
+ * A shift still open, i.e. of an employee who is clocked in, lasts until the employee clocks out.
+ */
+public class AttendanceIndex {
+
+    /** The end of a shift that is still open. */
+    public static final long ONGOING = Long.MAX_VALUE;
+
+    private final Map<String, EmployeeShifts> shiftsByEmployee = new HashMap<>();
+    /** The employees who are clocked in. Their open shifts are not in the trees. */
+    private final Map<String, EmployeeShifts> clockedIn = new HashMap<>();
+    /** The trees of the closed shifts, each more than twice as big as the next. */
+    private final List<Tree> trees = new ArrayList<>();
+    private int treeShiftCount;
+    private int removedShiftCount;
+
+    /**
+     * A shift of an employee, from the start second until just before the end second.
+     */
+    public static class Shift {
+        private final String employeeName;
+        private final long start;
+        private final long end;
+        private final EmployeeShifts owner;
+
+        private Shift(EmployeeShifts owner, long start, long end) {
+            this.employeeName = owner.employeeName;
+            this.start = start;
+            this.end = end;
+            this.owner = owner;
+        }
+
+        public String getEmployeeName() {
+            return employeeName;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * Returns the end of the shift, or {@link #ONGOING} if the employee has not clocked out.
+         */
+        public long getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * The closed shifts of one employee in time order, and the start of the open shift if there is one.
+     */
+    private static class EmployeeShifts {
+        private static final int INITIAL_CAPACITY = 8;
+
+        private final String employeeName;
+        private long[] starts = new long[INITIAL_CAPACITY];
+        private long[] ends = new long[INITIAL_CAPACITY];
+        /** The total length of the first {@code i} shifts at index {@code i}. */
+        private long[] totalSeconds = new long[INITIAL_CAPACITY + 1];
+        private int count;
+        private long openStart = ONGOING;
+        /** True once the attendance of the employee is removed or replaced, so its shifts are skipped. */
+        private boolean isRemoved;
+
+        EmployeeShifts(String employeeName) {
+            this.employeeName = employeeName;
+        }
+
+        /**
+         * Applies the next clock event of the employee, pairing a clock out with the clock in before it.
+         * A clock in while already clocked in, a clock out while clocked out, and a shift that would end before
+         * it starts or before the previous shift ends are skipped.
+         *
+         * @return the shift the event closes, or null if it closes none.
+         */
+        Shift addEvent(long second, boolean isClockIn) {
+            if (isClockIn) {
+                if (openStart == ONGOING) {
+                    openStart = second;
+                }
+                return null;
+            }
+            final long start = openStart;
+            openStart = ONGOING;
+            final boolean isAfterPreviousShift = count == 0 || start >= ends[count - 1];
+            if (start == ONGOING || second <= start || !isAfterPreviousShift) {
+                return null;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+                totalSeconds = Arrays.copyOf(totalSeconds, count * 2 + 1);
+            }
+            starts[count] = start;
+            ends[count] = second;
+            totalSeconds[count + 1] = totalSeconds[count] + second - start;
+            count++;
+            return new Shift(this, start, second);
+        }
+    }
+
+    /**
+     * A centered interval tree of closed shifts, with the shifts sorted by start.
+     */
+    private static class Tree {
+        private final Shift[] byStart;
+        private final Node root;
+
+        Tree(Shift[] byStart) {
+            this.byStart = byStart;
+            this.root = build(Arrays.asList(byStart));
+        }
+    }
+
+    /**
+     * A node of the interval tree, holding the shifts that contain its center, sorted by start and by end.
+     * The shifts ending by the center are below on the left, and those starting after it are below on the right.
+     */
+    private static class Node {
+        private final long center;
+        private final Shift[] byStart;
+        private final Shift[] byEndDescending;
+        private final Node left;
+        private final Node right;
+
+        Node(long center, Shift[] byStart, Shift[] byEndDescending, Node left, Node right) {
+            this.center = center;
+            this.byStart = byStart;
+            this.byEndDescending = byEndDescending;
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Constructs the index of the shifts in the given attendance.
+     */
+    public AttendanceIndex(Iterable<Attendance> attendances) {
+        final List<Shift> closedShifts = new ArrayList<>();
+        for (Attendance attendance : attendances) {
+            indexShifts(attendance, closedShifts);
+        }
+        closedShifts.sort(Comparator.comparingLong(Shift::getStart));
+        addTree(closedShifts.toArray(new Shift[0]));
+    }
+
+    /**
+     * Indexes the shifts of the attendance in place of any shifts of the same employee.
+     */
+    public void putAttendance(Attendance attendance) {
+        removeEmployee(attendance.getName());
+        final List<Shift> closedShifts = new ArrayList<>();
+        indexShifts(attendance, closedShifts);
+        addTree(closedShifts.toArray(new Shift[0]));
+    }
+
+    /**
+     * Indexes the next clock event of the employee. Does nothing if the employee has no attendance in the index.
+     */
+    public void addTiming(String employeeName, long epochSecond, boolean isClockIn) {
+        final EmployeeShifts shifts = shiftsByEmployee.get(employeeName);
+        if (shifts == null) {
+            return;
+        }
+        final Shift closed = shifts.addEvent(epochSecond, isClockIn);
+        updateClockedIn(shifts);
+        if (closed != null) {
+            addTree(new Shift[]{closed});
+        }
+    }
+
+    /**
+     * Removes the shifts of the employee from the index, if there are any.
+     */
+    public void removeEmployee(String employeeName) {
+        final EmployeeShifts shifts = shiftsByEmployee.remove(employeeName);
+        if (shifts == null) {
+            return;
+        }
+        clockedIn.remove(employeeName);
+        shifts.isRemoved = true;
+        removedShiftCount += shifts.count;
+        if (removedShiftCount * 2 > treeShiftCount) {
+            compact();
+        }
+    }
+
+    /**
+     * Pairs every clock in of the attendance with the clock out following it, adding the closed shifts, which are
+     * in time order, to {@code closedShifts}.
+     */
+    private void indexShifts(Attendance attendance, List<Shift> closedShifts) {
+        final EmployeeShifts shifts = new EmployeeShifts(attendance.getName());
+        for (int i = 0; i < attendance.getTimingCount(); i++) {
+            final Shift closed = shifts.addEvent(attendance.getEpochSecond(i), attendance.isClockIn(i));
+            if (closed != null) {
+                closedShifts.add(closed);
+            }
+        }
+        shiftsByEmployee.put(shifts.employeeName, shifts);
+        updateClockedIn(shifts);
+    }
+
+    /**
+     * Records whether the employee is clocked in.
+     */
+    private void updateClockedIn(EmployeeShifts shifts) {
+        if (shifts.openStart == ONGOING) {
+            clockedIn.remove(shifts.employeeName);
+        } else {
+            clockedIn.put(shifts.employeeName, shifts);
+        }
+    }
+
+    /**
+     * Adds the shifts, which are sorted by start, as the smallest tree, merging it with the trees before it while
+     * they are not more than twice as big.
+     */
+    private void addTree(Shift[] byStart) {
+        if (byStart.length == 0) {
+            return;
+        }
+        treeShiftCount += byStart.length;
+        Shift[] merged = byStart;
+        while (!trees.isEmpty() && trees.get(trees.size() - 1).byStart.length <= merged.length * 2) {
+            merged = mergeByStart(trees.remove(trees.size() - 1).byStart, merged);
+        }
+        trees.add(new Tree(merged));
+    }
+
+    /**
+     * Rebuilds the trees without the shifts of the employees removed from the index.
+     */
+    private void compact() {
+        final List<Shift> liveShifts = new ArrayList<>();
+        for (Tree tree : trees) {
+            for (Shift shift : tree.byStart) {
+                if (!shift.owner.isRemoved) {
+                    liveShifts.add(shift);
+                }
+            }
+        }
+        liveShifts.sort(Comparator.comparingLong(Shift::getStart));
+        trees.clear();
+        treeShiftCount = 0;
+        removedShiftCount = 0;
+        addTree(liveShifts.toArray(new Shift[0]));
+    }
+
+    /**
+     * Returns the shifts of both arrays, which are sorted by start, in one array sorted by start.
+     */
+    private static Shift[] mergeByStart(Shift[] first, Shift[] second) {
+        final Shift[] merged = new Shift[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            if (j == second.length || (i < first.length && first[i].start <= second[j].start)) {
+                merged[k] = first[i++];
+            } else {
+                merged[k] = second[j++];
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Builds the interval tree of the shifts, which are sorted by start, centering each node on the start of the
+     * middle shift so that the node holds at least that shift.
+     */
+    private static Node build(List<Shift> shifts) {
+        if (shifts.isEmpty()) {
+            return null;
+        }
+        final long center = shifts.get(shifts.size() / 2).start;
+        final List<Shift> leftShifts = new ArrayList<>();
+        final List<Shift> centerShifts = new ArrayList<>();
+        final List<Shift> rightShifts = new ArrayList<>();
+        for (Shift shift : shifts) {
+            if (shift.end <= center) {
+                leftShifts.add(shift);
+            } else if (shift.start > center) {
+                rightShifts.add(shift);
+            } else {
+                centerShifts.add(shift);
+            }
+        }
+        final Shift[] byStart = centerShifts.toArray(new Shift[0]);
+        final Shift[] byEndDescending = byStart.clone();
+        Arrays.sort(byEndDescending, Comparator.comparingLong(Shift::getEnd).reversed());
+        return new Node(center, byStart, byEndDescending, build(leftShifts), build(rightShifts));
+    }
+
+    /**
+     * Returns the number of seconds the employee worked from {@code from} until just before {@code to}, or zero
+     * if the employee has no attendance. An open shift counts until {@code to}, so {@code to} should not be later
+     * than the current time.
+     */
+    public long getSecondsWorked(String employeeName, long from, long to) {
+        final EmployeeShifts shifts = shiftsByEmployee.get(employeeName);
+        if (shifts == null || from >= to) {
+            return 0;
+        }
+        long seconds = 0;
+        final int first = firstIndexAbove(shifts.ends, shifts.count, from);
+        final int last = firstIndexAtOrAbove(shifts.starts, shifts.count, to);
+        if (first < last) {
+            seconds += shifts.totalSeconds[last] - shifts.totalSeconds[first];
+            seconds -= Math.max(0, from - shifts.starts[first]);
+            seconds -= Math.max(0, shifts.ends[last - 1] - to);
+        }
+        if (shifts.openStart != ONGOING && shifts.openStart < to) {
+            seconds += to - Math.max(shifts.openStart, from);
+        }
+        return seconds;
+    }
+
+    /**
+     * Returns the index of the first of the {@code length} leading values of the sorted array that is greater
+     * than {@code key}, or {@code length} if none is.
+     */
+    private static int firstIndexAbove(long[] sorted, int length, long key) {
+        return firstIndexAtOrAbove(sorted, length, key == Long.MAX_VALUE ? key : key + 1);
+    }
+
+    /**
+     * Returns the index of the first of the {@code length} leading values of the sorted array that is not less
+     * than {@code key}, or {@code length} if none is.
+     */
+    private static int firstIndexAtOrAbove(long[] sorted, int length, long key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the shifts of the employees on duty at the given second, in no particular order.
+     */
+    public List<Shift> getShiftsAt(long epochSecond) {
+        final List<Shift> found = new ArrayList<>();
+        for (Tree tree : trees) {
+            addShiftsAt(tree.root, epochSecond, found);
+        }
+        for (EmployeeShifts shifts : clockedIn.values()) {
+            if (shifts.openStart <= epochSecond) {
+                found.add(new Shift(shifts, shifts.openStart, ONGOING));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds the shifts in the tree under {@code root} that contain the given second, skipping the shifts of
+     * removed employees.
+     */
+    private static void addShiftsAt(Node root, long epochSecond, List<Shift> found) {
+        Node node = root;
+        while (node != null) {
+            if (epochSecond < node.center) {
+                for (Shift shift : node.byStart) {
+                    if (shift.start > epochSecond) {
+                        break;
+                    }
+                    addIfNotRemoved(shift, found);
+                }
+                node = node.left;
+            } else {
+                for (Shift shift : node.byEndDescending) {
+                    if (shift.end <= epochSecond) {
+                        break;
+                    }
+                    addIfNotRemoved(shift, found);
+                }
+                node = node.right;
+            }
+        }
+    }
+
+    private static void addIfNotRemoved(Shift shift, List<Shift> found) {
+        if (!shift.owner.isRemoved) {
+            found.add(shift);
+        }
+    }
+}
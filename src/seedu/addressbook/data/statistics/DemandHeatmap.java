@@ -0,0 +1,129 @@
+package seedu.addressbook.data.statistics;
+
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * Represents the number of orders, the revenue and the quantity sold of each dish in every hour of the week,
+ * as primitive counters of the 7 days by 24 hours, kept up to date as orders are added and removed.
+ * Reading the whole heatmap costs the same however many orders there are.
+ *
+ * Hours are those of the system time zone, as in the rest of the statistics.
+ */
+public class DemandHeatmap {
+
+    public static final int HOURS_PER_DAY = 24;
+
+    private static final int CELL_COUNT = DayOfWeek.values().length * HOURS_PER_DAY;
+
+    private int orderCount;
+    private final int[] orderCounts = new int[CELL_COUNT];
+    private final long[] revenueInCents = new long[CELL_COUNT];
+    private final Map<ReadOnlyMenus, int[]> quantitiesByDish = new HashMap<>();
+
+    /**
+     * Constructs the heatmap of the given orders, counting them in parallel.
+     */
+    public static DemandHeatmap of(Collection<? extends ReadOnlyOrder> orders) {
+        return orders.parallelStream().collect(DemandHeatmap::new, DemandHeatmap::addOrder, DemandHeatmap::merge);
+    }
+
+    /**
+     * Adds the order to the counters of the hour it was made in.
+     */
+    public void addOrder(ReadOnlyOrder order) {
+        adjust(order, 1);
+    }
+
+    /**
+     * Removes an order previously added from the counters of the hour it was made in.
+     */
+    public void removeOrder(ReadOnlyOrder order) {
+        adjust(order, -1);
+    }
+
+    /**
+     * Removes all the orders from the heatmap.
+     */
+    public void clear() {
+        orderCount = 0;
+        Arrays.fill(orderCounts, 0);
+        Arrays.fill(revenueInCents, 0);
+        quantitiesByDish.clear();
+    }
+
+    /**
+     * Adds the order, times {@code sign}, to the counters of the hour it was made in.
+     */
+    private void adjust(ReadOnlyOrder order, int sign) {
+        final ZonedDateTime time = order.getDate().atZone(ZoneId.systemDefault());
+        final int cell = cellOf(time.getDayOfWeek(), time.getHour());
+        orderCount += sign;
+        orderCounts[cell] += sign;
+        revenueInCents[cell] += sign * Utils.toCents(order.getPrice());
+        for (Map.Entry<ReadOnlyMenus, Integer> dish : order.getDishItems().entrySet()) {
+            quantitiesByDish.computeIfAbsent(dish.getKey(), unused -> new int[CELL_COUNT])[cell] +=
+                    sign * dish.getValue();
+        }
+    }
+
+    /**
+     * Adds the counters of another heatmap to this one.
+     */
+    private void merge(DemandHeatmap other) {
+        orderCount += other.orderCount;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            orderCounts[cell] += other.orderCounts[cell];
+            revenueInCents[cell] += other.revenueInCents[cell];
+        }
+        for (Map.Entry<ReadOnlyMenus, int[]> entry : other.quantitiesByDish.entrySet()) {
+            final int[] quantities = quantitiesByDish.computeIfAbsent(entry.getKey(), unused -> new int[CELL_COUNT]);
+            for (int cell = 0; cell < CELL_COUNT; cell++) {
+                quantities[cell] += entry.getValue()[cell];
+            }
+        }
+    }
+
+    private static int cellOf(DayOfWeek day, int hour) {
+        return day.ordinal() * HOURS_PER_DAY + hour;
+    }
+
+    /**
+     * Returns the number of orders in the heatmap.
+     */
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Returns the number of orders made on the day of the week within the hour starting at {@code hour}.
+     */
+    public int getOrderCount(DayOfWeek day, int hour) {
+        return orderCounts[cellOf(day, hour)];
+    }
+
+    /**
+     * Returns the total price of the orders made on the day of the week within the hour starting at {@code hour}.
+     */
+    public double getRevenue(DayOfWeek day, int hour) {
+        return revenueInCents[cellOf(day, hour)] / 100.0;
+    }
+
+    /**
+     * Returns the quantity of the dish sold on the day of the week within the hour starting at {@code hour}.
+     */
+    public int getQuantitySold(ReadOnlyMenus dish, DayOfWeek day, int hour) {
+        final int[] quantities = quantitiesByDish.get(dish);
+        return (quantities == null) ? 0 : quantities[cellOf(day, hour)];
+    }
+}
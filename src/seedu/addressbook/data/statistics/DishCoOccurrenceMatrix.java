@@ -0,0 +1,199 @@
+package seedu.addressbook.data.statistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * Represents a sparse, symmetric matrix of the number of orders in which each pair of dishes was ordered together.
+ * Dishes are numbered in the order they are first seen, and each dish has a row of primitive arrays holding the
+ * dishes it was ordered with and how often, so that suggesting dishes for a draft only reads the rows of the
+ * dishes in the draft, however many orders there are.
+ */
+public class DishCoOccurrenceMatrix {
+
+    private final Map<ReadOnlyMenus, Integer> idsByDish = new HashMap<>();
+    private final List<ReadOnlyMenus> dishesById = new ArrayList<>();
+    private final List<Row> rows = new ArrayList<>();
+
+    /**
+     * The dishes ordered together with one dish, as parallel arrays of dish ids and counts in no particular order.
+     */
+    private static class Row {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private int[] columns = new int[INITIAL_CAPACITY];
+        private int[] counts = new int[INITIAL_CAPACITY];
+        private int size = 0;
+
+        /**
+         * Adds {@code change} to the count of the column, dropping the column once its count reaches zero.
+         */
+        void add(int column, int change) {
+            for (int i = 0; i < size; i++) {
+                if (columns[i] == column) {
+                    counts[i] += change;
+                    if (counts[i] <= 0) {
+                        size--;
+                        columns[i] = columns[size];
+                        counts[i] = counts[size];
+                    }
+                    return;
+                }
+            }
+            if (change <= 0) {
+                return;
+            }
+            if (size == columns.length) {
+                columns = Arrays.copyOf(columns, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            columns[size] = column;
+            counts[size] = change;
+            size++;
+        }
+
+        /**
+         * Returns the count of the column, or zero if it has none.
+         */
+        int get(int column) {
+            for (int i = 0; i < size; i++) {
+                if (columns[i] == column) {
+                    return counts[i];
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Constructs the matrix of the given orders, counting their pairs in parallel.
+     */
+    public static DishCoOccurrenceMatrix of(Collection<? extends ReadOnlyOrder> orders) {
+        return orders.parallelStream().collect(DishCoOccurrenceMatrix::new, DishCoOccurrenceMatrix::addOrder,
+                DishCoOccurrenceMatrix::merge);
+    }
+
+    /**
+     * Counts the pairs of distinct dishes in the order.
+     */
+    public void addOrder(ReadOnlyOrder order) {
+        adjustPairs(order, 1);
+    }
+
+    /**
+     * Stops counting the pairs of dishes in an order previously added.
+     */
+    public void removeOrder(ReadOnlyOrder order) {
+        adjustPairs(order, -1);
+    }
+
+    /**
+     * Removes all the orders from the matrix.
+     */
+    public void clear() {
+        idsByDish.clear();
+        dishesById.clear();
+        rows.clear();
+    }
+
+    /**
+     * Adds {@code change} to the counts of every pair of distinct dishes in the order, in both directions.
+     */
+    private void adjustPairs(ReadOnlyOrder order, int change) {
+        final int[] ids = order.getDishItems().keySet().stream().mapToInt(this::idOf).toArray();
+        for (int i = 0; i < ids.length; i++) {
+            for (int j = i + 1; j < ids.length; j++) {
+                rows.get(ids[i]).add(ids[j], change);
+                rows.get(ids[j]).add(ids[i], change);
+            }
+        }
+    }
+
+    /**
+     * Adds the counts of another matrix to this one.
+     */
+    private void merge(DishCoOccurrenceMatrix other) {
+        for (int otherId = 0; otherId < other.rows.size(); otherId++) {
+            final Row otherRow = other.rows.get(otherId);
+            final Row row = rows.get(idOf(other.dishesById.get(otherId)));
+            for (int i = 0; i < otherRow.size; i++) {
+                row.add(idOf(other.dishesById.get(otherRow.columns[i])), otherRow.counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the dish, numbering it if it has not been seen before.
+     */
+    private int idOf(ReadOnlyMenus dish) {
+        final Integer id = idsByDish.get(dish);
+        if (id != null) {
+            return id;
+        }
+        final int newId = dishesById.size();
+        idsByDish.put(dish, newId);
+        dishesById.add(dish);
+        rows.add(new Row());
+        return newId;
+    }
+
+    /**
+     * Returns the number of orders in which both dishes were ordered.
+     */
+    public int getCount(ReadOnlyMenus dish, ReadOnlyMenus otherDish) {
+        final Integer id = idsByDish.get(dish);
+        final Integer otherId = idsByDish.get(otherDish);
+        return (id == null || otherId == null) ? 0 : rows.get(id).get(otherId);
+    }
+
+    /**
+     * Returns at most {@code k} dishes not among {@code dishes} that were most often ordered together with them,
+     * counting the orders shared with each of the given dishes. Ties are broken by dish name.
+     *
+     * @param isSuggestible tells whether a dish may be suggested, e.g. if it is still on the menu
+     */
+    public List<ReadOnlyMenus> suggestFor(Collection<? extends ReadOnlyMenus> dishes, int k,
+                                          Predicate<ReadOnlyMenus> isSuggestible) {
+        final Set<Integer> givenIds = new HashSet<>();
+        for (ReadOnlyMenus dish : dishes) {
+            final Integer id = idsByDish.get(dish);
+            if (id != null) {
+                givenIds.add(id);
+            }
+        }
+        final Map<Integer, Integer> scores = new HashMap<>();
+        for (int id : givenIds) {
+            final Row row = rows.get(id);
+            for (int i = 0; i < row.size; i++) {
+                if (!givenIds.contains(row.columns[i])) {
+                    scores.merge(row.columns[i], row.counts[i], Integer::sum);
+                }
+            }
+        }
+        final List<Integer> candidates = new ArrayList<>(scores.keySet());
+        candidates.sort(Comparator.<Integer>comparingInt(scores::get).reversed()
+                .thenComparing(id -> dishesById.get(id).getName().toString()));
+        final List<ReadOnlyMenus> suggestions = new ArrayList<>(k);
+        for (int id : candidates) {
+            if (suggestions.size() == k) {
+                break;
+            }
+            if (isSuggestible.test(dishesById.get(id))) {
+                suggestions.add(dishesById.get(id));
+            }
+        }
+        return suggestions;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.addressbook.data.statistics;
+
+import java.util.Arrays;
+
+//@@author agent
+/**
+ * A binary indexed tree of long values over the positions {@code 0} to {@code size() - 1}, for adding to one
+ * position and summing a range of positions in logarithmic time.
+ */
+class FenwickTree {
+
+    /** The partial sums, with position {@code i} stored at {@code tree[i + 1]}. */
+    private long[] tree;
+
+    FenwickTree(int size) {
+        tree = new long[size + 1];
+    }
+
+    int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Adds {@code delta} to the value at the position.
+     */
+    void add(int position, long delta) {
+        for (int i = position + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of the values at the positions {@code 0} to {@code position}, or zero if it is negative.
+     */
+    long prefixSum(int position) {
+        long sum = 0;
+        for (int i = Math.min(position + 1, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the values at the positions {@code from} to {@code to}, both inclusive.
+     */
+    long rangeSum(int from, int to) {
+        return (to < from) ? 0 : prefixSum(to) - prefixSum(from - 1);
+    }
+
+    /**
+     * Returns the first position whose prefix sum is at least {@code target}, or {@code size()} if there is none.
+     * The values must not be negative.
+     */
+    int lowerBound(long target) {
+        int position = 0;
+        long remaining = target;
+        for (int step = Integer.highestOneBit(Math.max(tree.length - 1, 1)); step > 0; step >>= 1) {
+            final int next = position + step;
+            if (next < tree.length && tree[next] < remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Moves every value {@code shift} positions up and resizes the tree to {@code newSize} positions,
+     * in time linear in the sizes, by unfolding the partial sums into values and folding them back.
+     */
+    void shiftAndResize(int shift, int newSize) {
+        final long[] values = new long[newSize + 1];
+        unfold(tree);
+        System.arraycopy(tree, 1, values, 1 + shift, Math.min(tree.length - 1, newSize - shift));
+        fold(values);
+        tree = values;
+    }
+
+    /**
+     * Replaces the tree with a tree over the given values, in time linear in their number.
+     */
+    void setValues(long[] values) {
+        final long[] partialSums = new long[values.length + 1];
+        System.arraycopy(values, 0, partialSums, 1, values.length);
+        fold(partialSums);
+        tree = partialSums;
+    }
+
+    /**
+     * Turns the partial sums of a tree into the values they sum, in place.
+     */
+    private static void unfold(long[] partialSums) {
+        for (int i = partialSums.length - 1; i > 0; i--) {
+            final int parent = i + (i & -i);
+            if (parent < partialSums.length) {
+                partialSums[parent] -= partialSums[i];
+            }
+        }
+    }
+
+    /**
+     * Turns values into the partial sums of a tree over them, in place.
+     */
+    private static void fold(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            final int parent = i + (i & -i);
+            if (parent < values.length) {
+                values[parent] += values[i];
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(tree, 0);
+    }
+}
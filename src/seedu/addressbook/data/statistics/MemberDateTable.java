@@ -1,147 +1,57 @@
 package seedu.addressbook.data.statistics;
 
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.Map;
 
-//@@author AngWM
+//@@author agent
 /**
- * Represent a table storing the registering day of the members in the member list
+ * Represent a table storing the registering day of the members in the member list.
+ * The counts of each year, month and day are kept up to date as dates are added and removed,
+ * so that looking up a count does not depend on the number of members.
  */
 public class MemberDateTable {
-    private Map<Integer, YearMember> yearMap;
-    private Calendar calendar;
-
-    public MemberDateTable() {
-        this.calendar = new GregorianCalendar();
-        this.yearMap = new HashMap<>();
-    }
+    private final Map<Integer, Integer> yearMap = new HashMap<>();
+    private final Map<YearMonth, Integer> monthMap = new HashMap<>();
+    private final Map<LocalDate, Integer> dayMap = new HashMap<>();
 
     /**
-     * Adjust the yearMap based on the added Date
+     * Adds a registering day to the counts of its year, month and day.
      */
-    public void addData(Date date) {
-        calendar.setTime(date);
-        if (!yearMap.containsKey(calendar.get(Calendar.YEAR))) {
-            YearMember newYear = new YearMember();
-            yearMap.put(calendar.get(Calendar.YEAR), newYear.addData(date));
-        } else {
-            yearMap.put(calendar.get(Calendar.YEAR), yearMap.get(calendar.get(Calendar.YEAR)).addData(date));
-        }
-    }
-
-    public int getYearCount(Date date) {
-        calendar.setTime(date);
-        if (yearMap.containsKey(calendar.get(Calendar.YEAR))) {
-            return yearMap.get(calendar.get(Calendar.YEAR)).getCount();
-        } else {
-            return 0;
-        }
-    }
-
-    public int getMonthCount(Date date) {
-        calendar.setTime(date);
-        return yearMap.get(calendar.get(Calendar.YEAR)).getMonthMap().get(calendar.get(Calendar.MONTH)).getCount();
-    }
-
-    public int getDayCount() {
-        return yearMap.get(calendar.get(Calendar.YEAR))
-                .getMonthMap().get(calendar.get(Calendar.MONTH))
-                .getDayMap().get(calendar.get(Calendar.DATE))
-                .getCount();
-    }
-}
-
-/**
- * Represents an year in the yearMap
- */
-class YearMember {
-    private int count;
-    private Map<Integer, MonthMember> monthMap;
-    private Calendar calendar;
-
-    public YearMember() {
-        this.calendar = new GregorianCalendar();
-        this.count = 0;
-        this.monthMap = new HashMap<>();
-        for (int i = 0; i < 12; i++) {
-            getMonthMap().put(i, new MonthMember());
-        }
+    public void addData(LocalDate date) {
+        adjustCounts(date, 1);
     }
 
     /**
-     * Adjust the monthMap based on the added Date and return the yearMember container object
+     * Removes a registering day previously added from the counts of its year, month and day.
      */
-    public YearMember addData(Date date) {
-        calendar.setTime(date);
-        count = getCount() + 1;
-        getMonthMap().put(calendar.get(Calendar.MONTH), getMonthMap().get(calendar.get(Calendar.MONTH)).addData(date));
-        return this;
-    }
-
-    public int getCount() {
-        return count;
-    }
-
-    public Map<Integer, MonthMember> getMonthMap() {
-        return monthMap;
+    public void removeData(LocalDate date) {
+        adjustCounts(date, -1);
     }
-}
 
-/**
- * Represents a month in the monthMap
- */
-class MonthMember {
-    private int count;
-    private Map<Integer, DayMember> dayMap;
-    private Calendar calendar;
-
-    public MonthMember() {
-        this.calendar = new GregorianCalendar();
-        this.count = 0;
-        this.dayMap = new HashMap<>();
-        for (int i = 1; i <= 31; i++) {
-            getDayMap().put(i, new DayMember());
-        }
+    private void adjustCounts(LocalDate date, int change) {
+        adjustCount(yearMap, date.getYear(), change);
+        adjustCount(monthMap, YearMonth.from(date), change);
+        adjustCount(dayMap, date, change);
     }
 
     /**
-     * Adjust the dayMap based on the added Date and return the MonthMember container object
+     * Adds {@code change} to the count of {@code key}, dropping the entry once the count reaches zero.
      */
-    public MonthMember addData(Date date) {
-        calendar.setTime(date);
-        count = getCount() + 1;
-        getDayMap().put(calendar.get(Calendar.DATE), getDayMap().get(calendar.get(Calendar.DATE)).addData());
-        return this;
+    private static <K> void adjustCount(Map<K, Integer> counts, K key, int change) {
+        counts.merge(key, change, (count, unused) -> (count + change == 0) ? null : count + change);
     }
 
-    public int getCount() {
-        return count;
-    }
-
-    public Map<Integer, DayMember> getDayMap() {
-        return dayMap;
-    }
-}
-
-/**
- * Represents a day in the dayMap
- */
-class DayMember {
-    private int count;
-
-    public DayMember() {
-        this.count = 0;
+    public int getYearCount(LocalDate date) {
+        return yearMap.getOrDefault(date.getYear(), 0);
     }
 
-    public DayMember addData() {
-        count = getCount() + 1;
-        return this;
+    public int getMonthCount(LocalDate date) {
+        return monthMap.getOrDefault(YearMonth.from(date), 0);
     }
 
-    public int getCount() {
-        return count;
+    public int getDayCount(LocalDate date) {
+        return dayMap.getOrDefault(date, 0);
     }
 }
@@ -0,0 +1,100 @@
+package seedu.addressbook.data.statistics;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.addressbook.data.member.ReadOnlyMember;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * Represents the members who made orders on every day that has orders by members, as one HyperLogLog sketch per
+ * day. The number of distinct members who visited in any range of days is estimated from the merge of the
+ * sketches of its days, without visiting the orders, in memory fixed per day.
+ *
+ * Orders made without a member are not counted. Since a sketch cannot forget a member, removing an order is
+ * left to the owner, which rebuilds the sketches.
+ *
+ * Days are those of the system time zone, as in the rest of the statistics.
+ */
+public class MemberVisitSketches {
+
+    private final TreeMap<Long, HyperLogLog> sketchesByDay = new TreeMap<>();
+
+    /**
+     * Constructs the sketches of the given orders, adding their members in parallel.
+     */
+    public static MemberVisitSketches of(Collection<? extends ReadOnlyOrder> orders) {
+        return orders.parallelStream().collect(MemberVisitSketches::new, MemberVisitSketches::addOrder,
+                MemberVisitSketches::merge);
+    }
+
+    /**
+     * Adds the member of the order to the sketch of its day, if the order was made by a member.
+     */
+    public void addOrder(ReadOnlyOrder order) {
+        if (!order.hasCustomerField()) {
+            return;
+        }
+        final long day = SalesCube.getLocalDate(order).toEpochDay();
+        sketchesByDay.computeIfAbsent(day, unused -> new HyperLogLog()).add(keyOf(order.getCustomer()));
+    }
+
+    /**
+     * Removes all the orders from the sketches.
+     */
+    public void clear() {
+        sketchesByDay.clear();
+    }
+
+    /**
+     * Adds the sketches of another set of sketches to these ones.
+     */
+    private void merge(MemberVisitSketches other) {
+        for (Map.Entry<Long, HyperLogLog> entry : other.sketchesByDay.entrySet()) {
+            sketchesByDay.computeIfAbsent(entry.getKey(), unused -> new HyperLogLog()).merge(entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the key a member is counted by. Members are identified by their name and email.
+     */
+    private static String keyOf(ReadOnlyMember member) {
+        return member.getName().fullName + "\n" + member.getEmail().value;
+    }
+
+    /**
+     * Returns the first day on which a member made an order, or null if there is none.
+     */
+    public LocalDate getFirstVisitDay() {
+        return sketchesByDay.isEmpty() ? null : LocalDate.ofEpochDay(sketchesByDay.firstKey());
+    }
+
+    /**
+     * Returns the last day on which a member made an order, or null if there is none.
+     */
+    public LocalDate getLastVisitDay() {
+        return sketchesByDay.isEmpty() ? null : LocalDate.ofEpochDay(sketchesByDay.lastKey());
+    }
+
+    /**
+     * Returns the estimated number of distinct members who made an order from the start of {@code from} until
+     * the end of {@code to}.
+     */
+    public long countVisitors(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        final Map<Long, HyperLogLog> days = sketchesByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true);
+        if (days.isEmpty()) {
+            return 0;
+        }
+        final HyperLogLog sketch = new HyperLogLog();
+        for (HyperLogLog daySketch : days.values()) {
+            sketch.merge(daySketch);
+        }
+        return sketch.estimate();
+    }
+}
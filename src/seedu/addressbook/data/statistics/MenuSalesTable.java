@@ -0,0 +1,269 @@
+package seedu.addressbook.data.statistics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.menu.Type.Category;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * Represents a table of the quantity sold and the sales revenue of every menu item that is on the menu or has been
+ * ordered, kept sorted by quantity sold within each category as orders and menu items are added and removed.
+ * Reading the best or worst sellers of a category therefore only visits the items read.
+ *
+ * Items selling the same quantity are ordered by name, as in a stable sort of items listed by name.
+ */
+public class MenuSalesTable {
+
+    private static final Comparator<Sales> BY_QUANTITY_THEN_NAME = Comparator
+            .comparingInt((Sales sales) -> sales.quantity)
+            .thenComparing(sales -> sales.menu.getName().toString());
+
+    private final Map<ReadOnlyMenus, Sales> salesByMenu = new HashMap<>();
+    private final NavigableSet<Sales> allSales = new TreeSet<>(BY_QUANTITY_THEN_NAME);
+    private final Map<Category, NavigableSet<Sales>> salesByCategory = new EnumMap<>(Category.class);
+    private int orderCount = 0;
+
+    /**
+     * The sales of one menu item. The quantity is only changed while the item is out of the sorted sets.
+     */
+    private static class Sales {
+        private final ReadOnlyMenus menu;
+        private int quantity = 0;
+        private long revenueInCents = 0;
+        /** The number of orders having the item; the item is dropped once it is in none and not on the menu. */
+        private int orderCount = 0;
+        private boolean isOnMenu = false;
+
+        Sales(ReadOnlyMenus menu) {
+            this.menu = menu;
+        }
+    }
+
+    public MenuSalesTable() {
+        for (Category category : Category.values()) {
+            salesByCategory.put(category, new TreeSet<>(BY_QUANTITY_THEN_NAME));
+        }
+    }
+
+    /**
+     * Constructs the table of the given orders, counted in parallel, and menu items.
+     */
+    public static MenuSalesTable of(Collection<? extends ReadOnlyOrder> orders,
+                                    Iterable<? extends ReadOnlyMenus> menus) {
+        final MenuSalesTable table = orders.parallelStream()
+                .collect(MenuSalesTable::new, MenuSalesTable::addOrder, MenuSalesTable::merge);
+        for (ReadOnlyMenus menu : menus) {
+            table.addMenu(menu);
+        }
+        return table;
+    }
+
+    /**
+     * Adds the sales and the menu items of another table to this one.
+     */
+    private void merge(MenuSalesTable other) {
+        orderCount += other.orderCount;
+        for (Sales otherSales : other.salesByMenu.values()) {
+            final Sales sales = getOrCreateSales(otherSales.menu);
+            updateSales(sales, otherSales.quantity, otherSales.revenueInCents);
+            sales.orderCount += otherSales.orderCount;
+            sales.isOnMenu |= otherSales.isOnMenu;
+        }
+    }
+
+    /**
+     * Adds a menu item to the table, with no sales if it has not been ordered.
+     */
+    public void addMenu(ReadOnlyMenus menu) {
+        getOrCreateSales(menu).isOnMenu = true;
+    }
+
+    /**
+     * Removes a menu item from the table, unless it has been ordered.
+     */
+    public void removeMenu(ReadOnlyMenus menu) {
+        final Sales sales = salesByMenu.get(menu);
+        if (sales != null) {
+            sales.isOnMenu = false;
+            dropIfUnused(sales);
+        }
+    }
+
+    /**
+     * Removes all the menu items which have not been ordered from the table.
+     */
+    public void clearMenus() {
+        for (Sales sales : new ArrayList<>(salesByMenu.values())) {
+            sales.isOnMenu = false;
+            dropIfUnused(sales);
+        }
+    }
+
+    /**
+     * Adds the dishes of an order to the sales of the menu items.
+     */
+    public void addOrder(ReadOnlyOrder order) {
+        orderCount++;
+        for (Map.Entry<ReadOnlyMenus, Integer> dish : order.getDishItems().entrySet()) {
+            final Sales sales = getOrCreateSales(dish.getKey());
+            final int quantity = dish.getValue();
+            final long priceInCents = Utils.toCents(dish.getKey().getPrice().convertValueOfPriceToDouble());
+            updateSales(sales, quantity, quantity * priceInCents);
+            sales.orderCount++;
+        }
+    }
+
+    /**
+     * Removes the dishes of an order previously added from the sales of the menu items.
+     */
+    public void removeOrder(ReadOnlyOrder order) {
+        orderCount--;
+        for (Map.Entry<ReadOnlyMenus, Integer> dish : order.getDishItems().entrySet()) {
+            final Sales sales = salesByMenu.get(dish.getKey());
+            if (sales == null) {
+                continue;
+            }
+            final int quantity = dish.getValue();
+            final long priceInCents = Utils.toCents(dish.getKey().getPrice().convertValueOfPriceToDouble());
+            updateSales(sales, -quantity, -quantity * priceInCents);
+            sales.orderCount--;
+            dropIfUnused(sales);
+        }
+    }
+
+    /**
+     * Adds sales of a menu item made outside the orders of the table, e.g. the total sales over a range of days,
+     * which are kept as if they were made in one order.
+     */
+    public void addSales(ReadOnlyMenus menu, int quantity, long revenueInCents) {
+        final Sales sales = getOrCreateSales(menu);
+        updateSales(sales, quantity, revenueInCents);
+        sales.orderCount++;
+    }
+
+    /**
+     * Removes all the orders from the table, leaving the menu items with no sales.
+     */
+    public void clearOrders() {
+        orderCount = 0;
+        for (Sales sales : new ArrayList<>(salesByMenu.values())) {
+            updateSales(sales, -sales.quantity, -sales.revenueInCents);
+            sales.orderCount = 0;
+            dropIfUnused(sales);
+        }
+    }
+
+    private Sales getOrCreateSales(ReadOnlyMenus menu) {
+        Sales sales = salesByMenu.get(menu);
+        if (sales == null) {
+            sales = new Sales(menu);
+            salesByMenu.put(menu, sales);
+            allSales.add(sales);
+            categorySetOf(sales).add(sales);
+        }
+        return sales;
+    }
+
+    /**
+     * Changes the sales of an item, taking it out of the sorted sets while its quantity changes.
+     */
+    private void updateSales(Sales sales, int quantityChange, long revenueChangeInCents) {
+        allSales.remove(sales);
+        categorySetOf(sales).remove(sales);
+        sales.quantity += quantityChange;
+        sales.revenueInCents += revenueChangeInCents;
+        allSales.add(sales);
+        categorySetOf(sales).add(sales);
+    }
+
+    /**
+     * Removes the item from the table if it is in no order and not on the menu.
+     */
+    private void dropIfUnused(Sales sales) {
+        if (sales.orderCount == 0 && !sales.isOnMenu) {
+            salesByMenu.remove(sales.menu);
+            allSales.remove(sales);
+            categorySetOf(sales).remove(sales);
+        }
+    }
+
+    private NavigableSet<Sales> categorySetOf(Sales sales) {
+        return salesByCategory.get(sales.menu.getType().getCategory());
+    }
+
+    /**
+     * Returns the number of orders in the table.
+     */
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Returns the quantity sold of the menu item, or zero if it is not in the table.
+     */
+    public int getQuantitySold(ReadOnlyMenus menu) {
+        final Sales sales = salesByMenu.get(menu);
+        return (sales == null) ? 0 : sales.quantity;
+    }
+
+    /**
+     * Returns the sales revenue of the menu item, or zero if it is not in the table.
+     */
+    public double getRevenue(ReadOnlyMenus menu) {
+        final Sales sales = salesByMenu.get(menu);
+        return (sales == null) ? 0 : sales.revenueInCents / 100.0;
+    }
+
+    /**
+     * Returns all the menu items in the table, the most sold first.
+     */
+    public List<ReadOnlyMenus> getMenusByQuantitySold() {
+        final List<ReadOnlyMenus> menus = new ArrayList<>(allSales.size());
+        for (Sales sales : allSales.descendingSet()) {
+            menus.add(sales.menu);
+        }
+        return menus;
+    }
+
+    /**
+     * Returns at most {@code k} of the menu items of the category which have been sold, the most sold first.
+     */
+    public List<ReadOnlyMenus> getBestSellers(Category category, int k) {
+        final List<ReadOnlyMenus> bestSellers = new ArrayList<>(k);
+        final Iterator<Sales> iterator = salesByCategory.get(category).descendingIterator();
+        while (bestSellers.size() < k && iterator.hasNext()) {
+            final Sales sales = iterator.next();
+            if (sales.quantity <= 0) {
+                break;
+            }
+            bestSellers.add(sales.menu);
+        }
+        return bestSellers;
+    }
+
+    /**
+     * Returns the least sold menu item of the category if it sold fewer than {@code maxQuantity} and is not
+     * the best seller of the category, or null if there is none.
+     */
+    public ReadOnlyMenus getWorstSeller(Category category, int maxQuantity) {
+        final NavigableSet<Sales> categorySales = salesByCategory.get(category);
+        if (categorySales.isEmpty()) {
+            return null;
+        }
+        final Sales leastSold = categorySales.first();
+        final boolean isBestSeller = leastSold == categorySales.last() && leastSold.quantity > 0;
+        return (isBestSeller || leastSold.quantity >= maxQuantity) ? null : leastSold.menu;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.addressbook.data.statistics;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * Represents the distribution of the order values of every day that has orders, as one histogram per day.
+ * The distribution of any range of days is the merge of the histograms of its days, so the percentiles of a
+ * period are read without visiting the orders.
+ *
+ * Days are those of the system time zone, as in the rest of the statistics.
+ */
+public class OrderValueDistribution {
+
+    private final TreeMap<Long, OrderValueHistogram> histogramsByDay = new TreeMap<>();
+
+    /**
+     * Constructs the distribution of the given orders, sorting them into day histograms in parallel.
+     */
+    public static OrderValueDistribution of(Collection<? extends ReadOnlyOrder> orders) {
+        return orders.parallelStream().collect(OrderValueDistribution::new, OrderValueDistribution::addOrder,
+                OrderValueDistribution::merge);
+    }
+
+    /**
+     * Adds the value of the order to the histogram of its day.
+     */
+    public void addOrder(ReadOnlyOrder order) {
+        histogramsByDay.computeIfAbsent(dayOf(order), unused -> new OrderValueHistogram()).addOrder(order);
+    }
+
+    /**
+     * Removes the value of an order previously added from the histogram of its day, dropping the histogram once
+     * the day has no orders left.
+     */
+    public void removeOrder(ReadOnlyOrder order) {
+        final long day = dayOf(order);
+        final OrderValueHistogram histogram = histogramsByDay.get(day);
+        if (histogram == null) {
+            return;
+        }
+        histogram.removeOrder(order);
+        if (histogram.getCount() <= 0) {
+            histogramsByDay.remove(day);
+        }
+    }
+
+    /**
+     * Removes all the orders from the distribution.
+     */
+    public void clear() {
+        histogramsByDay.clear();
+    }
+
+    /**
+     * Adds the histograms of another distribution to this one.
+     */
+    private void merge(OrderValueDistribution other) {
+        for (Map.Entry<Long, OrderValueHistogram> entry : other.histogramsByDay.entrySet()) {
+            histogramsByDay.computeIfAbsent(entry.getKey(), unused -> new OrderValueHistogram())
+                    .merge(entry.getValue());
+        }
+    }
+
+    private static long dayOf(ReadOnlyOrder order) {
+        return SalesCube.getLocalDate(order).toEpochDay();
+    }
+
+    /**
+     * Returns a new histogram of the values of the orders made from the start of {@code from} until the end of
+     * {@code to}.
+     */
+    public OrderValueHistogram getHistogram(LocalDate from, LocalDate to) {
+        final OrderValueHistogram histogram = new OrderValueHistogram();
+        if (from.isAfter(to)) {
+            return histogram;
+        }
+        final Map<Long, OrderValueHistogram> days = histogramsByDay.subMap(from.toEpochDay(), true,
+                to.toEpochDay(), true);
+        for (OrderValueHistogram dayHistogram : days.values()) {
+            histogram.merge(dayHistogram);
+        }
+        return histogram;
+    }
+}
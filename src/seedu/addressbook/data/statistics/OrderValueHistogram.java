@@ -0,0 +1,129 @@
+package seedu.addressbook.data.statistics;
+
+import java.util.Arrays;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * Represents the distribution of the values of a set of orders, as a log-linear histogram of the values in cents:
+ * each power of two is split into {@value #SUB_BUCKET_COUNT} buckets of equal width, so every bucket is at most
+ * about 3% as wide as the values it holds, and the buckets of small values hold a single cent each.
+ *
+ * Each bucket keeps the number of orders in it and the sum of their values, in primitive arrays grown to the
+ * highest bucket used. A percentile is read as the mean value of the bucket holding it, which is exact when the
+ * orders of that bucket have the same value. Histograms can be merged, e.g. to compare periods of different lengths.
+ */
+public class OrderValueHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int INITIAL_BUCKETS = 4 * SUB_BUCKET_COUNT;
+
+    private int[] counts = new int[INITIAL_BUCKETS];
+    private long[] sumsInCents = new long[INITIAL_BUCKETS];
+    private int totalCount = 0;
+
+    /**
+     * Adds the value of the order to the histogram.
+     */
+    public void addOrder(ReadOnlyOrder order) {
+        add(Utils.toCents(order.getPrice()), 1);
+    }
+
+    /**
+     * Removes the value of an order previously added from the histogram.
+     */
+    public void removeOrder(ReadOnlyOrder order) {
+        add(Utils.toCents(order.getPrice()), -1);
+    }
+
+    /**
+     * Removes all the values from the histogram.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(sumsInCents, 0);
+        totalCount = 0;
+    }
+
+    /**
+     * Adds the values of another histogram to this one.
+     */
+    public void merge(OrderValueHistogram other) {
+        ensureCapacity(other.counts.length);
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+            sumsInCents[i] += other.sumsInCents[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * Adds {@code change} orders of the given value to its bucket. Negative values are counted as zero.
+     */
+    private void add(long valueInCents, int change) {
+        final long value = Math.max(valueInCents, 0);
+        final int bucket = bucketOf(value);
+        ensureCapacity(bucket + 1);
+        counts[bucket] += change;
+        sumsInCents[bucket] += change * value;
+        totalCount += change;
+    }
+
+    /**
+     * Grows the arrays to hold at least {@code bucketCount} buckets.
+     */
+    private void ensureCapacity(int bucketCount) {
+        if (bucketCount > counts.length) {
+            final int newLength = Math.max(bucketCount, counts.length * 2);
+            counts = Arrays.copyOf(counts, newLength);
+            sumsInCents = Arrays.copyOf(sumsInCents, newLength);
+        }
+    }
+
+    /**
+     * Returns the bucket of the value. Values below twice the number of sub-buckets have a bucket each; above
+     * that, the bucket is found from the power of two of the value and its highest {@value #SUB_BUCKET_BITS} bits
+     * after the leading one.
+     */
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >> shift);
+    }
+
+    /**
+     * Returns the number of orders in the histogram.
+     */
+    public int getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the value of the order at the given percentile, i.e. the smallest value that at least
+     * {@code percentile} percent of the orders are worth no more than, or zero if the histogram is empty.
+     *
+     * @param percentile between 0 and 100.
+     */
+    public double getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile out of range: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (counts[i] > 0 && seen >= rank) {
+                return Math.round((double) sumsInCents[i] / counts[i]) / 100.0;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.addressbook.data.statistics;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * Represents the number of orders and the revenue of each of the last {@value #MAX_WINDOW_MINUTES} minutes, as a
+ * ring of per-minute buckets indexed by the minute since the epoch. A bucket is reused once its minute falls out
+ * of the ring, so the totals of a sliding window are summed over its minutes only, without allocating.
+ */
+public class RollingSalesTicker {
+
+    /** The longest window, in minutes, whose totals can be read. */
+    public static final int MAX_WINDOW_MINUTES = 60;
+
+    private static final long NO_MINUTE = Long.MIN_VALUE;
+
+    /** The minute since the epoch that each bucket holds the totals of. */
+    private final long[] minutes = new long[MAX_WINDOW_MINUTES];
+    private final int[] orderCounts = new int[MAX_WINDOW_MINUTES];
+    private final long[] revenueInCents = new long[MAX_WINDOW_MINUTES];
+
+    public RollingSalesTicker() {
+        clear();
+    }
+
+    /**
+     * Constructs a ticker of the given orders. Only the orders of the latest minutes are kept.
+     */
+    public RollingSalesTicker(Iterable<? extends ReadOnlyOrder> orders) {
+        this();
+        for (ReadOnlyOrder order : orders) {
+            addOrder(order);
+        }
+    }
+
+    /**
+     * Adds the order to the bucket of its minute, unless the bucket holds a later minute, in which case the order
+     * is too old to fall in any window.
+     */
+    public void addOrder(ReadOnlyOrder order) {
+        final long minute = toMinute(order.getDate());
+        final int bucket = bucketOf(minute);
+        if (minutes[bucket] > minute) {
+            return;
+        }
+        if (minutes[bucket] < minute) {
+            minutes[bucket] = minute;
+            orderCounts[bucket] = 0;
+            revenueInCents[bucket] = 0;
+        }
+        orderCounts[bucket]++;
+        revenueInCents[bucket] += Utils.toCents(order.getPrice());
+    }
+
+    /**
+     * Removes an order previously added from the bucket of its minute, if the bucket still holds that minute.
+     */
+    public void removeOrder(ReadOnlyOrder order) {
+        final long minute = toMinute(order.getDate());
+        final int bucket = bucketOf(minute);
+        if (minutes[bucket] == minute) {
+            orderCounts[bucket]--;
+            revenueInCents[bucket] -= Utils.toCents(order.getPrice());
+        }
+    }
+
+    /**
+     * Removes all the orders from the ticker.
+     */
+    public void clear() {
+        Arrays.fill(minutes, NO_MINUTE);
+        Arrays.fill(orderCounts, 0);
+        Arrays.fill(revenueInCents, 0);
+    }
+
+    /**
+     * Returns the number of orders made in the {@code windowMinutes} minutes up to and including the minute of
+     * {@code now}.
+     *
+     * @throws IllegalArgumentException if the window is not between 1 and {@value #MAX_WINDOW_MINUTES} minutes.
+     */
+    public int getOrderCount(Instant now, int windowMinutes) {
+        final long lastMinute = toMinute(now);
+        checkWindow(windowMinutes);
+        int count = 0;
+        for (long minute = lastMinute - windowMinutes + 1; minute <= lastMinute; minute++) {
+            final int bucket = bucketOf(minute);
+            if (minutes[bucket] == minute) {
+                count += orderCounts[bucket];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total price of the orders made in the {@code windowMinutes} minutes up to and including the
+     * minute of {@code now}.
+     *
+     * @throws IllegalArgumentException if the window is not between 1 and {@value #MAX_WINDOW_MINUTES} minutes.
+     */
+    public double getRevenue(Instant now, int windowMinutes) {
+        final long lastMinute = toMinute(now);
+        checkWindow(windowMinutes);
+        long sumInCents = 0;
+        for (long minute = lastMinute - windowMinutes + 1; minute <= lastMinute; minute++) {
+            final int bucket = bucketOf(minute);
+            if (minutes[bucket] == minute) {
+                sumInCents += revenueInCents[bucket];
+            }
+        }
+        return sumInCents / 100.0;
+    }
+
+    private static void checkWindow(int windowMinutes) {
+        if (windowMinutes < 1 || windowMinutes > MAX_WINDOW_MINUTES) {
+            throw new IllegalArgumentException("Window of " + windowMinutes + " minutes");
+        }
+    }
+
+    private static long toMinute(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 60);
+    }
+
+    private static int bucketOf(long minute) {
+        return (int) Math.floorMod(minute, (long) MAX_WINDOW_MINUTES);
+    }
+}
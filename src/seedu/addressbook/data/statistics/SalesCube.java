@@ -0,0 +1,300 @@
+package seedu.addressbook.data.statistics;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * Represents the number of orders, the revenue, and the quantity sold and revenue of each dish on every day
+ * that has orders, as one Fenwick tree per series over the days from the first order to the last.
+ * The totals of any range of days, for all orders or for any set of dishes, are summed in time logarithmic in
+ * the number of days, without visiting the orders.
+ *
+ * Days are those of the system time zone, as in the rest of the statistics.
+ */
+public class SalesCube {
+
+    private static final int INITIAL_DAYS = 64;
+
+    /** The epoch day of the first position of every tree. */
+    private long firstDay = 0;
+    /** The number of days covered by the trees, or zero before the first order is added. */
+    private int dayCount = 0;
+
+    private final FenwickTree orderCounts = new FenwickTree(0);
+    private final FenwickTree orderRevenueInCents = new FenwickTree(0);
+    private final Map<ReadOnlyMenus, DishSeries> seriesByDish = new HashMap<>();
+
+    /**
+     * The quantity sold and the revenue of one dish on each day.
+     */
+    private static class DishSeries {
+        private final FenwickTree quantities;
+        private final FenwickTree revenueInCents;
+
+        DishSeries(int size) {
+            quantities = new FenwickTree(size);
+            revenueInCents = new FenwickTree(size);
+        }
+    }
+
+    /**
+     * The totals of a share of the orders on each day of a fixed range, in plain arrays.
+     */
+    private static class DailyTotals {
+        private final long firstDay;
+        private final long[] orderCounts;
+        private final long[] orderRevenueInCents;
+        private final Map<ReadOnlyMenus, long[]> quantitiesByDish = new HashMap<>();
+        private final Map<ReadOnlyMenus, long[]> revenueInCentsByDish = new HashMap<>();
+
+        DailyTotals(long firstDay, int dayCount) {
+            this.firstDay = firstDay;
+            this.orderCounts = new long[dayCount];
+            this.orderRevenueInCents = new long[dayCount];
+        }
+
+        /**
+         * Adds the order to the totals of its day, which must be in the range.
+         */
+        void addOrder(ReadOnlyOrder order) {
+            final int position = (int) (getLocalDate(order).toEpochDay() - firstDay);
+            orderCounts[position]++;
+            orderRevenueInCents[position] += Utils.toCents(order.getPrice());
+            for (Map.Entry<ReadOnlyMenus, Integer> dish : order.getDishItems().entrySet()) {
+                final int quantity = dish.getValue();
+                seriesOf(quantitiesByDish, dish.getKey())[position] += quantity;
+                seriesOf(revenueInCentsByDish, dish.getKey())[position] +=
+                        quantity * Utils.toCents(dish.getKey().getPrice().convertValueOfPriceToDouble());
+            }
+        }
+
+        /**
+         * Adds the totals of another share of the orders, over the same days, to these ones.
+         */
+        void merge(DailyTotals other) {
+            addTo(orderCounts, other.orderCounts);
+            addTo(orderRevenueInCents, other.orderRevenueInCents);
+            other.quantitiesByDish.forEach((dish, values) -> addTo(seriesOf(quantitiesByDish, dish), values));
+            other.revenueInCentsByDish.forEach((dish, values) -> addTo(seriesOf(revenueInCentsByDish, dish), values));
+        }
+
+        private long[] seriesOf(Map<ReadOnlyMenus, long[]> seriesByDish, ReadOnlyMenus dish) {
+            return seriesByDish.computeIfAbsent(dish, unused -> new long[orderCounts.length]);
+        }
+
+        private static void addTo(long[] values, long[] otherValues) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] += otherValues[i];
+            }
+        }
+    }
+
+    /**
+     * Constructs the cube of the given orders. The range of days is found first, so that the workers of a parallel
+     * pass can add their shares of the orders into plain arrays over the same days, which are summed and turned
+     * into trees once.
+     */
+    public static SalesCube of(Collection<? extends ReadOnlyOrder> orders) {
+        final SalesCube cube = new SalesCube();
+        final LongSummaryStatistics seconds = orders.parallelStream()
+                .mapToLong(order -> order.getDate().getEpochSecond()).summaryStatistics();
+        if (seconds.getCount() == 0) {
+            return cube;
+        }
+        final long firstDay = toEpochDay(seconds.getMin());
+        final int dayCount = (int) (toEpochDay(seconds.getMax()) - firstDay + 1);
+        final DailyTotals totals = orders.parallelStream().collect(() -> new DailyTotals(firstDay, dayCount),
+                DailyTotals::addOrder, DailyTotals::merge);
+
+        cube.firstDay = firstDay;
+        cube.dayCount = dayCount;
+        cube.orderCounts.setValues(totals.orderCounts);
+        cube.orderRevenueInCents.setValues(totals.orderRevenueInCents);
+        for (Map.Entry<ReadOnlyMenus, long[]> entry : totals.quantitiesByDish.entrySet()) {
+            final DishSeries series = new DishSeries(0);
+            series.quantities.setValues(entry.getValue());
+            series.revenueInCents.setValues(totals.revenueInCentsByDish.get(entry.getKey()));
+            cube.seriesByDish.put(entry.getKey(), series);
+        }
+        return cube;
+    }
+
+    private static long toEpochDay(long epochSecond) {
+        return LocalDate.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault()).toEpochDay();
+    }
+
+    /**
+     * Returns the date of the order in the system time zone.
+     */
+    public static LocalDate getLocalDate(ReadOnlyOrder order) {
+        return LocalDate.ofInstant(order.getDate(), ZoneId.systemDefault());
+    }
+
+    /**
+     * Adds the order to the totals of its day.
+     */
+    public void addOrder(ReadOnlyOrder order) {
+        adjust(order, 1);
+    }
+
+    /**
+     * Removes an order previously added from the totals of its day.
+     */
+    public void removeOrder(ReadOnlyOrder order) {
+        adjust(order, -1);
+    }
+
+    /**
+     * Removes all the orders from the cube.
+     */
+    public void clear() {
+        orderCounts.clear();
+        orderRevenueInCents.clear();
+        seriesByDish.clear();
+    }
+
+    /**
+     * Adds the order, times {@code sign}, to the series of its day.
+     */
+    private void adjust(ReadOnlyOrder order, int sign) {
+        final int position = positionOf(getLocalDate(order).toEpochDay());
+        orderCounts.add(position, sign);
+        orderRevenueInCents.add(position, sign * Utils.toCents(order.getPrice()));
+        for (Map.Entry<ReadOnlyMenus, Integer> dish : order.getDishItems().entrySet()) {
+            final DishSeries series = seriesByDish.computeIfAbsent(dish.getKey(), unused -> new DishSeries(dayCount));
+            final int quantity = sign * dish.getValue();
+            series.quantities.add(position, quantity);
+            series.revenueInCents.add(position,
+                    quantity * Utils.toCents(dish.getKey().getPrice().convertValueOfPriceToDouble()));
+        }
+    }
+
+    /**
+     * Returns the position of the epoch day in the trees, first growing the trees to cover the day.
+     * The trees are grown to at least twice their size, so that growing costs constant time per order on average.
+     */
+    private int positionOf(long epochDay) {
+        if (dayCount == 0) {
+            firstDay = epochDay - INITIAL_DAYS / 2;
+            resize(0, INITIAL_DAYS);
+        } else if (epochDay < firstDay) {
+            final int shift = (int) Math.max(firstDay - epochDay + dayCount / 2, dayCount);
+            firstDay -= shift;
+            resize(shift, dayCount + shift);
+        } else if (epochDay >= firstDay + dayCount) {
+            resize(0, (int) Math.max(epochDay - firstDay + dayCount / 2, 2L * dayCount));
+        }
+        return (int) (epochDay - firstDay);
+    }
+
+    /**
+     * Moves every series {@code shift} days up and resizes it to {@code newDayCount} days.
+     */
+    private void resize(int shift, int newDayCount) {
+        orderCounts.shiftAndResize(shift, newDayCount);
+        orderRevenueInCents.shiftAndResize(shift, newDayCount);
+        for (DishSeries series : seriesByDish.values()) {
+            series.quantities.shiftAndResize(shift, newDayCount);
+            series.revenueInCents.shiftAndResize(shift, newDayCount);
+        }
+        dayCount = newDayCount;
+    }
+
+    /**
+     * Returns the sum of the tree over the days from {@code from} to {@code to}, both inclusive.
+     */
+    private long sumOver(FenwickTree tree, LocalDate from, LocalDate to) {
+        final long fromPosition = Math.max(from.toEpochDay() - firstDay, 0);
+        final long toPosition = Math.min(to.toEpochDay() - firstDay, dayCount - 1);
+        return (toPosition < fromPosition) ? 0 : tree.rangeSum((int) fromPosition, (int) toPosition);
+    }
+
+    /**
+     * Returns the number of orders made from {@code from} to {@code to}, both inclusive.
+     */
+    public int getOrderCount(LocalDate from, LocalDate to) {
+        return (int) sumOver(orderCounts, from, to);
+    }
+
+    /**
+     * Returns the total price of the orders made from {@code from} to {@code to}, both inclusive.
+     */
+    public double getRevenue(LocalDate from, LocalDate to) {
+        return sumOver(orderRevenueInCents, from, to) / 100.0;
+    }
+
+    /**
+     * Returns the quantity of the dishes sold from {@code from} to {@code to}, both inclusive.
+     */
+    public int getQuantitySold(Collection<? extends ReadOnlyMenus> dishes, LocalDate from, LocalDate to) {
+        long quantity = 0;
+        for (ReadOnlyMenus dish : dishes) {
+            final DishSeries series = seriesByDish.get(dish);
+            if (series != null) {
+                quantity += sumOver(series.quantities, from, to);
+            }
+        }
+        return (int) quantity;
+    }
+
+    /**
+     * Returns the revenue from the dishes sold from {@code from} to {@code to}, both inclusive.
+     */
+    public double getDishRevenue(Collection<? extends ReadOnlyMenus> dishes, LocalDate from, LocalDate to) {
+        long revenueInCents = 0;
+        for (ReadOnlyMenus dish : dishes) {
+            final DishSeries series = seriesByDish.get(dish);
+            if (series != null) {
+                revenueInCents += sumOver(series.revenueInCents, from, to);
+            }
+        }
+        return revenueInCents / 100.0;
+    }
+
+    /**
+     * Returns the sales of every dish that has been ordered from {@code from} to {@code to}, both inclusive,
+     * with the given menu items, in a new table.
+     */
+    public MenuSalesTable getMenuSales(LocalDate from, LocalDate to, Iterable<? extends ReadOnlyMenus> menus) {
+        final MenuSalesTable table = new MenuSalesTable();
+        for (Map.Entry<ReadOnlyMenus, DishSeries> entry : seriesByDish.entrySet()) {
+            final int quantity = (int) sumOver(entry.getValue().quantities, from, to);
+            if (quantity > 0) {
+                table.addSales(entry.getKey(), quantity, sumOver(entry.getValue().revenueInCents, from, to));
+            }
+        }
+        for (ReadOnlyMenus menu : menus) {
+            table.addMenu(menu);
+        }
+        return table;
+    }
+
+    /**
+     * Returns the day of the earliest order, or null if there are no orders.
+     */
+    public LocalDate getFirstOrderDay() {
+        return hasOrders() ? LocalDate.ofEpochDay(firstDay + orderCounts.lowerBound(1)) : null;
+    }
+
+    /**
+     * Returns the day of the latest order, or null if there are no orders.
+     */
+    public LocalDate getLastOrderDay() {
+        final long total = orderCounts.prefixSum(dayCount - 1);
+        return hasOrders() ? LocalDate.ofEpochDay(firstDay + orderCounts.lowerBound(total)) : null;
+    }
+
+    private boolean hasOrders() {
+        return dayCount > 0 && orderCounts.prefixSum(dayCount - 1) > 0;
+    }
+}
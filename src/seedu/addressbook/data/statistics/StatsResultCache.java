@@ -0,0 +1,75 @@
+package seedu.addressbook.data.statistics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+//@@author agent
+/**
+ * Represents a bounded cache of rendered statistics, keyed by the command and its arguments.
+ * Each result is stored with the versions of the data it was computed from, and is computed again once any of
+ * those versions has moved on. When the cache is full, the least recently used result is dropped.
+ */
+public class StatsResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<String, Entry> entries;
+    private int hitCount = 0;
+
+    /**
+     * A rendered result and the versions of the data it was computed from.
+     */
+    private static class Entry {
+        private final long[] versions;
+        private final String result;
+
+        Entry(long[] versions, String result) {
+            this.versions = versions;
+            this.result = result;
+        }
+    }
+
+    public StatsResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a cache holding at most {@code capacity} results.
+     */
+    public StatsResultCache(int capacity) {
+        entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result cached under {@code key} if it was computed from the given versions of the data,
+     * otherwise computes the result and caches it in place of the outdated one.
+     */
+    public String getOrCompute(String key, long[] versions, Supplier<String> computation) {
+        final Entry cached = entries.get(key);
+        if (cached != null && Arrays.equals(cached.versions, versions)) {
+            hitCount++;
+            return cached.result;
+        }
+        final String result = computation.get();
+        entries.put(key, new Entry(versions.clone(), result));
+        return result;
+    }
+
+    /**
+     * Returns the number of results that were served from the cache.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
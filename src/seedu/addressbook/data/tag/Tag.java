@@ -5,6 +5,8 @@ import seedu.addressbook.data.exception.IllegalValueException;
 /**
  * Represents a Tag in the Menu list.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Every tag name is interned with an id, so menu items can keep their tags as a bit set of ids.
  */
 public class Tag {
 
@@ -12,6 +14,7 @@ public class Tag {
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
     public final String tagName;
+    private final int id;
 
     /**
      * Validates given tag name.
@@ -24,6 +27,28 @@ public class Tag {
             throw new IllegalValueException(MESSAGE_TAG_CONSTRAINTS);
         }
         this.tagName = trimmedTag;
+        this.id = TagDictionary.idOf(trimmedTag);
+    }
+
+    private Tag(int id) {
+        this.tagName = TagDictionary.nameOf(id);
+        this.id = id;
+    }
+
+    /**
+     * Returns the tag with the given id.
+     *
+     * @throws IndexOutOfBoundsException if no tag has been given that id.
+     */
+    public static Tag fromId(int id) {
+        return new Tag(id);
+    }
+
+    /**
+     * Returns the id of this tag, which is the same for all tags of the same name.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
@@ -37,12 +62,12 @@ public class Tag {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && this.tagName.equals(((Tag) other).tagName)); // state check
+                && this.id == ((Tag) other).id); // state check
     }
 
     @Override
     public int hashCode() {
-        return tagName.hashCode();
+        return id;
     }
 
     @Override
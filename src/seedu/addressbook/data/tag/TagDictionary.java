@@ -0,0 +1,40 @@
+package seedu.addressbook.data.tag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author agent
+/**
+ * Interns tag names, giving each distinct name a small id, so that a set of tags can be held as a bit set
+ * of ids. Ids are only assigned, never reused, and are not stable across runs of the application.
+ *
+ * Tags may be created while data is loaded in the background, so the dictionary is synchronized.
+ */
+final class TagDictionary {
+
+    private static final List<String> NAMES_BY_ID = new ArrayList<>();
+    private static final Map<String, Integer> IDS_BY_NAME = new HashMap<>();
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the id of the tag name, assigning the next id if the name has not been seen before.
+     */
+    static synchronized int idOf(String tagName) {
+        return IDS_BY_NAME.computeIfAbsent(tagName, name -> {
+            NAMES_BY_ID.add(name);
+            return NAMES_BY_ID.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the tag name with the given id.
+     *
+     * @throws IndexOutOfBoundsException if no tag name has been given that id.
+     */
+    static synchronized String nameOf(int id) {
+        return NAMES_BY_ID.get(id);
+    }
+}
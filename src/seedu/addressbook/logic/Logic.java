@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.Rms;
 import seedu.addressbook.data.employee.Attendance;
 import seedu.addressbook.data.employee.ReadOnlyEmployee;
@@ -22,7 +23,8 @@ public class Logic {
 
     private StorageFile storage;
     //@@author px1099
-    private Rms rms;
+    /** Null until the data has been loaded; may be set from a background loading thread. */
+    private volatile Rms rms;
 
     //@@author kangmingtay
     /**
@@ -54,9 +56,15 @@ public class Logic {
     private List<? extends Attendance> lastShownAttendanceList = Collections.emptyList();
 
     //@@author
+    /**
+     * Creates the Logic with the default storage file. The data is not loaded yet, see {@link #loadData()}.
+     */
     public Logic() throws Exception {
         setStorage(initializeStorage());
-        setRms(storage.load());
+    }
+
+    Logic(StorageFile storageFile) {
+        setStorage(storageFile);
     }
 
     Logic(StorageFile storageFile, Rms rms) {
@@ -64,6 +72,23 @@ public class Logic {
         setRms(rms);
     }
 
+    /**
+     * Loads the data from the storage file. Commands are rejected until this has completed.
+     * Safe to call from a background thread.
+     *
+     * @throws StorageFile.StorageOperationException if there were errors reading the storage file.
+     */
+    public void loadData() throws StorageFile.StorageOperationException {
+        setRms(storage.load());
+    }
+
+    /**
+     * Returns true once the data is available for commands to operate on.
+     */
+    public boolean isDataLoaded() {
+        return rms != null;
+    }
+
     public void setStorage(StorageFile storage) {
         this.storage = storage;
     }
@@ -153,6 +178,9 @@ public class Logic {
      * @throws Exception if there was any problem during command execution.
      */
     public CommandResult execute(String userCommandText) throws Exception {
+        if (!isDataLoaded()) {
+            return new CommandResult(Messages.MESSAGE_DATA_NOT_LOADED);
+        }
         Command command = new Parser().parseCommand(userCommandText);
         CommandResult result = execute(command);
         recordResult(result);
@@ -24,6 +24,7 @@ import seedu.addressbook.commands.employee.EmployeeEditCommand;
 import seedu.addressbook.commands.employee.EmployeeListCommand;
 import seedu.addressbook.commands.member.MemberAddCommand;
 import seedu.addressbook.commands.member.MemberDeleteCommand;
+import seedu.addressbook.commands.member.MemberFindCommand;
 import seedu.addressbook.commands.member.MemberListCommand;
 import seedu.addressbook.commands.menu.MenuAddCommand;
 import seedu.addressbook.commands.menu.MenuClearCommand;
@@ -38,15 +39,21 @@ import seedu.addressbook.commands.order.DraftOrderConfirmCommand;
 import seedu.addressbook.commands.order.DraftOrderEditCustomerCommand;
 import seedu.addressbook.commands.order.DraftOrderEditDishCommand;
 import seedu.addressbook.commands.order.DraftOrderEditPointsCommand;
+import seedu.addressbook.commands.order.DraftOrderSuggestCommand;
 import seedu.addressbook.commands.order.OrderAddCommand;
 import seedu.addressbook.commands.order.OrderClearCommand;
 import seedu.addressbook.commands.order.OrderDeleteCommand;
 import seedu.addressbook.commands.order.OrderListCommand;
+import seedu.addressbook.commands.statistics.StatsDutyCommand;
 import seedu.addressbook.commands.statistics.StatsEmployeeCommand;
 import seedu.addressbook.commands.statistics.StatsHelpCommand;
+import seedu.addressbook.commands.statistics.StatsHourCommand;
+import seedu.addressbook.commands.statistics.StatsLiveCommand;
 import seedu.addressbook.commands.statistics.StatsMemberCommand;
 import seedu.addressbook.commands.statistics.StatsMenuCommand;
 import seedu.addressbook.commands.statistics.StatsOrderCommand;
+import seedu.addressbook.commands.statistics.StatsOrderCommand.Granularity;
+import seedu.addressbook.commands.statistics.StatsVisitsCommand;
 import seedu.addressbook.data.exception.IllegalValueException;
 
 /**
@@ -110,6 +117,9 @@ public class Parser {
     public static final Pattern DRAFT_DISH_ARGS_FORMAT =
             Pattern.compile("\\d+\\s+q/\\d{1,3}(?:\\s+\\d+\\s+q/\\d{1,3})*");
 
+    //@@author agent
+    public static final Pattern ORDER_LIST_MEMBER_ARGS_FORMAT = Pattern.compile("m/(?<targetIndex>\\d+)");
+
     //@@author kangmingtay
     public static final Pattern REDEEM_POINTS_ARGS_FORMAT = Pattern.compile("(?<points>[^/]+)");
 
@@ -121,6 +131,17 @@ public class Parser {
     public static final Pattern STATSMENU_DATE_ARGS_FORMAT =
             Pattern.compile(STATSMENU_DATE_ARGS_FORMAT_PATTERN_COMPILE_STRING);
 
+    //@@author agent
+    public static final Pattern STATSORDER_ARGS_FORMAT =
+            Pattern.compile(STATSMENU_DATE_ARGS_FORMAT_PATTERN_COMPILE_STRING
+            + " ?(g/(?<granularity>[^ /]+))?");
+
+    public static final Pattern STATSDUTY_ARGS_FORMAT =
+            Pattern.compile("(?<time>([01]\\d|2[0-3])[0-5]\\d)"
+            + "( (?<date>(0[1-9]|[12]\\d|3[01])(0[1-9]|1[0-2])[12]\\d{3}))?");
+
+    public static final Pattern STATSLIVE_ARGS_FORMAT = Pattern.compile("(?<minutes>\\d{1,9})");
+
     //@@author
     /**
      * Signals that the user input could not be parsed.
@@ -174,6 +195,9 @@ public class Parser {
         case MemberDeleteCommand.COMMAND_WORD:
             return prepareMemberDelete(arguments);
 
+        case MemberFindCommand.COMMAND_WORD:
+            return prepareMemberFind(arguments);
+
         case MenuAddCommand.COMMAND_WORD:
             return prepareAddMenu(arguments);
 
@@ -208,7 +232,7 @@ public class Parser {
             return new OrderClearCommand();
 
         case OrderListCommand.COMMAND_WORD:
-            return new OrderListCommand();
+            return prepareOrderList(arguments);
 
         case DraftOrderEditCustomerCommand.COMMAND_WORD:
             return prepareDraftOrderEditCustomer(arguments);
@@ -219,6 +243,9 @@ public class Parser {
         case DraftOrderEditPointsCommand.COMMAND_WORD:
             return prepareDraftOrderEditPoints(arguments);
 
+        case DraftOrderSuggestCommand.COMMAND_WORD:
+            return prepareDraftOrderSuggest(arguments);
+
         case DraftOrderClearCommand.COMMAND_WORD:
             return new DraftOrderClearCommand();
 
@@ -235,7 +262,19 @@ public class Parser {
             return prepareStatsMenu(arguments);
 
         case StatsOrderCommand.COMMAND_WORD:
-            return new StatsOrderCommand();
+            return prepareStatsOrder(arguments);
+
+        case StatsHourCommand.COMMAND_WORD:
+            return prepareStatsHour(arguments);
+
+        case StatsLiveCommand.COMMAND_WORD:
+            return prepareStatsLive(arguments);
+
+        case StatsVisitsCommand.COMMAND_WORD:
+            return prepareStatsVisits(arguments);
+
+        case StatsDutyCommand.COMMAND_WORD:
+            return prepareStatsDuty(arguments);
 
         case StatsHelpCommand.COMMAND_WORD:
             return new StatsHelpCommand();
@@ -393,6 +432,28 @@ public class Parser {
         }
     }
 
+    //@@author agent
+    /**
+     * Parses arguments in the context of the find member command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareMemberFind(String args) {
+        final Matcher matcher = KEYWORDS_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MemberFindCommand.MESSAGE_USAGE));
+        }
+
+        // keywords delimited by whitespace
+        final Set<String> keywordSet = new HashSet<>();
+        for (String keyword : matcher.group("keywords").split("\\s+")) {
+            keywordSet.add(keyword.toLowerCase());
+        }
+        return new MemberFindCommand(keywordSet);
+    }
+
     //@@author kianhong95
     /**
      * Parses arguments in the context of the edit employee command.
@@ -479,6 +540,30 @@ public class Parser {
         }
     }
 
+    //@@author agent
+    /**
+     * Parses arguments in the context of the list order command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareOrderList(String args) {
+        if (args.trim().isEmpty()) {
+            return new OrderListCommand();
+        }
+        final Matcher matcher = ORDER_LIST_MEMBER_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    OrderListCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new OrderListCommand(Integer.parseInt(matcher.group("targetIndex")));
+        } catch (NumberFormatException nfe) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    OrderListCommand.MESSAGE_USAGE));
+        }
+    }
+
     //@@author SalsabilTasnia
     /**
      * Parses arguments in the context of the find menu command.
@@ -493,10 +578,21 @@ public class Parser {
                     MenuFindCommand.MESSAGE_USAGE));
         }
 
-        // keywords delimited by whitespace
-        final String[] keywords = matcher.group("keywords").toLowerCase().split("\\s+");
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new MenuFindCommand(keywordSet);
+        // keywords and tags delimited by whitespace
+        final Set<String> keywordSet = new HashSet<>();
+        final Set<String> tagSet = new HashSet<>();
+        for (String word : matcher.group("keywords").split("\\s+")) {
+            if (word.startsWith("t/")) {
+                tagSet.add(word.substring("t/".length()));
+            } else {
+                keywordSet.add(word.toLowerCase());
+            }
+        }
+        try {
+            return new MenuFindCommand(keywordSet, tagSet);
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
     }
 
     //@@author px1099
@@ -615,6 +711,116 @@ public class Parser {
         );
     }
 
+    //@@author agent
+    /**
+     * Parses arguments in the context of the stats order command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareStatsOrder(String args) {
+        final Matcher matcher = STATSORDER_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    StatsOrderCommand.MESSAGE_USAGE));
+        }
+        Granularity granularity = null;
+        if (matcher.group("granularity") != null) {
+            granularity = Granularity.fromValue(matcher.group("granularity"));
+            if (granularity == null) {
+                return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        StatsOrderCommand.MESSAGE_USAGE));
+            }
+        }
+        return new StatsOrderCommand(matcher.group("dateFrom"), matcher.group("dateTo"), granularity);
+    }
+
+    /**
+     * Parses arguments in the context of the stats visits command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareStatsVisits(String args) {
+        final Matcher matcher = STATSORDER_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    StatsVisitsCommand.MESSAGE_USAGE));
+        }
+        Granularity granularity = null;
+        if (matcher.group("granularity") != null) {
+            granularity = Granularity.fromValue(matcher.group("granularity"));
+            if (granularity == null) {
+                return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        StatsVisitsCommand.MESSAGE_USAGE));
+            }
+        }
+        return new StatsVisitsCommand(matcher.group("dateFrom"), matcher.group("dateTo"), granularity);
+    }
+
+    /**
+     * Parses arguments in the context of the stats duty command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareStatsDuty(String args) {
+        final Matcher matcher = STATSDUTY_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    StatsDutyCommand.MESSAGE_USAGE));
+        }
+        return new StatsDutyCommand(matcher.group("time"), matcher.group("date"));
+    }
+
+    /**
+     * Parses arguments in the context of the suggest dish command, which takes none.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareDraftOrderSuggest(String args) {
+        if (!args.trim().isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    DraftOrderSuggestCommand.MESSAGE_USAGE));
+        }
+        return new DraftOrderSuggestCommand();
+    }
+
+    /**
+     * Parses arguments in the context of the stats hour command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareStatsHour(String args) {
+        if (args.trim().isEmpty()) {
+            return new StatsHourCommand();
+        }
+        try {
+            return new StatsHourCommand(parseArgsAsDisplayedIndex(args));
+        } catch (ParseException | NumberFormatException e) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsHourCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the stats live command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareStatsLive(String args) {
+        if (args.trim().isEmpty()) {
+            return new StatsLiveCommand();
+        }
+        final Matcher matcher = STATSLIVE_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsLiveCommand.MESSAGE_USAGE));
+        }
+        return new StatsLiveCommand(Integer.parseInt(matcher.group("minutes")));
+    }
+
     //@@author SalsabilTasnia
     /**
      * Parses arguments in the context of the list menu by type command.
@@ -1,15 +1,27 @@
 package seedu.addressbook.storage;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -17,8 +29,14 @@ import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 
 import seedu.addressbook.data.Rms;
+import seedu.addressbook.data.RmsChange;
+import seedu.addressbook.data.RmsChange.Action;
+import seedu.addressbook.data.RmsChange.Target;
 import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.member.Member;
+import seedu.addressbook.data.member.ReadOnlyMember;
 import seedu.addressbook.storage.jaxb.AdaptedRms;
+import seedu.addressbook.storage.jaxb.AdaptedRmsChange;
 
 
 /**
@@ -29,9 +47,68 @@ public class StorageFile {
     /** Default file path used if the user doesn't provide the file name. */
     public static final String DEFAULT_STORAGE_FILEPATH = "Rms.txt";
 
+    /** Suffix of the file a new snapshot is written to before it replaces the storage file. */
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** Suffix of the copy of the last storage file that was known to be valid. */
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /** Suffix of the file that the changes made after the last full save are appended to. */
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Number of changes the journal may hold before the next save writes a full snapshot instead. */
+    public static final int MAX_JOURNAL_RECORDS = 1000;
+
+    /**
+     * Footer appended after the xml document. Records the length and CRC32 checksum of the bytes before it,
+     * so that a partially written or corrupted file can be detected on load.
+     */
+    private static final String CHECKSUM_FOOTER_FORMAT = "<!-- checksum length=%1$d crc32=%2$08x -->\n";
+    private static final Pattern CHECKSUM_FOOTER_PATTERN =
+            Pattern.compile("<!-- checksum length=(?<length>\\d+) crc32=(?<crc>[0-9a-f]{8}) -->\\s*$");
+
+    /**
+     * First line of the journal. Identifies the snapshot the journal applies to by the length and checksum
+     * of its xml document, so that a journal left behind by an older snapshot is never replayed.
+     */
+    private static final String JOURNAL_HEADER_FORMAT = "<!-- journal base-length=%1$d base-crc32=%2$08x -->\n";
+    private static final Pattern JOURNAL_HEADER_PATTERN =
+            Pattern.compile("<!-- journal base-length=(?<length>\\d+) base-crc32=(?<crc>[0-9a-f]{8}) -->");
+
+    /** Line before each change in the journal, with the length and checksum of the xml of the change. */
+    private static final String JOURNAL_RECORD_FORMAT = "<!-- change length=%1$d crc32=%2$08x -->\n";
+    private static final Pattern JOURNAL_RECORD_PATTERN =
+            Pattern.compile("<!-- change length=(?<length>\\d+) crc32=(?<crc>[0-9a-f]{8}) -->");
+
+    /**
+     * The JAXB context is expensive to build and safe to share, so it is created once, in the background,
+     * as soon as the first storage file is constructed.
+     */
+    private static volatile CompletableFuture<JAXBContext> jaxbContextFuture;
+
     public final Path path;
+    private final Path tempPath;
+    private final Path backupPath;
+    private final Path journalPath;
 
-    private final JAXBContext jaxbContext;
+    /**
+     * True if the file at {@code path} is known to hold a complete snapshot, i.e. it was written or loaded
+     * successfully by this object. Only such a file is rotated into the backup slot.
+     */
+    private boolean isStorageFileVerified = false;
+
+    /** Length and checksum of the xml document of the snapshot that was last saved or loaded. */
+    private int snapshotLength = -1;
+    private long snapshotCrc;
+
+    /**
+     * The Rms that was last saved or loaded, and its version at that time. Further changes to the same Rms
+     * are appended to the journal instead of rewriting the whole file.
+     */
+    private Rms lastSavedRms;
+    private long lastSavedVersion;
+    private int journalRecordCount = 0;
+    private boolean isJournalAppendable = false;
 
     /* Note: Note the use of nested classes below.
      * More info https://docs.oracle.com/javase/tutorial/java/javaOO/nested.html
@@ -67,16 +144,42 @@ public class StorageFile {
      * @throws InvalidStorageFilePathException if the given file path is invalid
      */
     public StorageFile(String filePath) throws InvalidStorageFilePathException {
-        try {
-            jaxbContext = JAXBContext.newInstance(AdaptedRms.class);
-        } catch (JAXBException jaxbe) {
-            throw new RuntimeException("jaxb initialisation error");
-        }
+        warmUpJaxbContext();
 
         path = Paths.get(filePath);
         if (!isValidPath(path)) {
             throw new InvalidStorageFilePathException("Storage file should end with '.txt'");
         }
+        tempPath = Paths.get(filePath + TEMP_FILE_SUFFIX);
+        backupPath = Paths.get(filePath + BACKUP_FILE_SUFFIX);
+        journalPath = Paths.get(filePath + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Starts creating the shared JAXB context on a background thread, if that has not been started yet.
+     */
+    public static synchronized void warmUpJaxbContext() {
+        if (jaxbContextFuture == null) {
+            jaxbContextFuture = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return JAXBContext.newInstance(AdaptedRms.class, AdaptedRmsChange.class);
+                } catch (JAXBException jaxbe) {
+                    throw new CompletionException(jaxbe);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the shared JAXB context, waiting for it to be created if necessary.
+     */
+    private static JAXBContext getJaxbContext() {
+        warmUpJaxbContext();
+        try {
+            return jaxbContextFuture.join();
+        } catch (CompletionException ce) {
+            throw new RuntimeException("jaxb initialisation error");
+        }
     }
 
     /**
@@ -88,61 +191,250 @@ public class StorageFile {
     }
 
     /**
-     * Saves all data to this storage file.
+     * Saves the data to this storage file.
+     *
+     * If {@code rms} is the Rms last saved or loaded by this object, only the changes made to it since then are
+     * appended to the journal, so the cost of a save depends on the size of the change rather than of the data.
+     * Otherwise, or once the journal is full, a full snapshot is written.
      *
      * @throws StorageOperationException if there were errors converting and/or storing data to file.
      */
     public void save(Rms rms) throws StorageOperationException {
+        final Optional<List<RmsChange>> changes = getUnsavedChanges(rms);
+        if (changes.isPresent() && journalRecordCount + changes.get().size() <= MAX_JOURNAL_RECORDS) {
+            appendToJournal(changes.get());
+        } else {
+            saveSnapshot(rms);
+        }
+        markSaved(rms);
+    }
 
-        /* Note: Note the 'try with resource' statement below.
-         * More info: https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html
-         */
-        try (final Writer fileWriter =
-                     new BufferedWriter(new FileWriter(path.toFile()))) {
+    /**
+     * Returns the changes made to {@code rms} since it was last saved or loaded by this object,
+     * or an empty Optional if they are not known and a full snapshot has to be written.
+     */
+    private Optional<List<RmsChange>> getUnsavedChanges(Rms rms) {
+        if (rms != lastSavedRms || !isJournalAppendable) {
+            return Optional.empty();
+        }
+        return rms.getChangesSince(lastSavedVersion);
+    }
 
-            final AdaptedRms toSave = new AdaptedRms(rms);
-            final Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.marshal(toSave, fileWriter);
+    private void markSaved(Rms rms) {
+        lastSavedRms = rms;
+        lastSavedVersion = rms.getVersion();
+        rms.discardChangesUpTo(lastSavedVersion);
+    }
 
+    /**
+     * Saves all data to this storage file and discards the journal.
+     *
+     * The data is first written and flushed to a temporary file, which then atomically replaces the storage file.
+     * The previous storage file is kept as a backup, so a crash at any point leaves at least one valid snapshot.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    private void saveSnapshot(Rms rms) throws StorageOperationException {
+        final byte[] document = marshal(rms);
+        final long crc = checksum(document, document.length);
+        final byte[] footer = String.format(CHECKSUM_FOOTER_FORMAT, document.length, crc)
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            writeAndSync(tempPath, document, footer);
+            if (isStorageFileVerified && Files.exists(path)) {
+                Files.move(path, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moveAtomically(tempPath, path);
+            isStorageFileVerified = true;
+            snapshotLength = document.length;
+            snapshotCrc = crc;
+            // a journal left behind does not match the new snapshot, and is overwritten by the next append
+            journalRecordCount = 0;
+            isJournalAppendable = true;
+            Files.deleteIfExists(journalPath);
         } catch (IOException ioe) {
             throw new StorageOperationException("Error writing to file: " + path + " error: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Converts the given Rms into its xml representation.
+     *
+     * @throws StorageOperationException if there were errors converting the data.
+     */
+    private byte[] marshal(Rms rms) throws StorageOperationException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            final AdaptedRms toSave = new AdaptedRms(rms);
+            final Marshaller marshaller = getJaxbContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            marshaller.marshal(toSave, out);
         } catch (JAXBException jaxbe) {
             throw new StorageOperationException("Error converting Rms into storage format");
         }
+        return out.toByteArray();
+    }
+
+    /**
+     * Appends the given changes to the journal and forces them onto the storage device.
+     * The journal is started afresh, with a header identifying the current snapshot, if it holds no changes yet.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing the changes.
+     */
+    private void appendToJournal(List<RmsChange> changes) throws StorageOperationException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final boolean isNewJournal = journalRecordCount == 0;
+        if (isNewJournal) {
+            writeString(out, String.format(JOURNAL_HEADER_FORMAT, snapshotLength, snapshotCrc));
+        }
+        try {
+            final Marshaller marshaller = getJaxbContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            for (RmsChange change : changes) {
+                final ByteArrayOutputStream record = new ByteArrayOutputStream();
+                marshaller.marshal(new AdaptedRmsChange(change), record);
+                final byte[] recordBytes = record.toByteArray();
+                final long crc = checksum(recordBytes, recordBytes.length);
+                writeString(out, String.format(JOURNAL_RECORD_FORMAT, recordBytes.length, crc));
+                out.write(recordBytes, 0, recordBytes.length);
+                writeString(out, "\n");
+            }
+        } catch (JAXBException jaxbe) {
+            throw new StorageOperationException("Error converting Rms into storage format");
+        }
+
+        try (final FileChannel channel = isNewJournal
+                ? FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)
+                : FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+            journalRecordCount += changes.size();
+        } catch (IOException ioe) {
+            // the journal may now end with a partial change, so nothing more can be appended after it
+            isJournalAppendable = false;
+            throw new StorageOperationException("Error writing to file: " + journalPath
+                    + " error: " + ioe.getMessage());
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes the bytes to the given file and forces them onto the storage device before returning.
+     */
+    private static void writeAndSync(Path target, byte[]... data) throws IOException {
+        try (final FileOutputStream fileOutput = new FileOutputStream(target.toFile());
+             final FileChannel channel = fileOutput.getChannel()) {
+            for (byte[] part : data) {
+                final ByteBuffer buffer = ByteBuffer.wrap(part);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static long checksum(byte[] data, int length) {
+        return checksum(data, 0, length);
+    }
+
+    private static long checksum(byte[] data, int offset, int length) {
+        final CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return crc.getValue();
     }
 
     /**
      * Loads data from this storage file.
      *
+     * If the storage file is missing or damaged, the newest valid snapshot is used instead: a completely written
+     * temporary file left behind by an interrupted save, or else the backup of the last valid storage file.
+     * The changes in the journal are then replayed on top of the snapshot they were recorded against,
+     * up to the first change that is incomplete or damaged.
+     *
      * @throws StorageOperationException if there were errors reading and/or converting data from file.
      */
     public Rms load() throws StorageOperationException {
-        try (final Reader fileReader =
-                     new BufferedReader(new FileReader(path.toFile()))) {
+        if (!Files.exists(path) && !Files.exists(tempPath) && !Files.exists(backupPath)) {
+            // create empty file if not found
+            final Rms empty = new Rms();
+            save(empty);
+            return empty;
+        }
 
-            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            final AdaptedRms loaded = (AdaptedRms) unmarshaller.unmarshal(fileReader);
+        StorageOperationException firstError = null;
+        for (Path snapshot : new Path[] {path, tempPath, backupPath}) {
+            if (!Files.exists(snapshot)) {
+                continue;
+            }
+            try {
+                final Rms loaded = loadSnapshot(snapshot);
+                isStorageFileVerified = snapshot.equals(path);
+                final boolean isJournalIntact = replayJournal(loaded);
+                // only extend a journal that is complete and belongs to the storage file itself
+                isJournalAppendable = isStorageFileVerified && isJournalIntact;
+                markSaved(loaded);
+                return loaded;
+            } catch (StorageOperationException soe) {
+                if (firstError == null) {
+                    firstError = soe;
+                }
+            }
+        }
+        throw firstError;
+    }
+
+    /**
+     * Reads and converts a single snapshot file, verifying its checksum footer if there is one.
+     * Files without a footer (written by older versions) are accepted as they are.
+     * Records the length and checksum of the snapshot, which identify the journal that belongs to it.
+     *
+     * @throws StorageOperationException if the file cannot be read, is damaged, or contains invalid data.
+     */
+    private Rms loadSnapshot(Path snapshot) throws StorageOperationException {
+        try {
+            final byte[] data = Files.readAllBytes(snapshot);
+            final int documentLength = getVerifiedDocumentLength(data);
+            if (documentLength < 0) {
+                throw new StorageOperationException("File data is incomplete or corrupted: " + snapshot);
+            }
+
+            final Unmarshaller unmarshaller = getJaxbContext().createUnmarshaller();
+            final AdaptedRms loaded =
+                    (AdaptedRms) unmarshaller.unmarshal(new ByteArrayInputStream(data, 0, documentLength));
             // manual check for missing elements
             if (loaded.isAnyRequiredFieldMissing()) {
                 throw new StorageOperationException("File data missing some elements");
             }
-            return loaded.toModelType();
+            final Rms rms = loaded.toModelType();
+            snapshotLength = documentLength;
+            snapshotCrc = checksum(data, documentLength);
+            return rms;
 
-        /* Note: Here, we are using an exception to create the file if it is missing. However, we should minimize
-         * using exceptions to facilitate normal paths of execution. If we consider the missing file as a 'normal'
-         * situation (i.e. not truly exceptional) we should not use an exception to handle it.
-         */
-
-        // create empty file if not found
-        } catch (FileNotFoundException fnfe) {
-            final Rms empty = new Rms();
-            save(empty);
-            return empty;
-
-        // other errors
         } catch (IOException ioe) {
-            throw new StorageOperationException("Error writing to file: " + path);
+            throw new StorageOperationException("Error reading from file: " + snapshot);
         } catch (JAXBException jaxbe) {
             throw new StorageOperationException("Error parsing file data format");
         } catch (IllegalValueException ive) {
@@ -150,6 +442,120 @@ public class StorageFile {
         }
     }
 
+    /**
+     * Applies the changes in the journal to the {@code rms} loaded from the last snapshot.
+     * Stops at the first change that is incomplete, damaged or cannot be applied, e.g. one that was being
+     * written when the application was interrupted.
+     *
+     * @return true if the journal is missing or was applied completely, false if some of it was skipped.
+     * @throws StorageOperationException if the journal cannot be read.
+     */
+    private boolean replayJournal(Rms rms) throws StorageOperationException {
+        journalRecordCount = 0;
+        if (!Files.exists(journalPath)) {
+            return true;
+        }
+        final byte[] data;
+        try {
+            data = Files.readAllBytes(journalPath);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + journalPath);
+        }
+
+        int position = indexOf(data, (byte) '\n', 0) + 1;
+        final Matcher header = JOURNAL_HEADER_PATTERN.matcher(new String(data, 0, Math.max(position - 1, 0),
+                StandardCharsets.UTF_8));
+        if (position == 0 || !header.matches()
+                || Long.parseLong(header.group("length")) != snapshotLength
+                || Long.parseLong(header.group("crc"), 16) != snapshotCrc) {
+            return false;
+        }
+
+        final Map<ReadOnlyMember, Member> memberIndex = new HashMap<>();
+        for (Member member : rms.getAllMembers()) {
+            memberIndex.putIfAbsent(member, member);
+        }
+        try {
+            final Unmarshaller unmarshaller = getJaxbContext().createUnmarshaller();
+            while (position < data.length) {
+                final int lineEnd = indexOf(data, (byte) '\n', position);
+                if (lineEnd < 0) {
+                    return false;
+                }
+                final Matcher record = JOURNAL_RECORD_PATTERN.matcher(
+                        new String(data, position, lineEnd - position, StandardCharsets.UTF_8));
+                if (!record.matches()) {
+                    return false;
+                }
+                final int start = lineEnd + 1;
+                final long length = Long.parseLong(record.group("length"));
+                if (length > data.length - start
+                        || Long.parseLong(record.group("crc"), 16) != checksum(data, start, (int) length)) {
+                    return false;
+                }
+                final AdaptedRmsChange adapted = (AdaptedRmsChange) unmarshaller.unmarshal(
+                        new ByteArrayInputStream(data, start, (int) length));
+                if (adapted.isAnyRequiredFieldMissing()) {
+                    return false;
+                }
+                final RmsChange change = adapted.toModelType(memberIndex);
+                rms.applyChange(change);
+                updateMemberIndex(memberIndex, change);
+                journalRecordCount++;
+                position = start + (int) length + 1;
+            }
+            return true;
+        } catch (JAXBException | IllegalValueException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Keeps the index of members used to resolve the customers of replayed orders up to date.
+     */
+    private static void updateMemberIndex(Map<ReadOnlyMember, Member> memberIndex, RmsChange change) {
+        if (change.getTarget() != Target.MEMBER) {
+            return;
+        }
+        final Member member = (Member) change.getCurrent();
+        if (change.getAction() == Action.ADD) {
+            memberIndex.put(member, member);
+        } else if (change.getAction() == Action.REMOVE) {
+            memberIndex.remove(member);
+        }
+    }
+
+    /**
+     * Returns the index of the first {@code target} byte at or after {@code from}, or -1 if there is none.
+     */
+    private static int indexOf(byte[] data, byte target, int from) {
+        for (int i = from; i < data.length; i++) {
+            if (data[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the length of the xml document in {@code data}, or -1 if the checksum footer does not match it.
+     */
+    private static int getVerifiedDocumentLength(byte[] data) {
+        final String content = new String(data, StandardCharsets.UTF_8);
+        final int footerStart = content.lastIndexOf("<!--");
+        if (footerStart < 0) {
+            return data.length;
+        }
+        final Matcher matcher = CHECKSUM_FOOTER_PATTERN.matcher(content.substring(footerStart));
+        if (!matcher.matches()) {
+            return data.length;
+        }
+        final int documentLength = content.substring(0, footerStart).getBytes(StandardCharsets.UTF_8).length;
+        final boolean isIntact = Long.parseLong(matcher.group("length")) == documentLength
+                && Long.parseLong(matcher.group("crc"), 16) == checksum(data, documentLength);
+        return isIntact ? documentLength : -1;
+    }
+
     public String getPath() {
         return path.toString();
     }
@@ -1,5 +1,6 @@
 package seedu.addressbook.storage.jaxb;
 
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -11,6 +12,7 @@ import javax.xml.bind.annotation.XmlElement;
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.employee.Attendance;
 import seedu.addressbook.data.employee.Timing;
+import seedu.addressbook.data.exception.IllegalValueException;
 
 //@@author kianhong95
 /**
@@ -65,14 +67,20 @@ public class AdaptedAttendance {
 
     /**
      * Converts this jaxb-friendly adapted attendance object into the Attendance object.
+     *
+     * @throws IllegalValueException if any timing is not in the expected format
      */
-    public Attendance toModelType() {
+    public Attendance toModelType() throws IllegalValueException {
         final String name = this.name;
         final boolean isClockedIn = this.isClockedIn;
 
         final Set<Timing> timingSet = new LinkedHashSet<>();
-        for (AdaptedTiming timing : timings) {
-            timingSet.add(timing.toModelType());
+        try {
+            for (AdaptedTiming timing : timings) {
+                timingSet.add(timing.toModelType());
+            }
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException("Invalid timing: " + dtpe.getParsedString());
         }
 
         return new Attendance(name, isClockedIn, timingSet);
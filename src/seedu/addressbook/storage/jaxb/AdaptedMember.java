@@ -1,6 +1,6 @@
 package seedu.addressbook.storage.jaxb;
 
-import java.util.Date;
+import java.time.Instant;
 
 import javax.xml.bind.annotation.XmlElement;
 
@@ -53,7 +53,7 @@ public class AdaptedMember {
         email = source.getEmail().toString();
         points = source.getCurrentPointsValue();
         totalPoints = source.getTotalPointsValue();
-        date = source.getDate().getTime();
+        date = source.getDate().toEpochMilli();
         tier = source.getMemberTier().toString();
     }
 
@@ -93,7 +93,7 @@ public class AdaptedMember {
         final MemberName name = new MemberName(this.name);
         final MemberEmail email = new MemberEmail(this.email);
         final Points points = new Points(this.points, this.totalPoints);
-        final Date date = new Date(this.date);
+        final Instant date = Instant.ofEpochMilli(this.date);
         final MemberTier tier = new MemberTier(this.tier);
 
         return new Member(name, email, points, date, tier);
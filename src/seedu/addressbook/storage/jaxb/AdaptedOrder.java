@@ -1,7 +1,7 @@
 package seedu.addressbook.storage.jaxb;
 
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,7 +72,7 @@ public class AdaptedOrder {
      */
     public AdaptedOrder(ReadOnlyOrder source) {
         customer = new AdaptedMember(source.getCustomer());
-        date = source.getDate().getTime();
+        date = source.getDate().toEpochMilli();
         price = source.getPrice();
         points = source.getPoints();
 
@@ -105,16 +105,17 @@ public class AdaptedOrder {
     /**
      * Converts this jaxb-friendly adapted order object into the Order object.
      *
+     * @param memberIndex the loaded members, keyed by themselves, used to resolve the customer of the order
      * @throws IllegalValueException if there were any data constraints violated in the adapted order
      */
-    public Order toModelType(List<Member> memberList) throws IllegalValueException {
+    public Order toModelType(Map<ReadOnlyMember, Member> memberIndex) throws IllegalValueException {
         final Map<ReadOnlyMenus, Integer> dishItems = new HashMap<>();
         for (AdaptedDishItem dishItem : this.dishItems) {
             dishItems.put(dishItem.getDish().toModelType(), dishItem.getQuantity());
         }
         ReadOnlyMember customerClone = this.customer.toModelType();
-        final ReadOnlyMember customer = UniqueMemberList.retrieveMember(customerClone, memberList);
-        final Date date = new Date(this.date);
+        final ReadOnlyMember customer = UniqueMemberList.retrieveMember(customerClone, memberIndex);
+        final Instant date = Instant.ofEpochMilli(this.date);
         final double price = this.price;
         final int pointsToRedeem = this.points;
         return new Order(customer, date, price, dishItems, pointsToRedeem);
@@ -1,7 +1,11 @@
 package seedu.addressbook.storage.jaxb;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -13,6 +17,7 @@ import seedu.addressbook.data.employee.UniqueAttendanceList;
 import seedu.addressbook.data.employee.UniqueEmployeeList;
 import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.member.Member;
+import seedu.addressbook.data.member.ReadOnlyMember;
 import seedu.addressbook.data.member.UniqueMemberList;
 import seedu.addressbook.data.menu.Menu;
 import seedu.addressbook.data.menu.UniqueMenuList;
@@ -25,6 +30,10 @@ import seedu.addressbook.data.order.UniqueOrderList;
 @XmlRootElement(name = "Rms")
 public class AdaptedRms {
 
+    //@@author agent
+    /** Number of orders converted by a single task when loading. */
+    private static final int ORDER_CHUNK_SIZE = 256;
+
     //@@author SalsabilTasnia
     @XmlElement(name = "menus")
     private List<AdaptedMenu> menus = new ArrayList<>();
@@ -73,46 +82,88 @@ public class AdaptedRms {
                 || attendances.stream().anyMatch(AdaptedAttendance::isAnyRequiredFieldMissing));
     }
 
-    //@@author AngWM
+    //@@author agent
     /**
      * Converts this jaxb-friendly {@code AdaptedRms} object into the corresponding(@code Rms} object.
+     *
+     * The independent collections are converted in parallel on the common {@link ForkJoinPool}. Orders are split
+     * into chunks once the members are available, and their customers are resolved through a hash index of the
+     * loaded members.
+     *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
     public Rms toModelType() throws IllegalValueException {
-        final List<Menu> menuList = new ArrayList<>();
-        final List<Employee> employeeList = new ArrayList<>();
-        final List<Member> memberList = new ArrayList<>();
-        final List<Order> orderList = new ArrayList<>();
-        final List<Attendance> attendanceList = new ArrayList<>();
-
-        for (AdaptedEmployee employee : employees) {
-            employeeList.add(employee.toModelType());
-        }
-
-        for (AdaptedMenu menu : menus) {
-            menuList.add(menu.toModelType());
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final ForkJoinTask<List<Employee>> employeeTask =
+                pool.submit(() -> convertAll(employees, AdaptedEmployee::toModelType));
+        final ForkJoinTask<List<Menu>> menuTask = pool.submit(() -> convertAll(menus, AdaptedMenu::toModelType));
+        final ForkJoinTask<List<Member>> memberTask =
+                pool.submit(() -> convertAll(members, AdaptedMember::toModelType));
+        final ForkJoinTask<List<Attendance>> attendanceTask =
+                pool.submit(() -> convertAll(attendances, AdaptedAttendance::toModelType));
+
+        final List<Member> memberList = join(memberTask);
+        final Map<ReadOnlyMember, Member> memberIndex = new HashMap<>();
+        for (Member member : memberList) {
+            memberIndex.putIfAbsent(member, member);
         }
 
-        for (AdaptedMember member : members) {
-            memberList.add(member.toModelType());
+        final List<ForkJoinTask<List<Order>>> orderTasks = new ArrayList<>();
+        for (int from = 0; from < orders.size(); from += ORDER_CHUNK_SIZE) {
+            final List<AdaptedOrder> chunk = orders.subList(from, Math.min(from + ORDER_CHUNK_SIZE, orders.size()));
+            orderTasks.add(pool.submit(() -> convertAll(chunk, order -> order.toModelType(memberIndex))));
         }
-
-        for (AdaptedOrder order : orders) {
-            orderList.add(order.toModelType(memberList));
-        }
-
-        for (AdaptedAttendance attendance : attendances) {
-            attendanceList.add(attendance.toModelType());
+        final List<Order> orderList = new ArrayList<>(orders.size());
+        for (ForkJoinTask<List<Order>> orderTask : orderTasks) {
+            orderList.addAll(join(orderTask));
         }
 
         return new Rms(
-                new UniqueMenuList(menuList),
-                new UniqueEmployeeList(employeeList),
+                new UniqueMenuList(join(menuTask)),
+                new UniqueEmployeeList(join(employeeTask)),
                 new UniqueOrderList(orderList),
                 new UniqueMemberList(memberList),
-                new UniqueAttendanceList(attendanceList)
+                new UniqueAttendanceList(join(attendanceTask))
         );
     }
 
+    /**
+     * Converts a jaxb-friendly object into its model type.
+     */
+    @FunctionalInterface
+    private interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Converts every element of {@code adaptedList}, keeping their order.
+     */
+    private static <A, M> List<M> convertAll(List<A> adaptedList, Converter<A, M> converter)
+            throws IllegalValueException {
+        final List<M> converted = new ArrayList<>(adaptedList.size());
+        for (A adapted : adaptedList) {
+            converted.add(converter.convert(adapted));
+        }
+        return converted;
+    }
+
+    /**
+     * Waits for the conversion task and returns its result.
+     *
+     * @throws IllegalValueException if the task failed because of a data constraint violation
+     */
+    private static <T> T join(ForkJoinTask<T> task) throws IllegalValueException {
+        try {
+            return task.join();
+        } catch (RuntimeException re) {
+            for (Throwable cause = re; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+            }
+            throw re;
+        }
+    }
+
     //@@author
 }
@@ -0,0 +1,152 @@
+package seedu.addressbook.storage.jaxb;
+
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.RmsChange;
+import seedu.addressbook.data.RmsChange.Action;
+import seedu.addressbook.data.RmsChange.Target;
+import seedu.addressbook.data.employee.Attendance;
+import seedu.addressbook.data.employee.ReadOnlyEmployee;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.member.Member;
+import seedu.addressbook.data.member.ReadOnlyMember;
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+
+//@@author agent
+/**
+ * JAXB-friendly adapted Rms change data holder class.
+ * Only the element matching the {@code target} of the change is present.
+ */
+@XmlRootElement(name = "change")
+public class AdaptedRmsChange {
+
+    @XmlAttribute(required = true)
+    private Action action;
+    @XmlAttribute(required = true)
+    private Target target;
+
+    @XmlElement
+    private AdaptedMenu menu;
+    @XmlElement
+    private AdaptedMember member;
+    @XmlElement
+    private AdaptedEmployee employee;
+    @XmlElement
+    private AdaptedEmployee previousEmployee;
+    @XmlElement
+    private AdaptedOrder order;
+    @XmlElement
+    private AdaptedAttendance attendance;
+
+    /**
+     * No-arg constructor for JAXB use.
+     */
+    public AdaptedRmsChange() {}
+
+    /**
+     * Converts a given change into this class for JAXB use.
+     * The changed entity is adapted in its state at the time of the call.
+     */
+    public AdaptedRmsChange(RmsChange source) {
+        action = source.getAction();
+        target = source.getTarget();
+        if (action == Action.CLEAR) {
+            return;
+        }
+        switch (target) {
+        case MENU:
+            menu = new AdaptedMenu((ReadOnlyMenus) source.getCurrent());
+            break;
+        case MEMBER:
+            member = new AdaptedMember((ReadOnlyMember) source.getCurrent());
+            break;
+        case EMPLOYEE:
+            employee = new AdaptedEmployee((ReadOnlyEmployee) source.getCurrent());
+            if (source.getPrevious() != null) {
+                previousEmployee = new AdaptedEmployee((ReadOnlyEmployee) source.getPrevious());
+            }
+            break;
+        case ORDER:
+            order = new AdaptedOrder((ReadOnlyOrder) source.getCurrent());
+            break;
+        case ATTENDANCE:
+            attendance = new AdaptedAttendance((Attendance) source.getCurrent());
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown list: " + target);
+        }
+    }
+
+    /**
+     * Returns true if any required field is missing.
+     *
+     * @see AdaptedRms#isAnyRequiredFieldMissing()
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        if (Utils.isAnyNull(action, target)) {
+            return true;
+        }
+        if (action == Action.CLEAR) {
+            return false;
+        }
+        switch (target) {
+        case MENU:
+            return menu == null || menu.isAnyRequiredFieldMissing();
+        case MEMBER:
+            return member == null || member.isAnyRequiredFieldMissing();
+        case EMPLOYEE:
+            return employee == null || employee.isAnyRequiredFieldMissing()
+                    || (previousEmployee != null && previousEmployee.isAnyRequiredFieldMissing());
+        case ORDER:
+            return order == null || order.isAnyRequiredFieldMissing();
+        case ATTENDANCE:
+            return attendance == null || attendance.isAnyRequiredFieldMissing();
+        default:
+            return true;
+        }
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted change object into the RmsChange object.
+     *
+     * @param memberIndex the current members, keyed by themselves, used to resolve the customer of an order
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change
+     */
+    public RmsChange toModelType(Map<ReadOnlyMember, Member> memberIndex) throws IllegalValueException {
+        if (action == Action.CLEAR) {
+            return RmsChange.clear(target);
+        }
+        final Object previous = (previousEmployee == null) ? null : previousEmployee.toModelType();
+        final Object current;
+        switch (target) {
+        case MENU:
+            current = menu.toModelType();
+            break;
+        case MEMBER:
+            current = member.toModelType();
+            break;
+        case EMPLOYEE:
+            current = employee.toModelType();
+            break;
+        case ORDER:
+            current = order.toModelType(memberIndex);
+            break;
+        case ATTENDANCE:
+            current = attendance.toModelType();
+            break;
+        default:
+            throw new IllegalValueException("Unknown list: " + target);
+        }
+        return new RmsChange(action, target, previous, current);
+    }
+}
@@ -28,8 +28,8 @@ public class AdaptedTiming {
      * @param source future changes to this will not affect the created AdaptedTag
      */
     public AdaptedTiming(Timing source) {
-        setTime(source.time);
-        setDate(source.date);
+        setTime(source.getTime());
+        setDate(source.getDate());
         setClockIn(source.isClockIn);
     }
 
@@ -75,6 +75,7 @@ public class AdaptedTiming {
     /**
      * Converts this jaxb-friendly adapted tag object into the Tag object.
      *
+     * @throws java.time.format.DateTimeParseException if the time or date is not in the expected format
      */
     public Timing toModelType() {
         return new Timing(getTime(), getDate(), isClockIn());
@@ -2,11 +2,13 @@ package seedu.addressbook.ui;
 
 import java.io.IOException;
 
+import javafx.concurrent.Task;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import seedu.addressbook.Main;
+import seedu.addressbook.common.Messages;
 import seedu.addressbook.logic.Logic;
 
 
@@ -31,13 +33,37 @@ public class Gui {
     }
 
     /**
-     * Create the main window and display the welcome message on it
+     * Create the main window and display the welcome message on it, then load the data in the background
      */
     public void start(Stage stage, Stoppable mainApp) throws IOException {
         // ADD DISPLAY OF STORAGE FILE PATH
         mainWindow = createMainWindow(stage, mainApp);
         mainWindow.displayRmsWelcomeMessage(version, logic.getStorageFilePath());
+        loadDataInBackground();
+    }
+
+    /**
+     * Loads the data on a background thread so that the window is shown and responsive while a large
+     * storage file is read. The main window only accepts commands once the data is ready.
+     */
+    private void loadDataInBackground() {
+        final Task<Void> loadTask = new Task<Void>() {
+            @Override
+            protected Void call() throws Exception {
+                updateMessage(String.format(Messages.MESSAGE_LOADING_DATA, logic.getStorageFilePath()));
+                updateProgress(-1, 1);
+                logic.loadData();
+                updateProgress(1, 1);
+                return null;
+            }
+        };
+        mainWindow.showLoadProgress(loadTask);
+        loadTask.setOnSucceeded(event -> mainWindow.onDataLoaded());
+        loadTask.setOnFailed(event -> mainWindow.onDataLoadFailed(loadTask.getException()));
 
+        final Thread loader = new Thread(loadTask, "rms-data-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     /**
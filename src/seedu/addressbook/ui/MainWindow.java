@@ -1,5 +1,6 @@
 package seedu.addressbook.ui;
 
+import static seedu.addressbook.common.Messages.MESSAGE_DATA_LOAD_FAILED;
 import static seedu.addressbook.common.Messages.MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE;
 import static seedu.addressbook.common.Messages.MESSAGE_USING_ORDER_LIST_STORAGE_FILE;
 import static seedu.addressbook.common.Messages.MESSAGE_WELCOME;
@@ -7,8 +8,10 @@ import static seedu.addressbook.common.Messages.MESSAGE_WELCOME;
 import java.util.List;
 import java.util.Optional;
 
+import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 
@@ -36,6 +39,9 @@ public class MainWindow {
     @FXML
     private TextField commandInput;
 
+    @FXML
+    private ProgressBar loadProgress;
+
     public void setLogic(Logic logic) {
         this.logic = logic;
     }
@@ -67,6 +73,48 @@ public class MainWindow {
     }
 
     //@@author
+    /**
+     * Shows the progress of the background data loading task and blocks command input until it completes.
+     */
+    public void showLoadProgress(Task<?> loadTask) {
+        commandInput.setDisable(true);
+        commandInput.promptTextProperty().bind(loadTask.messageProperty());
+        loadProgress.progressProperty().bind(loadTask.progressProperty());
+        setLoadProgressVisible(true);
+    }
+
+    /**
+     * Accepts commands once the data has been loaded.
+     */
+    public void onDataLoaded() {
+        stopShowingLoadProgress();
+        commandInput.setDisable(false);
+        commandInput.requestFocus();
+    }
+
+    /**
+     * Tells the user that the data could not be loaded. Command input stays disabled.
+     */
+    public void onDataLoadFailed(Throwable error) {
+        stopShowingLoadProgress();
+        display(String.format(MESSAGE_DATA_LOAD_FAILED, error.getMessage()));
+    }
+
+    /**
+     * Detaches the command input and progress bar from the loading task and hides the progress bar.
+     */
+    private void stopShowingLoadProgress() {
+        commandInput.promptTextProperty().unbind();
+        commandInput.setPromptText("");
+        loadProgress.progressProperty().unbind();
+        setLoadProgressVisible(false);
+    }
+
+    private void setLoadProgressVisible(boolean isVisible) {
+        loadProgress.setVisible(isVisible);
+        loadProgress.setManaged(isVisible);
+    }
+
     private void exitApp() throws Exception {
         mainApp.stop();
     }
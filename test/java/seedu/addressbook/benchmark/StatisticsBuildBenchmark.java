@@ -0,0 +1,128 @@
+package seedu.addressbook.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.member.Member;
+import seedu.addressbook.data.menu.Menu;
+import seedu.addressbook.data.menu.MenuName;
+import seedu.addressbook.data.menu.Price;
+import seedu.addressbook.data.menu.ReadOnlyMenus;
+import seedu.addressbook.data.menu.Type;
+import seedu.addressbook.data.order.Order;
+import seedu.addressbook.data.order.ReadOnlyOrder;
+import seedu.addressbook.data.statistics.DishCoOccurrenceMatrix;
+import seedu.addressbook.data.statistics.MenuSalesTable;
+import seedu.addressbook.data.statistics.SalesCube;
+
+//@@author agent
+/**
+ * Times the parallel builds of the statistics over a generated order history, on ForkJoin pools of 1, 2, 4 and 8
+ * workers, and prints the speedup of each pool over a single worker. A parallel stream started from a task of a
+ * pool is split over the workers of that pool, so each build runs with exactly the workers of its pool.
+ *
+ * Run with {@code gradlew benchmark}, or {@code gradlew benchmark -Porders=N} for another number of orders than
+ * the default of 1,000,000. A pool with more workers than the machine has cores cannot speed a build up further.
+ */
+public class StatisticsBuildBenchmark {
+
+    private static final int DEFAULT_ORDER_COUNT = 1_000_000;
+    private static final int[] POOL_SIZES = {1, 2, 4, 8};
+    private static final int WARMUP_RUNS = 3;
+    private static final int TIMED_RUNS = 5;
+
+    private static final int MENU_SIZE = 40;
+    private static final int MAX_DISHES_PER_ORDER = 4;
+    private static final int MAX_QUANTITY = 3;
+    private static final int DAY_COUNT = 3 * 365;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2016, 1, 1);
+    private static final String[] TYPES = {"main", "sides", "beverage", "dessert"};
+
+    /**
+     * Runs the benchmark over the number of orders given as the first argument, or the default number if none is.
+     */
+    public static void main(String[] args) throws Exception {
+        final int orderCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_ORDER_COUNT;
+        final List<ReadOnlyMenus> menus = generateMenus();
+        final List<ReadOnlyOrder> orders = generateOrders(orderCount, menus);
+        System.out.printf("%,d orders of %d menu items over %d days, %d cores available%n%n", orders.size(),
+                menus.size(), DAY_COUNT, Runtime.getRuntime().availableProcessors());
+
+        time("MenuSalesTable.of", () -> MenuSalesTable.of(orders, menus));
+        time("SalesCube.of", () -> SalesCube.of(orders));
+        time("DishCoOccurrenceMatrix.of", () -> DishCoOccurrenceMatrix.of(orders));
+    }
+
+    /**
+     * Prints the fastest of the timed runs of the build on each pool size, after warming it up on that pool.
+     */
+    private static void time(String name, Callable<?> build) throws Exception {
+        System.out.println(name);
+        double singleWorkerMillis = 0;
+        for (int poolSize : POOL_SIZES) {
+            final ForkJoinPool pool = new ForkJoinPool(poolSize);
+            long fastestNanos = Long.MAX_VALUE;
+            try {
+                for (int i = 0; i < WARMUP_RUNS; i++) {
+                    pool.submit(build).get();
+                }
+                for (int i = 0; i < TIMED_RUNS; i++) {
+                    final long start = System.nanoTime();
+                    pool.submit(build).get();
+                    fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+                }
+            } finally {
+                pool.shutdown();
+            }
+            final double millis = fastestNanos / 1e6;
+            if (poolSize == 1) {
+                singleWorkerMillis = millis;
+            }
+            System.out.printf("  %d workers: %9.1f ms, speedup %.2fx%n", poolSize, millis, singleWorkerMillis / millis);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Returns menu items of every type with a spread of prices.
+     */
+    private static List<ReadOnlyMenus> generateMenus() throws IllegalValueException {
+        final List<ReadOnlyMenus> menus = new ArrayList<>();
+        for (int i = 0; i < MENU_SIZE; i++) {
+            menus.add(new Menu(new MenuName("Dish " + i), new Price("$" + (i % 20 + 1) + "." + (i % 4 * 25 + 10)),
+                    new Type(TYPES[i % TYPES.length]), Collections.emptySet()));
+        }
+        return menus;
+    }
+
+    /**
+     * Returns orders of a few random dishes each, made at random times of the days of the history. The random
+     * generator is seeded, so every run builds the same orders.
+     */
+    private static List<ReadOnlyOrder> generateOrders(int orderCount, List<ReadOnlyMenus> menus) {
+        final Random random = new Random(42);
+        final Member customer = new Member();
+        final long firstSecond = FIRST_DAY.atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+        final List<ReadOnlyOrder> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            final Map<ReadOnlyMenus, Integer> dishes = new HashMap<>();
+            final int dishCount = 1 + random.nextInt(MAX_DISHES_PER_ORDER);
+            while (dishes.size() < dishCount) {
+                dishes.put(menus.get(random.nextInt(menus.size())), 1 + random.nextInt(MAX_QUANTITY));
+            }
+            final Instant date = Instant.ofEpochSecond(firstSecond + (long) (random.nextDouble() * DAY_COUNT * 86400));
+            orders.add(new Order(customer, date, dishes, 0));
+        }
+        return orders;
+    }
+}
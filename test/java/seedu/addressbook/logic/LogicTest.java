@@ -1,12 +1,22 @@
 package seedu.addressbook.logic;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
 
 import java.text.SimpleDateFormat;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Before;
@@ -25,25 +35,35 @@ import seedu.addressbook.commands.employee.EmployeeDeleteCommand;
 import seedu.addressbook.commands.employee.EmployeeEditCommand;
 import seedu.addressbook.commands.member.MemberAddCommand;
 import seedu.addressbook.commands.member.MemberDeleteCommand;
+import seedu.addressbook.commands.member.MemberFindCommand;
 import seedu.addressbook.commands.menu.MenuAddCommand;
 import seedu.addressbook.commands.menu.MenuDeleteCommand;
 import seedu.addressbook.commands.menu.MenuFindCommand;
 import seedu.addressbook.commands.menu.MenuListByTypeCommand;
+import seedu.addressbook.commands.menu.MenuRecommendationCommand;
 import seedu.addressbook.commands.menu.MenuShowMainMenuCommand;
 import seedu.addressbook.commands.order.DraftOrderClearCommand;
 import seedu.addressbook.commands.order.DraftOrderConfirmCommand;
 import seedu.addressbook.commands.order.DraftOrderEditCustomerCommand;
 import seedu.addressbook.commands.order.DraftOrderEditDishCommand;
 import seedu.addressbook.commands.order.DraftOrderEditPointsCommand;
+import seedu.addressbook.commands.order.DraftOrderSuggestCommand;
 import seedu.addressbook.commands.order.OrderAddCommand;
 import seedu.addressbook.commands.order.OrderClearCommand;
 import seedu.addressbook.commands.order.OrderDeleteCommand;
+import seedu.addressbook.commands.order.OrderListCommand;
+import seedu.addressbook.commands.statistics.StatsDutyCommand;
 import seedu.addressbook.commands.statistics.StatsEmployeeCommand;
+import seedu.addressbook.commands.statistics.StatsHourCommand;
+import seedu.addressbook.commands.statistics.StatsLiveCommand;
 import seedu.addressbook.commands.statistics.StatsMemberCommand;
 import seedu.addressbook.commands.statistics.StatsMenuCommand;
 import seedu.addressbook.commands.statistics.StatsOrderCommand;
+import seedu.addressbook.commands.statistics.StatsVisitsCommand;
 import seedu.addressbook.common.Messages;
+import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.Rms;
+import seedu.addressbook.data.RmsChange.Target;
 import seedu.addressbook.data.employee.Attendance;
 import seedu.addressbook.data.employee.Employee;
 import seedu.addressbook.data.employee.EmployeeEmail;
@@ -63,8 +83,13 @@ import seedu.addressbook.data.menu.MenuName;
 import seedu.addressbook.data.menu.Price;
 import seedu.addressbook.data.menu.ReadOnlyMenus;
 import seedu.addressbook.data.menu.Type;
+import seedu.addressbook.data.menu.UniqueMenuList;
 import seedu.addressbook.data.order.Order;
 import seedu.addressbook.data.order.ReadOnlyOrder;
+import seedu.addressbook.data.statistics.AsciiTable;
+import seedu.addressbook.data.statistics.AttendanceIndex;
+import seedu.addressbook.data.statistics.AttendanceIndex.Shift;
+import seedu.addressbook.data.statistics.OrderValueHistogram;
 import seedu.addressbook.data.tag.Tag;
 import seedu.addressbook.storage.StorageFile;
 
@@ -100,6 +125,17 @@ public class LogicTest {
         assertEquals(Collections.emptyList(), logic.getLastShownOrderList());
     }
 
+    @Test
+    public void execute_beforeDataLoaded_rejectsCommands() throws Exception {
+        Logic loadingLogic = new Logic(saveFile);
+        assertEquals(false, loadingLogic.isDataLoaded());
+        assertEquals(Messages.MESSAGE_DATA_NOT_LOADED, loadingLogic.execute("help").feedbackToUser);
+
+        loadingLogic.loadData();
+        assertEquals(true, loadingLogic.isDataLoaded());
+        assertEquals(HelpCommand.MESSAGE_ALL_USAGES, loadingLogic.execute("help").feedbackToUser);
+    }
+
     @Test
     public void execute_invalid() throws Exception {
         String invalidCommand = "       ";
@@ -770,6 +806,23 @@ public class LogicTest {
 
     }
 
+    @Test
+    public void execute_editemp_keepsEmployeePosition() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Employee e1 = helper.generateEmployee(1);
+        Employee e2 = helper.generateEmployee(2);
+        Employee e3 = helper.generateEmployee(3);
+        Employee editedEmployee = helper.generateEditEmployee(e1, "phone", "91234567");
+
+        List<Employee> lastShownEmployeeList = helper.generateEmployeeList(e1, e2, e3);
+        helper.addEmployeesToRms(rms, lastShownEmployeeList);
+        logic.setLastShownEmployeeList(lastShownEmployeeList);
+
+        logic.execute(helper.generateEditEmpCommand("1", "phone", "91234567"));
+
+        assertEquals(Arrays.asList(editedEmployee, e2, e3), rms.getAllEmployees().immutableListView());
+    }
+
     @Test
     public void execute_editemp_invalidArgsFormat() throws Exception {
         String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
@@ -889,6 +942,88 @@ public class LogicTest {
                 expectedList);
     }
 
+    @Test
+    public void execute_findmember_invalidArgsFormat() throws Exception {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                MemberFindCommand.MESSAGE_USAGE);
+        assertMemberCommandBehavior("findmember ", expectedMessage);
+    }
+
+    @Test
+    public void execute_findmember_listsCloserMatchesFirst() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Member m1 = new Member(new MemberName("Ming Tan"), new MemberEmail("mt@rms.com"));
+        Member mTarget = new Member(new MemberName("Kang Ming"), new MemberEmail("km@rms.com"));
+        Member m2 = new Member(new MemberName("Kang Wei"), new MemberEmail("kw@rms.com"));
+        Member m3 = helper.eve();
+        List<Member> fourMembers = helper.generateMemberList(m1, mTarget, m2, m3);
+        Rms expectedRms = helper.generateRmsMember(fourMembers);
+        List<Member> expectedList = helper.generateMemberList(mTarget, m1, m2);
+        helper.addMembersToRms(rms, fourMembers);
+
+        assertMemberCommandBehavior("findmember KANG ming",
+                Command.getMessageForMemberListShownSummary(expectedList),
+                expectedRms,
+                true,
+                expectedList);
+    }
+
+    @Test
+    public void execute_findmember_matchesEmailPrefixAndTypos() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Member m1 = new Member(new MemberName("Kang Ming"), new MemberEmail("km@rms.com"));
+        Member m2 = new Member(new MemberName("Kang Wei"), new MemberEmail("kw@rms.com"));
+        Member m3 = helper.eve();
+        List<Member> threeMembers = helper.generateMemberList(m1, m2, m3);
+        Rms expectedRms = helper.generateRmsMember(threeMembers);
+        helper.addMembersToRms(rms, threeMembers);
+
+        List<Member> expectedList = helper.generateMemberList(m1);
+        assertMemberCommandBehavior("findmember km",
+                Command.getMessageForMemberListShownSummary(expectedList),
+                expectedRms,
+                true,
+                expectedList);
+
+        expectedList = helper.generateMemberList(m1, m2);
+        assertMemberCommandBehavior("findmember kamg",
+                Command.getMessageForMemberListShownSummary(expectedList),
+                expectedRms,
+                true,
+                expectedList);
+    }
+
+    @Test
+    public void execute_findmember_doesNotMatchDeletedMembers() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Member m1 = new Member(new MemberName("Kang Ming"), new MemberEmail("km@rms.com"));
+        Member m2 = new Member(new MemberName("Kang Wei"), new MemberEmail("kw@rms.com"));
+        List<Member> twoMembers = helper.generateMemberList(m1, m2);
+        helper.addMembersToRms(rms, twoMembers);
+        rms.findMembers(Collections.singleton("kang"));
+        rms.removeMember(m1);
+
+        Rms expectedRms = helper.generateRmsMember(helper.generateMemberList(m2));
+        List<Member> expectedList = helper.generateMemberList(m2);
+        assertMemberCommandBehavior("findmember kang",
+                Command.getMessageForMemberListShownSummary(expectedList),
+                expectedRms,
+                true,
+                expectedList);
+    }
+
+    @Test
+    public void execute_draftcustomer_selectsFoundMember() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Member m1 = helper.generateMember(1);
+        Member target = helper.eve();
+        helper.addMembersToRms(rms, helper.generateMemberList(m1, target));
+
+        logic.execute("findmember eve");
+        logic.execute("draftcustomer 1");
+        assertEquals(target, rms.getDraftOrder().getCustomer());
+    }
+
     @Test
     public void execute_delmember_invalidArgsFormat() throws Exception {
         String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
@@ -1273,12 +1408,113 @@ public class LogicTest {
                 expectedList);
     }
 
+    @Test
+    public void execute_findmenu_listsItemsMatchingMoreKeywordsFirst() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu m1 = helper.generateMenuWithName("Cheese Fries");
+        Menu m2 = helper.generateMenuWithName("Veggie Burger");
+        Menu m3 = helper.generateMenuWithName("Double Cheese Burger");
+        Menu m4 = helper.generateMenuWithName("Coke");
+        List<Menu> fourMenus = helper.generateMenuList(m1, m2, m3, m4);
+        Rms expectedRms = helper.generateRmsMenu(fourMenus);
+        List<Menu> expectedList = helper.generateMenuList(m3, m1, m2);
+        helper.addToRmsMenu(rms, fourMenus);
+        assertMenuCommandBehavior("findmenu cheese burger",
+                Command.getMessageForMenuListShownSummary(expectedList),
+                expectedRms,
+                true,
+                expectedList);
+    }
+
+    @Test
+    public void execute_findmenu_doesNotMatchDeletedItems() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu mTarget = helper.generateMenuWithName("Cheese Taco");
+        Menu mDeleted = helper.generateMenuWithName("Cheese Burger");
+        List<Menu> twoMenus = helper.generateMenuList(mTarget, mDeleted);
+        helper.addToRmsMenu(rms, twoMenus);
+        rms.removeMenuItem(mDeleted);
+        Rms expectedRms = helper.generateRmsMenu(helper.generateMenuList(mTarget));
+        List<Menu> expectedList = helper.generateMenuList(mTarget);
+        assertMenuCommandBehavior("findmenu Cheese",
+                Command.getMessageForMenuListShownSummary(expectedList),
+                expectedRms,
+                true,
+                expectedList);
+    }
+
+    @Test
+    public void getAllMenus_copyIndexedOnFirstLookup_followsItsOwnChanges() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu taco = helper.generateMenuWithName("Cheese Taco");
+        Menu burger = helper.generateMenuWithName("Cheese Burger");
+        helper.addToRmsMenu(rms, helper.generateMenuList(taco, burger));
+
+        UniqueMenuList copy = rms.getAllMenus();
+        copy.remove(burger);
+        assertTrue(!copy.contains(burger));
+        assertEquals(Collections.singletonList(taco), copy.find(Collections.singleton("cheese"), false));
+        // the menu of the Rms is not changed by the copy
+        assertEquals(Arrays.asList(taco, burger), rms.getAllMenus().find(Collections.singleton("cheese"), false));
+    }
+
+    @Test
+    public void execute_findmenu_matchesItemsWithAllTags() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu mTarget1 = helper.generateMenuWithNameAndTags("Chilli Burger", "spicy", "vegan");
+        Menu m1 = helper.generateMenuWithNameAndTags("Chicken Wings", "spicy");
+        Menu mTarget2 = helper.generateMenuWithNameAndTags("Hot Salad", "vegan", "spicy", "cold");
+        Menu m2 = helper.generateMenuWithNameAndTags("Salad", "vegan");
+        List<Menu> fourMenus = helper.generateMenuList(mTarget1, m1, mTarget2, m2);
+        Rms expectedRms = helper.generateRmsMenu(fourMenus);
+        List<Menu> expectedList = helper.generateMenuList(mTarget1, mTarget2);
+        helper.addToRmsMenu(rms, fourMenus);
+        assertMenuCommandBehavior("findmenu t/spicy t/vegan",
+                Command.getMessageForMenuListShownSummary(expectedList),
+                expectedRms,
+                true,
+                expectedList);
+    }
+
+    @Test
+    public void execute_findmenu_matchesKeywordsAmongTaggedItems() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu m1 = helper.generateMenuWithNameAndTags("Chilli Burger", "spicy");
+        Menu m2 = helper.generateMenuWithNameAndTags("Veggie Burger", "vegan");
+        Menu m3 = helper.generateMenuWithNameAndTags("Chicken Wings", "spicy");
+        List<Menu> threeMenus = helper.generateMenuList(m1, m2, m3);
+        Rms expectedRms = helper.generateRmsMenu(threeMenus);
+        List<Menu> expectedList = helper.generateMenuList(m1);
+        helper.addToRmsMenu(rms, threeMenus);
+        assertMenuCommandBehavior("findmenu burger t/spicy",
+                Command.getMessageForMenuListShownSummary(expectedList),
+                expectedRms,
+                true,
+                expectedList);
+    }
+
     @Test
     public void execute_showMainMenu_validArgsFormat() throws Exception {
-        String expectedMessage = MenuShowMainMenuCommand.MAIN_MENU_DISPLAY;
+        String expectedMessage = String.format(MenuShowMainMenuCommand.MAIN_MENU_DISPLAY, 0, 0, 0, 0, 0, 0);
         assertMenuCommandBehavior("showmainmenu", expectedMessage);
     }
 
+    @Test
+    public void execute_showMainMenu_countsItemsOfEachCategory() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu m1 = helper.generateMenuWithGivenNameAndType("Cheese Burger", "main");
+        Menu m2 = helper.generateMenuWithGivenNameAndType("Chicken Burger", "main");
+        Menu m3 = helper.generateMenuWithGivenNameAndType("Salad", "sides");
+        Menu m4 = helper.generateMenuWithGivenNameAndType("Sprite", "beverage");
+        List<Menu> fourMenus = helper.generateMenuList(m1, m2, m3, m4);
+        Rms expectedRms = helper.generateRmsMenu(helper.generateMenuList(m2, m3, m4));
+        helper.addToRmsMenu(rms, fourMenus);
+        rms.removeMenuItem(m1);
+
+        String expectedMessage = String.format(MenuShowMainMenuCommand.MAIN_MENU_DISPLAY, 1, 1, 1, 0, 0, 0);
+        assertMenuCommandBehavior("showmainmenu", expectedMessage, expectedRms, false, Collections.emptyList());
+    }
+
     //@@author px1099
     @Test
     public void execute_clearorder() throws Exception {
@@ -1312,6 +1548,57 @@ public class LogicTest {
                 expectedList);
     }
 
+    @Test
+    public void execute_listorder_invalidArgsFormat() throws Exception {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                OrderListCommand.MESSAGE_USAGE);
+        assertOrderCommandBehavior("listorder 1", expectedMessage);
+        assertOrderCommandBehavior("listorder m/", expectedMessage);
+        assertOrderCommandBehavior("listorder m/abc", expectedMessage);
+    }
+
+    @Test
+    public void execute_listorder_invalidMemberIndex() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Member> lastShownList = helper.generateMemberList(helper.generateMember(1), helper.generateMember(2));
+        logic.setLastShownMemberList(lastShownList);
+
+        assertOrderCommandBehavior("listorder m/0", Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
+        assertOrderCommandBehavior("listorder m/3", Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_listorder_showsOrdersOfMember() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Member m1 = helper.generateMember(1);
+        Member target = helper.generateMember(2);
+        Order o1 = new Order(target, Instant.ofEpochMilli(1), helper.generateDishItems(1), 0);
+        Order o2 = helper.generateOrder(3);
+        Order o3 = new Order(target, Instant.ofEpochMilli(4), helper.generateDishItems(4), 0);
+        Order o4 = new Order(target, Instant.ofEpochMilli(5), helper.generateDishItems(5), 0);
+        List<Member> twoMembers = helper.generateMemberList(m1, target);
+        List<Order> fourOrders = helper.generateOrderList(o1, o2, o3, o4);
+
+        helper.addMembersToRms(rms, twoMembers);
+        helper.addOrdersToRms(rms, fourOrders);
+        logic.setLastShownMemberList(twoMembers);
+        logic.execute("listorder m/2");
+        rms.removeOrder(o3);
+
+        Rms expectedRms = helper.generateRmsMember(twoMembers);
+        helper.addOrdersToRms(expectedRms, helper.generateOrderList(o1, o2, o4));
+        List<Order> expectedList = helper.generateOrderList(o1, o4);
+        String expectedMessage = Command.getMessageForOrderListShownSummary(expectedList) + "\n"
+                + String.format(OrderListCommand.MESSAGE_MEMBER_HISTORY, target.getName(), 2,
+                Price.convertPriceToString(o1.getPrice() + o4.getPrice()));
+
+        assertOrderCommandBehavior("listorder m/2",
+                expectedMessage,
+                expectedRms,
+                true,
+                expectedList);
+    }
+
     /**
      * Confirms the 'invalid argument index number behaviour' for the given command
      * targeting a single person in the last shown list, using visible index.
@@ -1748,6 +2035,112 @@ public class LogicTest {
                 StatsEmployeeCommand.MESSAGE_NO_EMPLOYEE, false);
     }
 
+    @Test
+    public void execute_statsduty_findsShiftsAtTime() throws Exception {
+        Set<Timing> aliceTimings = new LinkedHashSet<>(Arrays.asList(
+                new Timing("09:00", "01/10/2018", true), new Timing("13:00", "01/10/2018", false),
+                new Timing("14:00", "01/10/2018", true), new Timing("18:00", "01/10/2018", false),
+                new Timing("10:00", "03/10/2018", true), new Timing("12:00", "03/10/2018", false)));
+        rms.addAttendance(new Attendance("Alice", false, aliceTimings));
+        Set<Timing> bobTimings = new LinkedHashSet<>(Arrays.asList(
+                new Timing("12:00", "01/10/2018", true), new Timing("20:00", "01/10/2018", false),
+                new Timing("11:00", "03/10/2018", true)));
+        Attendance bob = new Attendance("Bob", true, bobTimings);
+        rms.addAttendance(bob);
+
+        AsciiTable bothOnDuty = new AsciiTable(new String[]{"Name", "Clocked in", "Clocked out"});
+        bothOnDuty.addRow(new String[]{"Alice", "01/10/2018 09:00", "01/10/2018 13:00"});
+        bothOnDuty.addRow(new String[]{"Bob", "01/10/2018 12:00", "01/10/2018 20:00"});
+        assertEquals(String.format(StatsDutyCommand.MESSAGE_ON_DUTY, "12:30 01/10/2018", 2) + bothOnDuty,
+                logic.execute("statsduty 1230 01102018").feedbackToUser);
+        assertTrue(logic.execute("statsduty 1330 01102018").feedbackToUser.startsWith(
+                String.format(StatsDutyCommand.MESSAGE_ON_DUTY, "13:30 01/10/2018", 1)));
+        assertTrue(logic.execute("statsduty 1130 03102018").feedbackToUser
+                .contains("| Bob   | 03/10/2018 11:00 | -                |"));
+        assertEquals(String.format(StatsDutyCommand.MESSAGE_NO_EMPLOYEE_ON_DUTY, "08:00 01/10/2018"),
+                logic.execute("statsduty 0800 01102018").feedbackToUser);
+
+        // hours worked over any period, counting the open shift up to the end of the period
+        long mondayStart = new Timing("00:00", "01/10/2018", true).getEpochSecond();
+        long hour = 3600;
+        assertEquals(10 * hour, rms.getAttendanceIndex().getSecondsWorked("Alice", mondayStart,
+                mondayStart + 7 * 24 * hour));
+        assertEquals(4 * hour, rms.getAttendanceIndex().getSecondsWorked("Alice", mondayStart + 10 * hour,
+                mondayStart + 15 * hour));
+        assertEquals(4 * hour, rms.getAttendanceIndex().getSecondsWorked("Bob", mondayStart + 2 * 24 * hour,
+                mondayStart + 2 * 24 * hour + 15 * hour));
+        assertEquals(0, rms.getAttendanceIndex().getSecondsWorked("Carol", mondayStart, mondayStart + hour));
+
+        // the index follows the attendance as employees clock in and out
+        rms.addAttendanceTiming(bob, new Timing("16:00", "03/10/2018", false));
+        assertEquals(String.format(StatsDutyCommand.MESSAGE_NO_EMPLOYEE_ON_DUTY, "17:00 03/10/2018"),
+                logic.execute("statsduty 1700 03102018").feedbackToUser);
+        assertEquals(5 * hour, rms.getAttendanceIndex().getSecondsWorked("Bob", mondayStart + 2 * 24 * hour,
+                mondayStart + 3 * 24 * hour));
+
+        rms.addEmployee(new TestDataHelper().peter());
+        assertTrue(logic.execute("statsemp").feedbackToUser.contains("Hours worked\n"));
+    }
+
+    @Test
+    public void attendanceIndex_maintainedIncrementally_matchesRebuiltIndex() throws Exception {
+        long start = new Timing("00:00", "01/10/2018", true).getEpochSecond();
+        long hour = 3600;
+        Attendance alice = new Attendance("Alice");
+        Attendance bob = new Attendance("Bob");
+        Attendance carol = new Attendance("Carol");
+        rms.addAttendance(alice);
+        rms.addAttendance(bob);
+        rms.addAttendance(carol);
+        rms.getAttendanceIndex();
+
+        Attendance[] employees = {alice, bob, carol};
+        for (int i = 0; i < 60; i++) {
+            Attendance attendance = employees[i % employees.length];
+            long second = start + i * hour;
+            rms.addAttendanceTiming(attendance, new Timing(second, (i / employees.length) % 2 == 0));
+            // a repeated clock event is ignored
+            rms.addAttendanceTiming(attendance, new Timing(second, (i / employees.length) % 2 == 0));
+        }
+        assertAttendanceIndexMatchesRebuilt(start, start + 70 * hour);
+
+        rms.removeAttendance(bob);
+        Attendance renamedCarol = new Attendance("Caroline", carol.getClockedIn(), carol.getTimings());
+        rms.updateAttendance(carol, renamedCarol);
+        rms.addAttendanceTiming(renamedCarol, new Timing(start + 80 * hour, true));
+        rms.addAttendance(new Attendance("Dave", true, Collections.singleton(new Timing(start + 5 * hour, true))));
+        assertAttendanceIndexMatchesRebuilt(start, start + 90 * hour);
+        assertEquals(0, rms.getAttendanceIndex().getSecondsWorked("Bob", start, start + 70 * hour));
+    }
+
+    /**
+     * Asserts that the attendance index of the Rms finds the same shifts and hours worked as an index built
+     * afresh from the attendance, at every half hour from {@code from} until {@code to}.
+     */
+    private void assertAttendanceIndexMatchesRebuilt(long from, long to) {
+        AttendanceIndex maintained = rms.getAttendanceIndex();
+        AttendanceIndex rebuilt = new AttendanceIndex(rms.getAllAttendance());
+        for (long second = from; second < to; second += 1800) {
+            assertEquals(describeShifts(rebuilt.getShiftsAt(second)), describeShifts(maintained.getShiftsAt(second)));
+            for (Attendance attendance : rms.getAllAttendance()) {
+                assertEquals(rebuilt.getSecondsWorked(attendance.getName(), from, second),
+                        maintained.getSecondsWorked(attendance.getName(), from, second));
+            }
+        }
+    }
+
+    /**
+     * Returns the employee name, start and end of each shift, sorted.
+     */
+    private static List<String> describeShifts(List<Shift> shifts) {
+        List<String> descriptions = new ArrayList<>();
+        for (Shift shift : shifts) {
+            descriptions.add(shift.getEmployeeName() + " " + shift.getStart() + " " + shift.getEnd());
+        }
+        Collections.sort(descriptions);
+        return descriptions;
+    }
+
     @Test
     public void test_statistics_member() throws Exception {
         TestDataHelper helper = new TestDataHelper();
@@ -1763,6 +2156,177 @@ public class LogicTest {
                 StatsMemberCommand.MESSAGE_NO_MEMBERS, false);
     }
 
+    @Test
+    public void test_statisticsMember_followsTierChangesAndRemovals() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Member m1 = helper.generateMember(1);
+        Member m2 = helper.generateMember(2);
+        Member m3 = helper.generateMember(3);
+        helper.addMembersToRms(rms, helper.generateMemberList(m1, m2, m3));
+        logic.execute(helper.generateStatsMemberCommand());
+
+        rms.updatePointsOfCustomer(m2, 21, 0);
+        rms.updatePointsOfCustomer(m3, 41, 0);
+        rms.removeMember(m1);
+
+        assertEquals(2, rms.countMembers());
+        assertEquals(0, rms.countMembersOfTier(MemberTier.Level.BRONZE));
+        assertEquals(1, rms.countMembersOfTier(MemberTier.Level.SILVER));
+        assertEquals(1, rms.countMembersOfTier(MemberTier.Level.GOLD));
+        LocalDate signupDate = LocalDate.ofInstant(m2.getDate(), ZoneId.systemDefault());
+        assertEquals(2, rms.countMemberSignups(signupDate, ChronoUnit.YEARS));
+        assertEquals(2, rms.countMemberSignups(signupDate, ChronoUnit.DAYS));
+        assertEquals(0, rms.countMemberSignups(signupDate.minusYears(1), ChronoUnit.MONTHS));
+    }
+
+    @Test
+    public void execute_recommendations_followsConfirmedAndDeletedOrders() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu burger = helper.generateMenuWithGivenNameAndType("Burger", "main");
+        Menu cheeseBurger = helper.generateMenuWithGivenNameAndType("Cheese Burger", "main");
+        Menu fries = helper.generateMenuWithGivenNameAndType("Fries", "sides");
+        Menu wings = helper.generateMenuWithGivenNameAndType("Wings", "sides");
+        helper.addToRmsMenu(rms, helper.generateMenuList(burger, cheeseBurger, fries, wings));
+        assertEquals(MenuRecommendationCommand.MESSAGE_NO_RECOMMENDATION,
+                logic.execute("recommendations").feedbackToUser);
+
+        Map<ReadOnlyMenus, Integer> firstDishes = new HashMap<>();
+        firstDishes.put(burger, 2);
+        firstDishes.put(fries, 1);
+        Map<ReadOnlyMenus, Integer> secondDishes = new HashMap<>();
+        secondDishes.put(cheeseBurger, 1);
+        secondDishes.put(wings, 3);
+        Order first = new Order(new Member(), Instant.ofEpochMilli(1), firstDishes, 0);
+        Order second = new Order(new Member(), Instant.ofEpochMilli(2), secondDishes, 0);
+        rms.addOrder(first);
+        rms.addOrder(second);
+        assertEquals("Recommendations of the month are:\n\n"
+                + "main : \n\t" + burger + "\n\n"
+                + "sides : \n\t" + wings + "\n\n",
+                logic.execute("recommendations").feedbackToUser);
+
+        rms.removeOrder(second);
+        assertEquals("Recommendations of the month are:\n\n"
+                + "main : \n\t" + burger + "\n\n"
+                + "sides : \n\t" + fries + "\n\n",
+                logic.execute("recommendations").feedbackToUser);
+    }
+
+    @Test
+    public void execute_recommendations_matchesDraftCustomerHistory() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu burger = helper.generateMenuWithGivenNameAndType("Burger", "main");
+        Menu cheeseBurger = helper.generateMenuWithGivenNameAndType("Cheese Burger", "main");
+        Menu cola = helper.generateMenuWithGivenNameAndType("Cola", "beverage");
+        Menu fries = helper.generateMenuWithGivenNameAndType("Fries", "sides");
+        Menu cake = helper.generateMenuWithGivenNameAndType("Cake", "dessert");
+        helper.addToRmsMenu(rms, helper.generateMenuList(burger, cheeseBurger, cola, fries, cake));
+        Member eve = helper.eve();
+        rms.addMember(eve);
+        Map<ReadOnlyMenus, Integer> dishes = new HashMap<>();
+        dishes.put(burger, 2);
+        dishes.put(fries, 1);
+        rms.addOrder(new Order(eve, Instant.ofEpochMilli(1), dishes, 0));
+
+        // a member without orders gets the best sellers
+        rms.editDraftOrderCustomer(helper.david());
+        assertEquals("Recommendations of the month are:\n\n"
+                + "main : \n\t" + burger + "\n\n"
+                + "sides : \n\t" + fries + "\n\n",
+                logic.execute("recommendations").feedbackToUser);
+
+        rms.editDraftOrderCustomer(eve);
+        assertEquals(String.format(MenuRecommendationCommand.MESSAGE_MEMBER_RECOMMENDATIONS, eve.getName()),
+                logic.execute("recommendations").feedbackToUser);
+        assertEquals(Arrays.asList(burger, fries, cheeseBurger, cake, cola), logic.getLastShownMenuList());
+
+        // every item shares the tag of the ordered dishes; a new order of the member changes the ranking
+        Map<ReadOnlyMenus, Integer> drinks = new HashMap<>();
+        drinks.put(cola, 3);
+        Order drinksOrder = new Order(eve, Instant.ofEpochMilli(2), drinks, 0);
+        rms.addOrder(drinksOrder);
+        logic.execute("recommendations");
+        assertEquals(Arrays.asList(cola, burger, fries, cheeseBurger, cake), logic.getLastShownMenuList());
+
+        // items taken off the menu are no longer recommended
+        rms.removeMenuItem(burger);
+        logic.execute("recommendations");
+        assertEquals(Arrays.asList(cola, fries, cheeseBurger, cake), logic.getLastShownMenuList());
+
+        rms.removeOrder(drinksOrder);
+        logic.execute("recommendations");
+        assertEquals(Arrays.asList(fries, cheeseBurger, cake, cola), logic.getLastShownMenuList());
+    }
+
+    @Test
+    public void execute_suggestdish_listsDishesOrderedTogetherWithDraft() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu burger = helper.generateMenuWithGivenNameAndType("Burger", "main");
+        Menu cola = helper.generateMenuWithGivenNameAndType("Cola", "beverage");
+        Menu fries = helper.generateMenuWithGivenNameAndType("Fries", "sides");
+        Menu wings = helper.generateMenuWithGivenNameAndType("Wings", "sides");
+        helper.addToRmsMenu(rms, helper.generateMenuList(burger, cola, fries, wings));
+        assertEquals(DraftOrderSuggestCommand.MESSAGE_NO_DISHES, logic.execute("suggestdish").feedbackToUser);
+
+        rms.editDraftOrderDishItem(burger, 1);
+        assertEquals(DraftOrderSuggestCommand.MESSAGE_NO_SUGGESTIONS, logic.execute("suggestdish").feedbackToUser);
+
+        Map<ReadOnlyMenus, Integer> firstDishes = new HashMap<>();
+        firstDishes.put(burger, 1);
+        firstDishes.put(fries, 1);
+        Map<ReadOnlyMenus, Integer> secondDishes = new HashMap<>(firstDishes);
+        secondDishes.put(cola, 2);
+        Map<ReadOnlyMenus, Integer> thirdDishes = new HashMap<>();
+        thirdDishes.put(burger, 1);
+        thirdDishes.put(wings, 1);
+        rms.addOrder(new Order(new Member(), Instant.ofEpochMilli(1), firstDishes, 0));
+        rms.addOrder(new Order(new Member(), Instant.ofEpochMilli(2), secondDishes, 0));
+        rms.addOrder(new Order(new Member(), Instant.ofEpochMilli(3), thirdDishes, 0));
+
+        CommandResult result = logic.execute("suggestdish");
+        assertEquals(String.format(DraftOrderSuggestCommand.MESSAGE_SUCCESS, 3), result.feedbackToUser);
+        assertEquals(Arrays.asList(fries, cola, wings), logic.getLastShownMenuList());
+
+        // the suggestions can be added to the draft by their index
+        result = logic.execute("draftdish 1 q/1");
+        assertTrue(result.feedbackToUser.endsWith(
+                String.format(Messages.MESSAGE_DRAFT_ORDER_SUGGESTIONS, "Cola, Wings")));
+        assertEquals(Integer.valueOf(1), rms.getDraftOrder().getDishItems().get(fries));
+    }
+
+    @Test
+    public void execute_suggestdish_followsConfirmedAndDeletedOrders() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu burger = helper.generateMenuWithGivenNameAndType("Burger", "main");
+        Menu fries = helper.generateMenuWithGivenNameAndType("Fries", "sides");
+        Menu wings = helper.generateMenuWithGivenNameAndType("Wings", "sides");
+        helper.addToRmsMenu(rms, helper.generateMenuList(burger, fries, wings));
+        Map<ReadOnlyMenus, Integer> dishes = new HashMap<>();
+        dishes.put(burger, 1);
+        dishes.put(fries, 1);
+        Order order = new Order(new Member(), Instant.ofEpochMilli(1), dishes, 0);
+        rms.addOrder(order);
+
+        rms.editDraftOrderDishItem(burger, 1);
+        assertEquals(Collections.singletonList(fries),
+                rms.suggestDishesFor(rms.getDraftOrder().getDishItems().keySet(), 3));
+
+        // an order confirmed after the first lookup is counted
+        Map<ReadOnlyMenus, Integer> moreDishes = new HashMap<>();
+        moreDishes.put(burger, 2);
+        moreDishes.put(wings, 1);
+        Order anotherOrder = new Order(new Member(), Instant.ofEpochMilli(2), moreDishes, 0);
+        rms.addOrder(anotherOrder);
+        rms.addOrder(new Order(new Member(), Instant.ofEpochMilli(3), moreDishes, 0));
+        assertEquals(Arrays.asList(wings, fries),
+                rms.suggestDishesFor(rms.getDraftOrder().getDishItems().keySet(), 3));
+
+        // deleted orders and menu items are no longer suggested
+        rms.removeOrder(order);
+        rms.removeMenuItem(wings);
+        assertEquals(DraftOrderSuggestCommand.MESSAGE_NO_SUGGESTIONS, logic.execute("suggestdish").feedbackToUser);
+    }
+
     @Test
     public void test_statistics_menu() throws Exception {
         TestDataHelper helper = new TestDataHelper();
@@ -1799,5 +2363,252 @@ public class LogicTest {
                 StatsOrderCommand.MESSAGE_NO_ORDER, false);
     }
 
+    @Test
+    public void execute_statsorder_sumsSalesByPeriodOfRange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu burger = helper.burger();
+        Map<ReadOnlyMenus, Integer> oneBurger = new HashMap<>();
+        oneBurger.put(burger, 1);
+        Map<ReadOnlyMenus, Integer> twoBurgers = new HashMap<>();
+        twoBurgers.put(burger, 2);
+        rms.addOrder(new Order(new Member(), atNoonOf(LocalDate.of(2018, 10, 1)), oneBurger, 0));
+        rms.addOrder(new Order(new Member(), atNoonOf(LocalDate.of(2018, 10, 7)), twoBurgers, 0));
+        rms.addOrder(new Order(new Member(), atNoonOf(LocalDate.of(2018, 10, 9)), oneBurger, 0));
+        // an order much earlier than the others, which grows the days covered by the sales cube
+        Order earlyOrder = new Order(new Member(), atNoonOf(LocalDate.of(2015, 1, 1)), twoBurgers, 0);
+        rms.addOrder(earlyOrder);
+
+        String[] headings = {"Period", "Number of orders", "Revenue", "Median order", "90th percentile",
+            "99th percentile"};
+        AsciiTable weeks = new AsciiTable(headings);
+        weeks.addRow(new String[]{"01 Oct 2018 - 07 Oct 2018", "2", "$15.00", "$5.00", "$10.00", "$10.00"});
+        weeks.addRow(new String[]{"08 Oct 2018 - 10 Oct 2018", "1", "$5.00", "$5.00", "$5.00", "$5.00"});
+        assertEquals("Statistics from 01 Oct 2018 until 10 Oct 2018\n"
+                + "========================\n"
+                + "Number of orders: 3\n"
+                + "Revenue: $20.00\n"
+                + "Order value: median $5.00, 90th percentile $10.00, 99th percentile $10.00\n\n\n"
+                + "Sales by week\n" + weeks,
+                logic.execute("statsorder f/01102018 t/10102018 g/week").feedbackToUser);
+
+        AsciiTable months = new AsciiTable(headings);
+        months.addRow(new String[]{"Jan 2015", "1", "$10.00", "$10.00", "$10.00", "$10.00"});
+        months.addRow(new String[]{"Feb 2015", "0", "$0.00", "-", "-", "-"});
+        assertEquals("Statistics from 01 Jan 2015 until 28 Feb 2015\n"
+                + "========================\n"
+                + "Number of orders: 1\n"
+                + "Revenue: $10.00\n"
+                + "Order value: median $10.00, 90th percentile $10.00, 99th percentile $10.00\n\n\n"
+                + "Sales by month\n" + months,
+                logic.execute("statsorder t/28022015").feedbackToUser);
+
+        rms.removeOrder(earlyOrder);
+        assertTrue(logic.execute("statsorder f/01012015 t/28022015").feedbackToUser
+                .contains("Number of orders: 0\nRevenue: $0.00\n\n\n"));
+        assertEquals(StatsOrderCommand.MESSAGE_INVALID_RANGE,
+                logic.execute("statsorder f/10102018 t/01102018").feedbackToUser);
+        assertEquals(String.format(StatsOrderCommand.MESSAGE_TOO_MANY_PERIODS, StatsOrderCommand.MAX_PERIODS, "day"),
+                logic.execute("statsorder f/01012017 t/01012019 g/day").feedbackToUser);
+    }
+
+    @Test
+    public void execute_statsmenu_countsOnlyOrdersInRange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu burger = helper.burger();
+        rms.addMenu(burger);
+        Map<ReadOnlyMenus, Integer> twoBurgers = new HashMap<>();
+        twoBurgers.put(burger, 2);
+        Map<ReadOnlyMenus, Integer> threeBurgers = new HashMap<>();
+        threeBurgers.put(burger, 3);
+        rms.addOrder(new Order(new Member(), atNoonOf(LocalDate.of(2018, 9, 30)), twoBurgers, 0));
+        Order inRange = new Order(new Member(), atNoonOf(LocalDate.of(2018, 10, 1)), threeBurgers, 0);
+        rms.addOrder(inRange);
+
+        assertTrue(logic.execute("statsmenu f/01102018").feedbackToUser.contains("Cheese Burger sold 3\n"));
+        assertTrue(logic.execute("statsmenu t/30092018").feedbackToUser.contains("Cheese Burger sold 2\n"));
+        rms.removeOrder(inRange);
+        assertTrue(logic.execute("statsmenu f/01102018").feedbackToUser.contains("Cheese Burger sold 0\n"));
+    }
+
+    @Test
+    public void execute_statistics_matchSumsOverManyOrders() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Menu burger = helper.burger();
+        Menu fries = helper.generateMenuWithGivenNameAndType("Fries", "sides");
+        LocalDate firstDay = LocalDate.of(2017, 1, 1);
+        int burgersSold = 0;
+        int ordersIn2017 = 0;
+        long revenueIn2017InCents = 0;
+        List<Double> orderValuesIn2017 = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Map<ReadOnlyMenus, Integer> dishes = new HashMap<>();
+            dishes.put(burger, i % 3 + 1);
+            if (i % 2 == 0) {
+                dishes.put(fries, 1);
+            }
+            LocalDate day = firstDay.plusDays(i % 500);
+            Order order = new Order(new Member(), atNoonOf(day).plusSeconds(i), dishes, 0);
+            rms.addOrder(order);
+            burgersSold += i % 3 + 1;
+            if (day.getYear() == 2017) {
+                ordersIn2017++;
+                revenueIn2017InCents += Math.round(order.getPrice() * 100);
+                orderValuesIn2017.add(order.getPrice());
+            }
+        }
+
+        // the statistics are built from the orders in parallel on their first lookup
+        assertTrue(logic.execute("statsmenu").feedbackToUser.contains("Cheese Burger sold " + burgersSold + "\n"));
+        assertTrue(logic.execute("statsorder f/01012017 t/31122017").feedbackToUser.contains(
+                "Number of orders: " + ordersIn2017 + "\n"
+                + "Revenue: $" + Utils.formatCurrency(revenueIn2017InCents / 100.0) + "\n"));
+
+        // the order values are few and far apart, so each has a bucket of its own and the percentiles are exact
+        Collections.sort(orderValuesIn2017);
+        OrderValueHistogram histogram = rms.getOrderValues().getHistogram(firstDay, LocalDate.of(2017, 12, 31));
+        assertEquals(ordersIn2017, histogram.getCount());
+        for (int percentile : new int[]{1, 50, 90, 99, 100}) {
+            int rank = (int) Math.ceil(percentile / 100.0 * ordersIn2017);
+            assertEquals(orderValuesIn2017.get(rank - 1), histogram.getValueAtPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void execute_statshour_countsOrdersByHourOfWeek() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        assertEquals(StatsHourCommand.MESSAGE_NO_ORDER, logic.execute("statshour").feedbackToUser);
+
+        Menu burger = helper.burger();
+        Menu fries = helper.generateMenuWithGivenNameAndType("Fries", "sides");
+        Map<ReadOnlyMenus, Integer> oneBurger = new HashMap<>();
+        oneBurger.put(burger, 1);
+        Map<ReadOnlyMenus, Integer> burgerAndFries = new HashMap<>();
+        burgerAndFries.put(burger, 2);
+        burgerAndFries.put(fries, 3);
+        // 1 October 2018 is a Monday
+        Instant mondayNoon = atNoonOf(LocalDate.of(2018, 10, 1));
+        rms.addOrder(new Order(new Member(), mondayNoon, oneBurger, 0));
+        rms.addOrder(new Order(new Member(), mondayNoon.plusSeconds(1800), oneBurger, 0));
+        Order fridayDinner = new Order(new Member(), mondayNoon.plus(4, ChronoUnit.DAYS).plus(7, ChronoUnit.HOURS),
+                burgerAndFries, 0);
+        rms.addOrder(fridayDinner);
+
+        String heatmap = logic.execute("statshour").feedbackToUser;
+        assertTrue(heatmap.startsWith("Orders by hour\n"));
+        assertTrue(heatmap.contains("| 12:00 | 2   | 0   | 0   | 0   | 0   | 0   | 0   |\n"));
+        assertTrue(heatmap.endsWith(String.format(StatsHourCommand.MESSAGE_BUSIEST_HOUR, "Mon", 12, 13,
+                "2 orders, $10.00")));
+
+        logic.setLastShownMenuList(helper.generateMenuList(burger, fries));
+        assertTrue(logic.execute("statshour 2").feedbackToUser.endsWith(
+                String.format(StatsHourCommand.MESSAGE_BUSIEST_HOUR, "Fri", 19, 20, "3 sold")));
+        assertEquals(Messages.MESSAGE_INVALID_MENU_ITEM_DISPLAYED_INDEX,
+                logic.execute("statshour 3").feedbackToUser);
+
+        rms.removeOrder(fridayDinner);
+        assertEquals(0, rms.getDemandHeatmap().getQuantitySold(fries, DayOfWeek.FRIDAY, 19));
+        assertEquals(2, rms.getDemandHeatmap().getOrderCount(DayOfWeek.MONDAY, 12));
+    }
+
+    @Test
+    public void execute_statsvisits_countsDistinctMembersByPeriod() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Map<ReadOnlyMenus, Integer> oneBurger = new HashMap<>();
+        oneBurger.put(helper.burger(), 1);
+        rms.addOrder(new Order(new Member(), atNoonOf(LocalDate.of(2018, 10, 9)), oneBurger, 0));
+        assertEquals(StatsVisitsCommand.MESSAGE_NO_VISITS, logic.execute("statsvisits").feedbackToUser);
+
+        Member eve = helper.eve();
+        rms.addOrder(new Order(eve, atNoonOf(LocalDate.of(2018, 10, 1)), oneBurger, 0));
+        rms.addOrder(new Order(eve, atNoonOf(LocalDate.of(2018, 10, 2)), oneBurger, 0));
+        Order davidOrder = new Order(helper.david(), atNoonOf(LocalDate.of(2018, 10, 8)), oneBurger, 0);
+        rms.addOrder(davidOrder);
+
+        AsciiTable weeks = new AsciiTable(new String[]{"Period", "Members who visited"});
+        weeks.addRow(new String[]{"01 Oct 2018 - 07 Oct 2018", "1"});
+        weeks.addRow(new String[]{"08 Oct 2018 - 14 Oct 2018", "1"});
+        assertEquals("Visits from 01 Oct 2018 until 14 Oct 2018\n"
+                + "========================\n"
+                + "Members who visited: 2\n\n\n"
+                + "Visits by week\n" + weeks,
+                logic.execute("statsvisits f/01102018 t/14102018 g/week").feedbackToUser);
+
+        // the sketches cannot forget a member, so they are rebuilt after an order is removed
+        rms.removeOrder(davidOrder);
+        assertTrue(logic.execute("statsvisits f/01102018 t/14102018").feedbackToUser
+                .contains("Members who visited: 1\n"));
+        assertEquals(StatsOrderCommand.MESSAGE_INVALID_RANGE,
+                logic.execute("statsvisits f/10102018 t/01102018").feedbackToUser);
+
+        // many members are estimated to within a few percent
+        LocalDate firstDay = LocalDate.of(2017, 1, 1);
+        for (int i = 0; i < 2000; i++) {
+            rms.addOrder(new Order(helper.generateMember(i), atNoonOf(firstDay.plusDays(i % 30)), oneBurger, 0));
+            rms.addOrder(new Order(helper.generateMember(i), atNoonOf(firstDay.plusDays(i % 7)).plusSeconds(60),
+                    oneBurger, 0));
+        }
+        long visitors = rms.getMemberVisits().countVisitors(firstDay, firstDay.plusDays(29));
+        assertTrue("Estimated " + visitors, Math.abs(visitors - 2000) <= 100);
+    }
+
+    @Test
+    public void execute_statslive_sumsOrdersOfLastMinutes() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Map<ReadOnlyMenus, Integer> oneBurger = new HashMap<>();
+        oneBurger.put(helper.burger(), 1);
+        Instant now = Instant.now();
+        Order recentOrder = new Order(new Member(), now.minus(5, ChronoUnit.MINUTES), oneBurger, 0);
+        rms.addOrder(recentOrder);
+        rms.addOrder(new Order(new Member(), now.minus(30, ChronoUnit.MINUTES), oneBurger, 0));
+        rms.addOrder(new Order(new Member(), now.minus(2, ChronoUnit.HOURS), oneBurger, 0));
+
+        String liveSales = logic.execute("statslive").feedbackToUser;
+        assertTrue(liveSales.startsWith("Live sales as of "));
+        assertTrue(liveSales.contains("$5.00"));
+        assertTrue(liveSales.contains("$10.00"));
+        assertEquals(1, rms.getSalesTicker().getOrderCount(now, 15));
+        assertEquals(2, rms.getSalesTicker().getOrderCount(now, 60));
+        assertEquals(10.0, rms.getSalesTicker().getRevenue(now, 60));
+        assertEquals(StatsLiveCommand.MESSAGE_INVALID_WINDOW, logic.execute("statslive 61").feedbackToUser);
+        assertEquals(StatsLiveCommand.MESSAGE_INVALID_WINDOW, logic.execute("statslive 0").feedbackToUser);
+
+        rms.removeOrder(recentOrder);
+        assertEquals(0, rms.getSalesTicker().getOrderCount(now, 15));
+        assertEquals(1, rms.getSalesTicker().getOrderCount(now, 60));
+    }
+
+    /**
+     * Returns the instant at noon of the date in the system time zone.
+     */
+    private static Instant atNoonOf(LocalDate date) {
+        return date.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    @Test
+    public void test_statistics_servedFromCacheUntilDataChanges() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Map<ReadOnlyMenus, Integer> dishes = new HashMap<>();
+        dishes.put(helper.burger(), 1);
+        Instant now = Instant.now();
+        rms.addOrder(new Order(new Member(), now, dishes, 0));
+        String todayWithOneOrder = "Today's statistics\n========================\nNumber of orders: 1\n";
+        String statistics = logic.execute("statsorder").feedbackToUser;
+        assertTrue(statistics.contains(todayWithOneOrder));
+        int hitCount = rms.getStatsCache().getHitCount();
+
+        // changes to other lists do not change the version of the order list
+        long orderVersion = rms.getVersion(Target.ORDER);
+        rms.addMember(helper.eve());
+        assertEquals(orderVersion, rms.getVersion(Target.ORDER));
+        assertEquals(statistics, logic.execute("statsorder").feedbackToUser);
+        assertEquals(hitCount + 1, rms.getStatsCache().getHitCount());
+
+        rms.addOrder(new Order(new Member(), now.plusMillis(1), dishes, 0));
+        assertEquals(orderVersion + 1, rms.getVersion(Target.ORDER));
+        assertTrue(logic.execute("statsorder").feedbackToUser
+                .contains(todayWithOneOrder.replace("orders: 1", "orders: 2")));
+        assertEquals(hitCount + 1, rms.getStatsCache().getHitCount());
+    }
+
     //@@author
 }
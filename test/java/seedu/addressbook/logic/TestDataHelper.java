@@ -1,10 +1,11 @@
 package seedu.addressbook.logic;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -122,7 +123,7 @@ class TestDataHelper {
      */
     public Order foodOrder() throws Exception {
         long orderingTime = 1000;
-        Date orderingDate = new Date(orderingTime);
+        Instant orderingDate = Instant.ofEpochMilli(orderingTime);
         return new Order(eve(), orderingDate, foodItems(), pointsToRedeem());
     }
 
@@ -131,7 +132,7 @@ class TestDataHelper {
      */
     public Order foodOrderWithReturningCustomer() throws Exception {
         long orderingTime = 1000;
-        Date orderingDate = new Date(orderingTime);
+        Instant orderingDate = Instant.ofEpochMilli(orderingTime);
         return new Order(david(), orderingDate, foodItems(), pointsToRedeem());
     }
 
@@ -140,7 +141,7 @@ class TestDataHelper {
      */
     public Order foodOrderWithoutCustomer() throws Exception {
         long orderingTime = 1000;
-        Date orderingDate = new Date(orderingTime);
+        Instant orderingDate = Instant.ofEpochMilli(orderingTime);
         return new Order(new Member(), orderingDate, foodItems(), pointsToRedeem());
     }
 
@@ -149,7 +150,7 @@ class TestDataHelper {
      */
     public Order foodOrderWithoutDishes() throws Exception {
         long orderingTime = 1000;
-        Date orderingDate = new Date(orderingTime);
+        Instant orderingDate = Instant.ofEpochMilli(orderingTime);
         return new Order(eve(), orderingDate, new HashMap<>(), pointsToRedeem());
     }
 
@@ -281,7 +282,7 @@ class TestDataHelper {
     public Order generateOrder(int seed) throws Exception {
         return new Order(
                 generateMember(seed),
-                new Date(Math.abs(seed)),
+                Instant.ofEpochMilli(Math.abs(seed)),
                 generateDishItems(seed),
                 new Points().getCurrentPoints()
         );
@@ -596,6 +597,22 @@ class TestDataHelper {
         );
     }
 
+    /**
+     * Generates a Menu object with given name and tags. Other fields will have some dummy values.
+     */
+    public Menu generateMenuWithNameAndTags(String name, String... tagNames) throws Exception {
+        final Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return new Menu(
+                new MenuName(name),
+                new Price("$5.00"),
+                new Type("main"),
+                tags
+        );
+    }
+
     //@@author AngWM
     /** Generates the correct stats employee command */
     public String generateStatsEmpCommand() {
@@ -616,8 +633,8 @@ class TestDataHelper {
     }
 
     /** Generates the correct stats menu command based on the to and from dates given */
-    public String generateStatsMenuCommand(Date from, Date to) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("ddMMYYYY");
+    public String generateStatsMenuCommand(LocalDate from, LocalDate to) {
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("ddMMyyyy");
 
         StringJoiner cmd = new StringJoiner(" ");
 
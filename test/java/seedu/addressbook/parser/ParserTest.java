@@ -4,6 +4,7 @@ import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertTrue;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -17,6 +18,7 @@ import seedu.addressbook.commands.ExitCommand;
 import seedu.addressbook.commands.HelpCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.member.MemberAddCommand;
+import seedu.addressbook.commands.member.MemberFindCommand;
 import seedu.addressbook.commands.member.MemberListCommand;
 import seedu.addressbook.commands.menu.MenuAddCommand;
 import seedu.addressbook.commands.menu.MenuClearCommand;
@@ -30,15 +32,20 @@ import seedu.addressbook.commands.order.DraftOrderClearCommand;
 import seedu.addressbook.commands.order.DraftOrderConfirmCommand;
 import seedu.addressbook.commands.order.DraftOrderEditCustomerCommand;
 import seedu.addressbook.commands.order.DraftOrderEditDishCommand;
+import seedu.addressbook.commands.order.DraftOrderSuggestCommand;
 import seedu.addressbook.commands.order.OrderAddCommand;
 import seedu.addressbook.commands.order.OrderClearCommand;
 import seedu.addressbook.commands.order.OrderDeleteCommand;
 import seedu.addressbook.commands.order.OrderListCommand;
+import seedu.addressbook.commands.statistics.StatsDutyCommand;
 import seedu.addressbook.commands.statistics.StatsEmployeeCommand;
 import seedu.addressbook.commands.statistics.StatsHelpCommand;
+import seedu.addressbook.commands.statistics.StatsHourCommand;
+import seedu.addressbook.commands.statistics.StatsLiveCommand;
 import seedu.addressbook.commands.statistics.StatsMemberCommand;
 import seedu.addressbook.commands.statistics.StatsMenuCommand;
 import seedu.addressbook.commands.statistics.StatsOrderCommand;
+import seedu.addressbook.commands.statistics.StatsVisitsCommand;
 import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.member.Member;
@@ -178,6 +185,13 @@ public class ParserTest {
         parseAndAssertCommandType(input, OrderListCommand.class);
     }
 
+    @Test
+    public void orderListCommand_memberIndex_parsedCorrectly() {
+        final String input = "listorder m/2";
+        final OrderListCommand result = parseAndAssertCommandType(input, OrderListCommand.class);
+        assertEquals(2, result.getTargetIndex());
+    }
+
     //@@author
     @Test
     public void exitCommand_parsedCorrectly() {
@@ -292,6 +306,20 @@ public class ParserTest {
         assertEquals(keySet, result.getKeywords());
     }
 
+    @Test
+    public void menuFindCommand_tags_parsedCorrectly() throws Exception {
+        final String input = "findmenu Burger t/spicy t/vegan";
+        final MenuFindCommand result =
+                parseAndAssertCommandType(input, MenuFindCommand.class);
+        assertEquals(Collections.singleton("burger"), result.getKeywords());
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("spicy"), new Tag("vegan"))), result.getTags());
+    }
+
+    @Test
+    public void menuFindCommand_invalidTag_errorMessage() {
+        parseAndAssertIncorrectWithMessage(Tag.MESSAGE_TAG_CONSTRAINTS, "findmenu t/not-a-tag");
+    }
+
     @Test
     public void menuFindCommand_duplicateKeys_parsedCorrectly() {
         final String[] keywords = { "key1", "key2", "key3" };
@@ -544,6 +572,74 @@ public class ParserTest {
         parseAndAssertIncorrectWithMessage(resultMessage, inputs);
     }
 
+    @Test
+    public void statsOrderCommand_validArgs_parsedCorrectly() {
+        final String[] inputs = {
+            "statsorder f/01102018",
+            "statsorder f/01102018 t/31102018",
+            "statsorder f/01102018 t/31102018 g/week",
+            "statsorder g/DAY",
+            "statsorder t/31102018 g/month"
+        };
+        for (String input: inputs) {
+            parseAndAssertCommandType(input, StatsOrderCommand.class);
+        }
+    }
+
+    @Test
+    public void statsHourCommand_parsedCorrectly() {
+        parseAndAssertCommandType("statshour", StatsHourCommand.class);
+        final StatsHourCommand result = parseAndAssertCommandType("statshour 2", StatsHourCommand.class);
+        assertEquals(2, result.getTargetIndex());
+        final String resultMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                StatsHourCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "statshour a", "statshour 1 2");
+    }
+
+    @Test
+    public void statsLiveCommand_parsedCorrectly() {
+        parseAndAssertCommandType("statslive", StatsLiveCommand.class);
+        parseAndAssertCommandType("statslive 30", StatsLiveCommand.class);
+        final String resultMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                StatsLiveCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "statslive a", "statslive 1 2", "statslive -5",
+                "statslive 1.5", "statslive 1234567890");
+    }
+
+    @Test
+    public void statsVisitsCommand_parsedCorrectly() {
+        parseAndAssertCommandType("statsvisits", StatsVisitsCommand.class);
+        parseAndAssertCommandType("statsvisits f/01102018 t/31102018 g/week", StatsVisitsCommand.class);
+        final String resultMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                StatsVisitsCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "statsvisits g/year", "statsvisits f/32102018");
+    }
+
+    @Test
+    public void statsDutyCommand_parsedCorrectly() {
+        parseAndAssertCommandType("statsduty 1300", StatsDutyCommand.class);
+        parseAndAssertCommandType("statsduty 0000 01102018", StatsDutyCommand.class);
+        final String resultMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                StatsDutyCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "statsduty", "statsduty 2400", "statsduty 1300 32102018",
+                "statsduty 13:00");
+    }
+
+    @Test
+    public void statsOrderCommand_invalidArgs() {
+        final String[] inputs = {
+            // Unknown granularity
+            "statsorder g/year",
+            // Granularity before the dates
+            "statsorder g/week f/01102018",
+            // Invalid date
+            "statsorder f/32102018"
+        };
+        final String resultMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                StatsOrderCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
     //@@author px1099
     /**
      * Test draft dish command
@@ -619,6 +715,30 @@ public class ParserTest {
         return input;
     }
 
+    //@@author agent
+    @Test
+    public void memberFindCommand_invalidArgs() {
+        final String resultMessage =
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, MemberFindCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "findmember", "findmember ");
+    }
+
+    @Test
+    public void memberFindCommand_validArgs_parsedCorrectly() {
+        final MemberFindCommand result = parseAndAssertCommandType("findmember Alice alice@gmail.com bob",
+                MemberFindCommand.class);
+        assertEquals(new HashSet<>(Arrays.asList("alice", "alice@gmail.com", "bob")), result.getKeywords());
+    }
+
+    @Test
+    public void draftOrderSuggestCommand_parsedCorrectly() {
+        parseAndAssertCommandType("suggestdish", DraftOrderSuggestCommand.class);
+        parseAndAssertCommandType("suggestdish  ", DraftOrderSuggestCommand.class);
+        final String resultMessage =
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, DraftOrderSuggestCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "suggestdish 1", "suggestdish burger");
+    }
+
     //@@author
     /**
      * Utility methods
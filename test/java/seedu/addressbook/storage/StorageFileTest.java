@@ -1,10 +1,15 @@
 package seedu.addressbook.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.addressbook.util.TestUtil.assertTextFilesEqual;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Date;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -31,6 +36,7 @@ import seedu.addressbook.data.member.MemberEmail;
 import seedu.addressbook.data.member.MemberName;
 import seedu.addressbook.data.member.MemberTier;
 import seedu.addressbook.data.member.Points;
+import seedu.addressbook.data.member.ReadOnlyMember;
 import seedu.addressbook.data.menu.Menu;
 import seedu.addressbook.data.menu.MenuName;
 import seedu.addressbook.data.menu.Price;
@@ -102,6 +108,118 @@ public class StorageFileTest {
         assertStorageFilesEqual(storage, getStorage("ValidData.txt"));
     }
 
+    @Test
+    public void load_corruptedFile_fallsBackToBackup() throws Exception {
+        StorageFile storage = getTempStorage();
+        Rms olderRms = new Rms();
+        storage.save(olderRms);
+        storage.save(getTestRms());
+
+        // simulate a write that was cut off half way
+        Path dataFile = Paths.get(storage.getPath());
+        byte[] data = Files.readAllBytes(dataFile);
+        Files.write(dataFile, Arrays.copyOf(data, data.length / 2));
+
+        assertEquals(olderRms, storage.load());
+    }
+
+    @Test
+    public void load_missingFileWithBackup_doesNotStartEmpty() throws Exception {
+        StorageFile storage = getTempStorage();
+        Rms rms = getTestRms();
+        storage.save(rms);
+        // saving another Rms writes a full snapshot, which keeps the previous one as the backup
+        storage.save(getTestRms());
+        Files.delete(Paths.get(storage.getPath()));
+
+        assertEquals(rms, storage.load());
+    }
+
+    @Test
+    public void load_manyOrders_keepsOrderingAndCustomers() throws Exception {
+        Rms rms = getTestRms();
+        ReadOnlyMember customer = rms.getAllMembers().immutableListView().get(0);
+        Map<ReadOnlyMenus, Integer> foodItems = new HashMap<>();
+        foodItems.put(rms.getAllMenus().immutableListView().get(0), 1);
+        for (int i = 0; i < 1000; i++) {
+            rms.addOrder(new Order(customer, Instant.ofEpochMilli(2000 + i), 5.0, foodItems, 0));
+        }
+        StorageFile storage = getTempStorage();
+        storage.save(rms);
+
+        Rms loaded = storage.load();
+        assertEquals(rms.getAllOrders(), loaded.getAllOrders());
+        ReadOnlyMember loadedCustomer = loaded.getAllOrders().immutableListView().get(999).getCustomer();
+        assertTrue(loadedCustomer == loaded.getAllMembers().immutableListView().get(0));
+    }
+
+    @Test
+    public void save_changedRms_onlyAppendsChangesToJournal() throws Exception {
+        Rms rms = getTestRms();
+        StorageFile storage = getTempStorage();
+        storage.save(rms);
+        byte[] snapshot = Files.readAllBytes(Paths.get(storage.getPath()));
+
+        Member newMember = new Member(new MemberName("Kang"), new MemberEmail("Kang@gmail.com"));
+        rms.addMember(newMember);
+        rms.addOrder(new Order(newMember, Instant.ofEpochMilli(2000), 30.0, new HashMap<>(), 0));
+        rms.updatePointsOfCustomer(newMember, 30.0, 0);
+        rms.removeMenuItem(rms.getAllMenus().immutableListView().get(1));
+        storage.save(rms);
+
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(Paths.get(storage.getPath()))));
+        assertTrue(Files.exists(Paths.get(storage.getPath() + StorageFile.JOURNAL_FILE_SUFFIX)));
+
+        Rms loaded = storage.load();
+        assertEquals(rms, loaded);
+        ReadOnlyMember loadedMember = loaded.getAllMembers().immutableListView().get(2);
+        assertEquals(newMember.getCurrentPointsValue(), loadedMember.getCurrentPointsValue());
+        assertTrue(loaded.getAllOrders().immutableListView().get(2).getCustomer() == loadedMember);
+    }
+
+    @Test
+    public void save_clockEvent_onlyAppendsNewTimingToJournal() throws Exception {
+        Rms rms = getTestRms();
+        StorageFile storage = getTempStorage();
+        storage.save(rms);
+
+        Attendance attendance = rms.findAttendance("Tay");
+        rms.addAttendanceTiming(attendance, new Timing("08:00", "12/08/2018", false));
+        rms.addAttendanceTiming(attendance, new Timing("09:30", "13/08/2018", true));
+        storage.save(rms);
+
+        String journal = new String(Files.readAllBytes(
+                Paths.get(storage.getPath() + StorageFile.JOURNAL_FILE_SUFFIX)), StandardCharsets.UTF_8);
+        assertEquals(2, journal.split("<timings ", -1).length - 1);
+
+        Rms loaded = storage.load();
+        assertEquals(rms, loaded);
+        Attendance loadedAttendance = loaded.findAttendance("Tay");
+        assertEquals(3, loadedAttendance.getTimingCount());
+        assertTrue(loadedAttendance.getClockedIn());
+        assertEquals(new Timing("09:30", "13/08/2018", true), loadedAttendance.getTiming(2));
+    }
+
+    @Test
+    public void load_journalCutOff_keepsCompleteChanges() throws Exception {
+        Rms rms = getTestRms();
+        StorageFile storage = getTempStorage();
+        storage.save(rms);
+        rms.clearOrderList();
+        storage.save(rms);
+        Rms expectedRms = getTestRms();
+        expectedRms.clearOrderList();
+        rms.clearMenu();
+        storage.save(rms);
+
+        // simulate an append that was cut off half way
+        Path journal = Paths.get(storage.getPath() + StorageFile.JOURNAL_FILE_SUFFIX);
+        byte[] data = Files.readAllBytes(journal);
+        Files.write(journal, Arrays.copyOf(data, data.length - 5));
+
+        assertEquals(expectedRms, storage.load());
+    }
+
     // getPath() method in StorageFile class is trivial so it is not tested
 
     /**
@@ -182,13 +300,13 @@ public class StorageFileTest {
                 new MemberName("Ang"),
                 new MemberEmail("Ang@gmail.com"),
                 new Points(),
-                new Date(1000),
+                Instant.ofEpochMilli(1000),
                 new MemberTier("Bronze"));
         Member member2 = new Member(
                 new MemberName("Salsabil"),
                 new MemberEmail("Salsabil@gmail.com"),
                 new Points(10000),
-                new Date(1000),
+                Instant.ofEpochMilli(1000),
                 new MemberTier("Gold"));
 
         rms.addMember(member1);
@@ -198,8 +316,8 @@ public class StorageFileTest {
         foodItems.put(menu1, 1);
         foodItems.put(menu2, 2);
 
-        Order order1 = new Order(member1, new Date(1000), 9.0, foodItems, 0);
-        Order order2 = new Order(member2, new Date(1000), 8.0, foodItems, 100);
+        Order order1 = new Order(member1, Instant.ofEpochMilli(1000), 9.0, foodItems, 0);
+        Order order2 = new Order(member2, Instant.ofEpochMilli(1000), 8.0, foodItems, 100);
 
         rms.addOrder(order1);
         rms.addOrder(order2);